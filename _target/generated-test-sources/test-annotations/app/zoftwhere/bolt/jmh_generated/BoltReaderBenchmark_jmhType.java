@@ -0,0 +1,4 @@
+package app.zoftwhere.bolt.jmh_generated;
+public class BoltReaderBenchmark_jmhType extends BoltReaderBenchmark_jmhType_B3 {
+}
+
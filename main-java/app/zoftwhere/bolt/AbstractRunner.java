@@ -2,16 +2,21 @@ package app.zoftwhere.bolt;
 
 import app.zoftwhere.bolt.api.RunnerEncoding;
 import app.zoftwhere.bolt.api.RunnerInterface;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerPreProgram;
 import app.zoftwhere.bolt.api.RunnerProgram;
 import app.zoftwhere.bolt.api.RunnerProgramInput;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Bolt Assertion Abstract Runner.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @see app.zoftwhere.bolt.Runner
  * @since 6.0.0
  */
@@ -32,6 +37,66 @@ public abstract class AbstractRunner implements RunnerInterface, RunnerEncoding
   @Override
   public abstract RunnerInterface encoding(Charset encoding);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface streamExpectation(int window);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface spillThreshold(long bytes);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface preEncodeInput(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface virtualThreads(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface timeLimit(Duration limit);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface memoryLimit(long bytes);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface outputLimit(long bytes);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface abortOnMismatch(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface pipelineComparison(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface captureErrorStream(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface processCpuLimit(Duration limit);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface processMemoryLimit(long bytes);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface processFileLimit(long files);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface inProcessMain(boolean enabled);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerInterface charCapture(boolean enabled);
+
   /** {@inheritDoc} */
   @Override
   public abstract RunnerProgram run(RunStandard program);
@@ -48,6 +113,46 @@ public abstract class AbstractRunner implements RunnerInterface, RunnerEncoding
   @Override
   public abstract RunnerProgram runConsole(Charset charset, RunConsole program);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgram runProcess(List<String> command);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgram runProcess(Charset charset, List<String> command);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runMain(String className);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runMain(Charset charset, String className);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runSystem(RunSystem program);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runSystem(Charset charset, RunSystem program);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgram runFast(RunFast program);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgram runFast(Charset charset, RunFast program);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runFast(RunFastArgued program);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerPreProgram runFast(Charset charset, RunFastArgued program);
+
   /** {@inheritDoc} */
   @Override
   public abstract RunnerPreProgram run(RunStandardArgued program);
@@ -80,6 +185,14 @@ public abstract class AbstractRunner implements RunnerInterface, RunnerEncoding
   @Override
   public abstract RunnerProgramInput input(InputStreamSupplier supplier, Charset charset);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgramInput input(RunnerInput input);
+
+  /** {@inheritDoc} */
+  @Override
+  public abstract RunnerProgramInput input(RunnerInput input, Charset charset);
+
   /** {@inheritDoc} */
   @Override
   public abstract RunnerProgramInput loadInput(String resourceName, Class<?> withClass);
@@ -6,6 +6,8 @@ import static java.nio.charset.StandardCharsets.UTF_16BE;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Bolt Array Input Stream class.
@@ -13,27 +15,34 @@ import java.nio.charset.Charset;
  * <p>This is a package-private class for providing an input stream for a {@link java.lang.String}
  * array.
  *
+ * <p>The stream is served as a sequence of chunks: each row, followed by a new line for all but the
+ * last row. Rows are encoded when reached, and read in bulk with {@link System#arraycopy}.
+ *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 11.1.0
  */
 class BoltArrayInputStream extends InputStream {
 
   private final String[] array;
 
+  /** Character encoding for the first non-empty chunk (which carries the UTF-16 BOM). */
   private final Charset charset;
 
+  /** Character encoding for the remaining chunks. */
+  private final Charset baseCharset;
+
   private final byte[] newLine;
 
-  private final int rowMax;
+  private final int chunkCount;
 
-  private int row;
+  private int nextChunk = 0;
 
-  private int columnMax;
+  private byte[] chunk = new byte[0];
 
-  private int column;
+  private int position = 0;
 
-  private byte[] buffer;
+  private boolean byteOrderMark;
 
   /**
    * Constructor for BoltArrayInputStream (package-private).
@@ -45,82 +54,119 @@ class BoltArrayInputStream extends InputStream {
    * @since 11.1.0
    */
   BoltArrayInputStream(String[] array, Charset charset) {
-    if (array.length <= 1) {
-      this.array = array;
-      this.charset = charset;
-      newLine = new byte[0];
-      buffer = array.length == 1 ? array[0].getBytes(charset) : new byte[0];
-      rowMax = 0;
-      row = 0;
-      columnMax = buffer.length - 1;
-      column = 0;
-      return;
-    }
+    this.array = array;
+    this.charset = charset;
+    this.baseCharset = charset.name().equals("UTF-16") ? UTF_16BE : charset;
+    this.newLine = NEW_LINE.getBytes(baseCharset);
+    this.chunkCount = array.length > 0 ? 2 * array.length - 1 : 0;
+    this.byteOrderMark = baseCharset != charset;
+  }
 
-    Charset baseCharset = charset.name().equals("UTF-16") ? UTF_16BE : charset;
+  /**
+   * Encode a {@link java.lang.String} array as the input stream would serve it.
+   *
+   * @param array input {@link java.lang.String} array
+   * @param charset character encoding for {@link java.io.InputStream}
+   * @return encoded bytes
+   * @since 12.0.0
+   */
+  static byte[] encode(String[] array, Charset charset) {
+    final BoltArrayInputStream inputStream = new BoltArrayInputStream(array, charset);
+    final List<byte[]> chunks = new ArrayList<>(array.length * 2);
+    int size = 0;
+    while (inputStream.advance()) {
+      chunks.add(inputStream.chunk);
+      size = Math.addExact(size, inputStream.chunk.length);
+      inputStream.position = inputStream.chunk.length;
+    }
 
-    this.array = array;
-    this.charset = baseCharset;
-    newLine = NEW_LINE.getBytes(baseCharset);
-    rowMax = array.length - 1;
-
-    if (array[0].length() != 0) {
-      buffer = array[0].getBytes(charset);
-      row = 0;
-      columnMax = buffer.length - 1;
-      column = 0;
-    } else if (charset.name().equals("UTF-16")) {
-      buffer = (NEW_LINE + array[1]).getBytes(charset);
-      row = 1;
-      columnMax = buffer.length - 1;
-      column = 0;
-    } else {
-      buffer = array[1].getBytes(charset);
-      row = 1;
-      columnMax = buffer.length - 1;
-      column = -newLine.length;
+    final byte[] data = new byte[size];
+    int offset = 0;
+    for (byte[] chunk : chunks) {
+      System.arraycopy(chunk, 0, data, offset, chunk.length);
+      offset += chunk.length;
     }
+    return data;
   }
 
   /** {@inheritDoc} */
   @Override
   @SuppressWarnings("RedundantThrows")
   public int read() throws IOException {
-    if (!hasNext()) {
+    if (!advance()) {
       return -1;
     }
-    return next() & 0xff;
+    return chunk[position++] & 0xff;
   }
 
-  private boolean hasNext() {
-    return column <= columnMax || row < rowMax;
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("RedundantThrows")
+  public int read(byte[] b, int off, int len) throws IOException {
+    if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!advance()) {
+      return -1;
+    }
+
+    int count = 0;
+    do {
+      final int length = Math.min(len - count, chunk.length - position);
+      System.arraycopy(chunk, position, b, off + count, length);
+      position += length;
+      count += length;
+    } while (count < len && advance());
+    return count;
   }
 
-  private byte next() {
-    if (column < 0) {
-      return newLine[newLine.length + column++];
+  /** {@inheritDoc} */
+  @Override
+  public long skip(long n) {
+    long count = 0;
+    while (count < n && advance()) {
+      final int length = (int) Math.min(n - count, chunk.length - position);
+      position += length;
+      count += length;
     }
+    return count;
+  }
 
-    if (column > columnMax) {
-      row++;
-      buffer = array[row].getBytes(charset);
-      column = 1 - newLine.length;
-      columnMax = buffer.length - 1;
-      return newLine[0];
-    }
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Returns the number of bytes remaining in the current row or new line, which is non-zero
+   * until the end of the stream.
+   */
+  @Override
+  public int available() {
+    return advance() ? chunk.length - position : 0;
+  }
 
-    byte next = buffer[column++];
-    if (column > columnMax) {
-      row++;
-      if (row > rowMax) {
-        column = 0;
-        columnMax = -1;
-        return next;
+  /**
+   * Moves to the next non-empty chunk, if the current chunk is exhausted.
+   *
+   * @return {@code true} if bytes remain, {@code false} at the end of the stream
+   */
+  private boolean advance() {
+    while (position >= chunk.length) {
+      if (nextChunk >= chunkCount) {
+        return false;
       }
-      buffer = array[row].getBytes(charset);
-      column = -newLine.length;
-      columnMax = buffer.length - 1;
+
+      final Charset chunkCharset = byteOrderMark ? charset : baseCharset;
+      final int index = nextChunk++;
+      chunk = (index & 1) == 0 ? array[index >> 1].getBytes(chunkCharset) : newLine(chunkCharset);
+      position = 0;
+      byteOrderMark &= chunk.length == 0;
     }
-    return next;
+    return true;
+  }
+
+  private byte[] newLine(Charset chunkCharset) {
+    return chunkCharset == baseCharset ? newLine : NEW_LINE.getBytes(chunkCharset);
   }
 }
@@ -0,0 +1,114 @@
+package app.zoftwhere.bolt;
+
+import app.zoftwhere.bolt.api.RunnerBatchResult;
+import app.zoftwhere.bolt.api.RunnerResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bolt Batch Result class.
+ *
+ * <p>This is a package-private class for providing batch execution results.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+class BoltBatchResult implements RunnerBatchResult {
+
+  /** Message of results for cases skipped after a fail-fast cancellation. */
+  static final String CANCELLED = "bolt.runner.batch.cancelled";
+
+  private final List<RunnerResult> results;
+
+  private final Exception error;
+
+  /**
+   * Constructor for BoltBatchResult (package-private).
+   *
+   * @param results execution results, in case order
+   * @param error batch error, if any
+   * @since 12.0.0
+   */
+  BoltBatchResult(List<? extends RunnerResult> results, Exception error) {
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    this.error = error;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isSuccess() {
+    return error == null && !offence().isPresent();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<RunnerResult> results() {
+    return results;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<RunnerResult> offence() {
+    RunnerResult cancelled = null;
+    for (RunnerResult result : results) {
+      if (result.isSuccess()) {
+        continue;
+      }
+      if (!isCancelled(result)) {
+        return Optional.of(result);
+      }
+      if (cancelled == null) {
+        cancelled = result;
+      }
+    }
+    return Optional.ofNullable(cancelled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<Exception> error() {
+    return Optional.ofNullable(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertSuccess() {
+    if (error != null) {
+      throw new RunnerException(error.getMessage(), error);
+    }
+
+    final Optional<RunnerResult> offence = offence();
+    if (!offence.isPresent()) {
+      return;
+    }
+
+    final RunnerResult result = offence.get();
+    if (result.isFailure()) {
+      throw new RunnerException(result.message().orElse(null));
+    }
+
+    if (result.isTimeLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.time.limit.exceeded", result.error().orElse(null));
+    }
+
+    if (result.isMemoryLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.memory.limit.exceeded", result.error().orElse(null));
+    }
+
+    if (result.isOutputLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.output.limit.exceeded", result.error().orElse(null));
+    }
+
+    throw new RunnerException("bolt.runner.asserter.error.found", result.error().orElse(null));
+  }
+
+  private static boolean isCancelled(RunnerResult result) {
+    return result.error().map(e -> CANCELLED.equals(e.getMessage())).orElse(false);
+  }
+}
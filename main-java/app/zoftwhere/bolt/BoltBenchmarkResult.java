@@ -0,0 +1,214 @@
+package app.zoftwhere.bolt;
+
+import app.zoftwhere.bolt.api.RunnerBenchmarkResult;
+import app.zoftwhere.bolt.api.RunnerResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bolt Benchmark Result class.
+ *
+ * <p>This is a package-private class for providing benchmark statistics.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+class BoltBenchmarkResult implements RunnerBenchmarkResult {
+
+  /** Default number of warmup iterations. */
+  static final int DEFAULT_WARMUP = 5;
+
+  /** Default number of measured iterations. */
+  static final int DEFAULT_ITERATIONS = 20;
+
+  private final RunnerResult result;
+
+  private final Exception error;
+
+  private final int warmup;
+
+  private final long[] samples;
+
+  /** Measured execution durations in nanoseconds, in ascending order. */
+  private final long[] sorted;
+
+  /**
+   * Constructor for BoltBenchmarkResult (package-private).
+   *
+   * @param result execution result of the last iteration
+   * @param error benchmark error, if any
+   * @param warmup number of warmup iterations executed
+   * @param samples measured execution durations in nanoseconds, in iteration order
+   * @since 12.0.0
+   */
+  BoltBenchmarkResult(RunnerResult result, Exception error, int warmup, long[] samples) {
+    this.result = result;
+    this.error = error;
+    this.warmup = warmup;
+    this.samples = samples.clone();
+    this.sorted = samples.clone();
+    Arrays.sort(sorted);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isSuccess() {
+    return error == null && result.isSuccess();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerResult result() {
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<Exception> error() {
+    return Optional.ofNullable(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int warmup() {
+    return warmup;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Duration> samples() {
+    final List<Duration> list = new ArrayList<>(samples.length);
+    for (long sample : samples) {
+      list.add(Duration.ofNanos(sample));
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration min() {
+    return sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(sorted[0]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration max() {
+    return sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(sorted[sorted.length - 1]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration mean() {
+    return sorted.length == 0 ? Duration.ZERO : Duration.ofNanos(Math.round(average()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration median() {
+    final int length = sorted.length;
+    if (length == 0) {
+      return Duration.ZERO;
+    }
+
+    if (length % 2 == 1) {
+      return Duration.ofNanos(sorted[length / 2]);
+    }
+
+    // Average of the middle pair, without overflowing the sum.
+    final long low = sorted[length / 2 - 1];
+    final long high = sorted[length / 2];
+    return Duration.ofNanos(low + (high - low) / 2);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration p90() {
+    return percentile(90);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration p99() {
+    return percentile(99);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Duration standardDeviation() {
+    if (sorted.length < 2) {
+      return Duration.ZERO;
+    }
+
+    final double average = average();
+    double sum = 0;
+    for (long sample : sorted) {
+      final double delta = sample - average;
+      sum += delta * delta;
+    }
+    return Duration.ofNanos(Math.round(Math.sqrt(sum / (sorted.length - 1))));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertSuccess() {
+    if (error != null) {
+      throw new RunnerException(error.getMessage(), error);
+    }
+
+    if (result.isFailure()) {
+      throw new RunnerException(result.message().orElse(null));
+    }
+
+    if (result.isTimeLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.time.limit.exceeded", result.error().orElse(null));
+    }
+
+    if (result.isMemoryLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.memory.limit.exceeded", result.error().orElse(null));
+    }
+
+    if (result.isOutputLimitExceeded()) {
+      throw new RunnerException(
+          "bolt.runner.asserter.output.limit.exceeded", result.error().orElse(null));
+    }
+
+    if (result.isError()) {
+      throw new RunnerException("bolt.runner.asserter.error.found", result.error().orElse(null));
+    }
+  }
+
+  /**
+   * Calculate the nearest-rank percentile of the measured execution durations.
+   *
+   * @param percent percentile, from 1 to 100
+   * @return percentile duration, or {@link java.time.Duration#ZERO} without samples
+   */
+  private Duration percentile(int percent) {
+    if (sorted.length == 0) {
+      return Duration.ZERO;
+    }
+
+    final int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+  }
+
+  /**
+   * Calculate the arithmetic mean of the measured execution durations.
+   *
+   * @return mean duration in nanoseconds
+   */
+  private double average() {
+    double sum = 0;
+    for (long sample : sorted) {
+      sum += sample;
+    }
+    return sum / sorted.length;
+  }
+}
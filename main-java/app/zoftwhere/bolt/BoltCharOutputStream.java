@@ -0,0 +1,455 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltReader.readArray;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * Bolt Char Output Stream class.
+ *
+ * <p>This is a package-private class for capturing scanner-printer program output as characters.
+ *
+ * <p>The {@link java.io.PrintStream} from {@link #newPrintStream()} appends printed text to a
+ * growable character buffer, instead of encoding it, and the output lines are split from the buffer
+ * directly. When the program output is read, the buffer is checked to be encodable in the output
+ * character encoding; if it is not, it is encoded, and decoded, so that unmappable characters are
+ * replaced as with byte capture.
+ *
+ * <p>A raw byte write, by the program or by an executor that does not use the print stream, ends
+ * character capture, as does output beyond the size limit of a character array. The buffered text
+ * is encoded to the byte output, and all further output is captured as bytes.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+class BoltCharOutputStream extends OutputStream {
+
+  /** Size of the initial character buffer. */
+  private static final int MIN_BUFFER_SIZE = 256;
+
+  /** Size limit for the character buffer, beyond which output is captured as bytes. */
+  private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+  private final BoltOutputStream byteOutput;
+
+  private final Charset charset;
+
+  private char[] buffer = new char[MIN_BUFFER_SIZE];
+
+  /** Number of characters used in the buffer. */
+  private int count = 0;
+
+  /** Whether output is captured as bytes, after a raw byte write. */
+  private boolean demoted = false;
+
+  /** Print stream of the program, created on request. */
+  private CharPrintStream printStream = null;
+
+  /**
+   * Constructor for BoltCharOutputStream (package-private).
+   *
+   * @param byteOutput byte output, for output captured after a raw byte write
+   * @param charset output character encoding
+   * @since 12.0.0
+   */
+  BoltCharOutputStream(BoltOutputStream byteOutput, Charset charset) {
+    this.byteOutput = byteOutput;
+    this.charset = charset;
+  }
+
+  /**
+   * Check if output in the character encoding can be captured as characters.
+   *
+   * <p>The character encoding must decode its encoded text to the same characters, which holds for
+   * the UTF character encodings, US-ASCII and ISO-8859-1.
+   *
+   * @param charset output character encoding
+   * @return {@code true} if character capture is supported, {@code false} otherwise
+   * @since 12.0.0
+   */
+  static boolean isSupported(Charset charset) {
+    return charset.name().startsWith("UTF-")
+        || US_ASCII.equals(charset)
+        || ISO_8859_1.equals(charset);
+  }
+
+  /**
+   * Retrieve the print stream of the program, which appends to the character buffer.
+   *
+   * @return {@link java.io.PrintStream} for the character buffer
+   * @throws java.io.UnsupportedEncodingException if the character encoding is not supported
+   * @since 12.0.0
+   */
+  synchronized PrintStream newPrintStream() throws UnsupportedEncodingException {
+    if (printStream == null) {
+      printStream = new CharPrintStream();
+    }
+    return printStream;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void write(int b) throws IOException {
+    demote();
+    byteOutput.write(b);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void write(byte[] b, int off, int len) throws IOException {
+    demote();
+    byteOutput.write(b, off, len);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void flush() throws IOException {
+    if (demoted) {
+      byteOutput.flush();
+    }
+  }
+
+  /**
+   * Retrieve the program output lines.
+   *
+   * @return program output lines
+   * @throws java.io.IOException if the byte output cannot be read
+   * @since 12.0.0
+   */
+  synchronized String[] output() throws IOException {
+    if (demoted) {
+      byteOutput.flush();
+      return readArray(() -> newByteReader(byteOutput));
+    }
+
+    if (isEncodable()) {
+      return readArray(() -> new BoltReader(new CharArrayReader(buffer, 0, count)));
+    }
+
+    final byte[] data = new String(buffer, 0, count).getBytes(charset);
+    return readArray(() -> new BoltReader(data, charset));
+  }
+
+  private BoltReader newByteReader(BoltOutputStream outputStream) {
+    try {
+      return new BoltReader(outputStream.newInputStream(), charset);
+    } catch (IOException e) {
+      throw new RunnerException("bolt.runner.output.capture", e);
+    }
+  }
+
+  /**
+   * Check if the buffered characters encode without replacement.
+   *
+   * @return {@code true} if the characters are encodable, {@code false} otherwise
+   */
+  private boolean isEncodable() {
+    if (US_ASCII.equals(charset) || ISO_8859_1.equals(charset)) {
+      final char limit = US_ASCII.equals(charset) ? '\u0080' : '\u0100';
+      for (int index = 0; index < count; index++) {
+        if (buffer[index] >= limit) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // The UTF encodings encode any text without unpaired surrogates.
+    for (int index = 0; index < count; index++) {
+      final char c = buffer[index];
+      if (Character.isHighSurrogate(c)) {
+        if (index + 1 == count || !Character.isLowSurrogate(buffer[index + 1])) {
+          return false;
+        }
+        index++;
+      } else if (Character.isLowSurrogate(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * End character capture, and encode the buffered characters to the byte output.
+   *
+   * <p>The characters are encoded by the print stream, so that its encoder state (such as a byte
+   * order mark) carries over to the output that follows.
+   */
+  private void demote() {
+    if (demoted) {
+      return;
+    }
+    demoted = true;
+    if (count > 0) {
+      final String text = new String(buffer, 0, count);
+      buffer = null;
+      count = 0;
+      printStream.encode(text);
+    }
+  }
+
+  private void bufferText(String text) {
+    final int length = text.length();
+    if (!ensureCapacity(length)) {
+      demote();
+      printStream.encode(text);
+      return;
+    }
+    text.getChars(0, length, buffer, count);
+    count += length;
+  }
+
+  private void bufferText(char[] text) {
+    final int length = text.length;
+    if (!ensureCapacity(length)) {
+      demote();
+      printStream.encode(new String(text));
+      return;
+    }
+    System.arraycopy(text, 0, buffer, count, length);
+    count += length;
+  }
+
+  /**
+   * Grow the character buffer, geometrically, for the characters to append.
+   *
+   * @param length number of characters to append
+   * @return {@code true} if the characters fit, {@code false} if they exceed the size limit
+   */
+  private boolean ensureCapacity(int length) {
+    if (length <= buffer.length - count) {
+      return true;
+    }
+    final long required = (long) count + length;
+    if (required > MAX_BUFFER_SIZE) {
+      return false;
+    }
+    final char[] grown =
+        new char[(int) Math.min(MAX_BUFFER_SIZE, Math.max(required, 2L * buffer.length))];
+    System.arraycopy(buffer, 0, grown, 0, count);
+    buffer = grown;
+    return true;
+  }
+
+  /**
+   * Print stream that appends printed text to the character buffer.
+   *
+   * <p>Each print method is overridden, as {@link java.io.PrintStream} otherwise writes its text
+   * and line separators to its encoder directly. Once character capture ends, the methods of {@link
+   * java.io.PrintStream} are used.
+   *
+   * <p>All methods lock the capture before the print stream, so that the two locks are always taken
+   * in the same order.
+   */
+  private final class CharPrintStream extends PrintStream {
+
+    private final String lineSeparator = System.lineSeparator();
+
+    private boolean closed = false;
+
+    @SuppressWarnings("CharsetObjectCanBeUsed")
+    CharPrintStream() throws UnsupportedEncodingException {
+      // Charset.name() for backwards compatibility.
+      super(BoltCharOutputStream.this, false, charset.name());
+    }
+
+    /**
+     * Encode text through the print stream encoder, at the end of character capture.
+     *
+     * @param text buffered text
+     */
+    void encode(String text) {
+      super.print(text);
+    }
+
+    @Override
+    public void write(int b) {
+      synchronized (BoltCharOutputStream.this) {
+        super.write(b);
+      }
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+      synchronized (BoltCharOutputStream.this) {
+        super.write(buf, off, len);
+      }
+    }
+
+    @Override
+    public void print(String s) {
+      synchronized (BoltCharOutputStream.this) {
+        if (demoted) {
+          super.print(s);
+        } else if (closed) {
+          setError();
+        } else {
+          bufferText(s != null ? s : "null");
+        }
+      }
+    }
+
+    @Override
+    public void print(char[] s) {
+      synchronized (BoltCharOutputStream.this) {
+        if (demoted) {
+          super.print(s);
+        } else if (closed) {
+          setError();
+        } else {
+          bufferText(s);
+        }
+      }
+    }
+
+    @Override
+    public void print(boolean b) {
+      print(String.valueOf(b));
+    }
+
+    @Override
+    public void print(char c) {
+      print(String.valueOf(c));
+    }
+
+    @Override
+    public void print(int i) {
+      print(String.valueOf(i));
+    }
+
+    @Override
+    public void print(long l) {
+      print(String.valueOf(l));
+    }
+
+    @Override
+    public void print(float f) {
+      print(String.valueOf(f));
+    }
+
+    @Override
+    public void print(double d) {
+      print(String.valueOf(d));
+    }
+
+    @Override
+    public void print(Object obj) {
+      print(String.valueOf(obj));
+    }
+
+    @Override
+    public void println() {
+      print(lineSeparator);
+    }
+
+    @Override
+    public void println(boolean x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(char x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(int x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(long x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(float x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(double x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public void println(char[] x) {
+      synchronized (BoltCharOutputStream.this) {
+        print(x);
+        println();
+      }
+    }
+
+    @Override
+    public void println(String x) {
+      synchronized (BoltCharOutputStream.this) {
+        print(x);
+        println();
+      }
+    }
+
+    @Override
+    public void println(Object x) {
+      println(String.valueOf(x));
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+      synchronized (BoltCharOutputStream.this) {
+        return super.format(format, args);
+      }
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+      synchronized (BoltCharOutputStream.this) {
+        return super.format(l, format, args);
+      }
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+      print(String.valueOf(csq));
+      return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+      final CharSequence text = csq != null ? csq : "null";
+      print(text.subSequence(start, end).toString());
+      return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+      print(c);
+      return this;
+    }
+
+    @Override
+    public void flush() {
+      synchronized (BoltCharOutputStream.this) {
+        if (demoted) {
+          super.flush();
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      synchronized (BoltCharOutputStream.this) {
+        closed = true;
+        super.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package app.zoftwhere.bolt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bolt Class Loader class.
+ *
+ * <p>This is a package-private class for running Java main classes in process, in isolation.
+ *
+ * <p>Each run uses a new child-first class loader, which defines the classes of the program afresh,
+ * so that static state does not leak from one run to the next. The class bytes are read once, and
+ * cached for all the loaders with the same parent. Platform classes, and the classes of this
+ * library, are delegated to the parent, so that they are shared with the runner.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltClassLoader extends ClassLoader {
+
+  /** Error message for a main class, or main method, that cannot be found. */
+  static final String MAIN_NOT_FOUND = "bolt.runner.isolation.main.not.found";
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  /** Class bytes cache shared with the other loaders of the same parent. */
+  private final Cache cache;
+
+  /**
+   * Constructor for BoltClassLoader (package-private).
+   *
+   * @param parent parent class loader
+   * @param cache class bytes cache of the parent class loader
+   * @since 12.0.0
+   */
+  BoltClassLoader(ClassLoader parent, Cache cache) {
+    super(parent);
+    this.cache = cache;
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a main class, run in process.
+   *
+   * <p>The classes of the program are loaded from the thread context class loader. The standard
+   * input and standard output are routed to the program input and output for the run (see {@link
+   * app.zoftwhere.bolt.BoltSystemStreams}), so that runs may be concurrent.
+   *
+   * @param className main class name
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if class name non-null, null otherwise
+   * @since 12.0.0
+   */
+  static BoltExecutor executor(String className) {
+    if (className == null) {
+      return null;
+    }
+
+    final ClassLoader parent = parent();
+    final Cache cache = Cache.of(parent);
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> {
+      final BoltClassLoader loader = new BoltClassLoader(parent, cache);
+      final Method main = findMain(loader, className);
+      if (main == null) {
+        return new RunnerException(MAIN_NOT_FOUND);
+      }
+
+      final String[] mainArguments = arguments != null ? arguments : new String[0];
+      final Thread thread = Thread.currentThread();
+      final ClassLoader context = thread.getContextClassLoader();
+      try (PrintStream out = new PrintStream(outputStream, false, outputCharset.name())) {
+        thread.setContextClassLoader(loader);
+        BoltSystemStreams.route(inputStream, out, () -> main.invoke(null, (Object) mainArguments));
+      } catch (InvocationTargetException e) {
+        return programError(e.getCause());
+      } catch (LinkageError e) {
+        // The main class failed to initialize, or to link, on invocation.
+        return programError(e);
+      } catch (Exception e) {
+        return e;
+      } finally {
+        thread.setContextClassLoader(context);
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Load the class, child-first unless it is shared with the parent.
+   *
+   * @param name class name
+   * @param resolve {@code true} to resolve the class
+   * @return loaded class
+   * @throws java.lang.ClassNotFoundException if the class cannot be found
+   */
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> type = findLoadedClass(name);
+      if (type == null) {
+        final byte[] bytes = name.startsWith("java.") ? null : cache.lookup(getParent(), name);
+        if (bytes != null) {
+          type = defineClass(name, bytes, 0, bytes.length);
+        } else {
+          type = super.loadClass(name, false);
+        }
+      }
+      if (resolve) {
+        resolveClass(type);
+      }
+      return type;
+    }
+  }
+
+  /**
+   * Find the main method of the program, without initializing its class.
+   *
+   * @param loader isolating class loader
+   * @param className main class name
+   * @return public static main method, or null if not found
+   */
+  private static Method findMain(ClassLoader loader, String className) {
+    try {
+      final Method main = Class.forName(className, false, loader).getMethod("main", String[].class);
+      if (!Modifier.isStatic(main.getModifiers())) {
+        return null;
+      }
+      main.setAccessible(true);
+      return main;
+    } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the program error as an exception.
+   *
+   * <p>An error thrown by the program, such as an {@link java.lang.ExceptionInInitializerError} or
+   * a {@link java.lang.StackOverflowError}, is wrapped rather than rethrown, as it is for a main
+   * class program run on a worker.
+   *
+   * @param cause program error
+   * @return program exception
+   */
+  private static Exception programError(Throwable cause) {
+    if (cause instanceof Exception) {
+      return (Exception) cause;
+    }
+    return new RunnerException("bolt.runner.isolation.program.error", cause);
+  }
+
+  private static ClassLoader parent() {
+    final ClassLoader context = Thread.currentThread().getContextClassLoader();
+    if (context != null) {
+      return context;
+    }
+    final ClassLoader loader = BoltClassLoader.class.getClassLoader();
+    return loader != null ? loader : ClassLoader.getSystemClassLoader();
+  }
+
+  /** Class bytes cache of a parent class loader. */
+  static final class Cache {
+
+    /** Caches by parent class loader. */
+    private static final Map<ClassLoader, Cache> CACHES = new WeakHashMap<>();
+
+    /** Marker for classes that are shared with the parent. */
+    private static final byte[] SHARED = new byte[0];
+
+    /** Resource prefix of the classes of this library, which are shared with the parent. */
+    private static final String LIBRARY = library();
+
+    /** Class bytes by class name. */
+    private final Map<String, byte[]> bytes = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieve the class bytes cache of a parent class loader.
+     *
+     * @param parent parent class loader
+     * @return class bytes cache
+     * @since 12.0.0
+     */
+    static Cache of(ClassLoader parent) {
+      synchronized (CACHES) {
+        return CACHES.computeIfAbsent(parent, key -> new Cache());
+      }
+    }
+
+    /**
+     * Retrieve the class bytes to define in an isolating class loader.
+     *
+     * @param parent parent class loader
+     * @param name class name
+     * @return class bytes, or null for a class shared with the parent
+     * @since 12.0.0
+     */
+    byte[] lookup(ClassLoader parent, String name) {
+      final byte[] data = bytes.computeIfAbsent(name, key -> read(parent, key));
+      return data != SHARED ? data : null;
+    }
+
+    /**
+     * Read the class bytes from the class path of the parent.
+     *
+     * <p>Classes of the platform (not on the class path), and classes of this library, are shared.
+     *
+     * @param parent parent class loader
+     * @param name class name
+     * @return class bytes, or {@link #SHARED} for a class shared with the parent
+     */
+    private static byte[] read(ClassLoader parent, String name) {
+      final URL url = parent.getResource(name.replace('.', '/') + ".class");
+      if (url == null || !isClassPath(url) || isLibrary(url)) {
+        return SHARED;
+      }
+
+      try (InputStream stream = url.openStream()) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int size;
+        while ((size = stream.read(buffer)) != -1) {
+          data.write(buffer, 0, size);
+        }
+        return data.toByteArray();
+      } catch (IOException e) {
+        return SHARED;
+      }
+    }
+
+    private static boolean isClassPath(URL url) {
+      return "file".equals(url.getProtocol()) || "jar".equals(url.getProtocol());
+    }
+
+    private static boolean isLibrary(URL url) {
+      return !LIBRARY.isEmpty() && url.toString().startsWith(LIBRARY);
+    }
+
+    private static String library() {
+      final String name = BoltClassLoader.class.getName().replace('.', '/') + ".class";
+      final URL url = BoltClassLoader.class.getResource("/" + name);
+      final String location = url != null ? url.toString() : "";
+      return location.endsWith(name)
+          ? location.substring(0, location.length() - name.length())
+          : location;
+    }
+  }
+}
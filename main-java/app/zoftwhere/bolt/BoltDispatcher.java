@@ -0,0 +1,175 @@
+package app.zoftwhere.bolt;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bolt Dispatcher class.
+ *
+ * <p>This is a package-private class for dispatching program execution onto virtual threads.
+ *
+ * <p>Virtual threads are used when the runtime supports them (Java 21 or later), and are looked up
+ * reflectively so that the Java 8 baseline is kept. On older runtimes, execution is dispatched onto
+ * a bounded pool of platform (daemon) threads instead.
+ *
+ * <p>Execution requested from a dispatcher thread (or any virtual thread) runs inline, so that work
+ * dispatched from within dispatched work cannot exhaust the bounded pool.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltDispatcher {
+
+  /** Number of platform threads in the fallback pool. */
+  static final int POOL_SIZE = Math.max(4, 4 * Runtime.getRuntime().availableProcessors());
+
+  private static final Method IS_VIRTUAL = lookup(Thread.class, "isVirtual");
+
+  private BoltDispatcher() {}
+
+  /**
+   * Check if execution is dispatched onto virtual threads.
+   *
+   * @return {@code true} if the runtime supports virtual threads, {@code false} otherwise
+   * @since 12.0.0
+   */
+  static boolean isVirtual() {
+    return Holder.VIRTUAL;
+  }
+
+  /**
+   * Retrieve the shared dispatcher executor service.
+   *
+   * <p>The executor service is shared, and must not be shut down.
+   *
+   * @return virtual-thread-per-task executor service, or the bounded platform pool
+   * @since 12.0.0
+   */
+  static ExecutorService executor() {
+    return Holder.EXECUTOR;
+  }
+
+  /**
+   * Check if the current thread is a dispatcher thread (or any virtual thread).
+   *
+   * @return {@code true} if the current thread is a dispatcher thread, {@code false} otherwise
+   * @since 12.0.0
+   */
+  static boolean isDispatched() {
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof Worker) {
+      return true;
+    }
+
+    try {
+      return IS_VIRTUAL != null && (Boolean) IS_VIRTUAL.invoke(thread);
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Execute the program on a dispatcher thread, and wait for it to complete.
+   *
+   * @param executor program executor
+   * @param arguments program arguments
+   * @param inputCharset character encoding for {@link java.io.InputStream}
+   * @param inputStream {@link java.io.InputStream}
+   * @param outputCharset character encoding for {@link java.io.OutputStream}
+   * @param outputStream {@link java.io.OutputStream}
+   * @return {@code null} for execution success, {@link java.lang.Exception} with program error
+   *     otherwise
+   * @since 12.0.0
+   */
+  static Exception execute(
+      BoltExecutor executor,
+      String[] arguments,
+      Charset inputCharset,
+      InputStream inputStream,
+      Charset outputCharset,
+      OutputStream outputStream) {
+    if (isDispatched()) {
+      return executor.execute(arguments, inputCharset, inputStream, outputCharset, outputStream);
+    }
+
+    final Future<Exception> future =
+        executor()
+            .submit(
+                () ->
+                    executor.execute(
+                        arguments, inputCharset, inputStream, outputCharset, outputStream));
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      return new RunnerException("bolt.runner.dispatch.interrupted", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      return (Exception) cause;
+    }
+  }
+
+  private static Method lookup(Class<?> type, String name) {
+    try {
+      return type.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService newVirtualExecutor() {
+    final Method factory = lookup(Executors.class, "newVirtualThreadPerTaskExecutor");
+    if (factory == null) {
+      return null;
+    }
+
+    try {
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService newPlatformExecutor() {
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory factory =
+        runnable -> {
+          final Thread thread = new Worker(runnable, "bolt-dispatch-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    return Executors.newFixedThreadPool(POOL_SIZE, factory);
+  }
+
+  /** Lazy holder for the shared executor service. */
+  private static final class Holder {
+
+    private static final ExecutorService VIRTUAL_EXECUTOR = newVirtualExecutor();
+
+    private static final boolean VIRTUAL = VIRTUAL_EXECUTOR != null;
+
+    private static final ExecutorService EXECUTOR =
+        VIRTUAL ? VIRTUAL_EXECUTOR : newPlatformExecutor();
+  }
+
+  /** Platform thread of the fallback pool. */
+  private static final class Worker extends Thread {
+
+    Worker(Runnable runnable, String name) {
+      super(runnable, name);
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package app.zoftwhere.bolt;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Bolt Expectation Cache class.
+ *
+ * <p>This is a package-private class for caching decoded expectation resources.
+ *
+ * <p>Entries are keyed on class loader, resolved resource name and character encoding, and evicted
+ * in least-recently-used order once the byte budget is exceeded. Entry sizes are estimates of the
+ * heap retained by the decoded lines.
+ *
+ * <p>Class loaders are referenced weakly, so that the cache does not keep a discarded class loader
+ * (and its classes) reachable. The entries of a class loader that has been collected are removed on
+ * the next cache access.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltExpectationCache {
+
+  /** Default byte budget (32 MiB). */
+  static final long DEFAULT_BUDGET = 32L << 20;
+
+  /** Process-wide expectation cache. */
+  static final BoltExpectationCache INSTANCE = new BoltExpectationCache(DEFAULT_BUDGET);
+
+  /** Estimated heap size of an array, excluding elements. */
+  private static final long ARRAY_OVERHEAD = 16;
+
+  /** Estimated heap size of a string, excluding characters, plus its array reference. */
+  private static final long LINE_OVERHEAD = 48;
+
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Queue of the keys whose class loader has been collected. */
+  private final ReferenceQueue<ClassLoader> collected = new ReferenceQueue<>();
+
+  private long budget;
+
+  private long size = 0;
+
+  private long hits = 0;
+
+  private long misses = 0;
+
+  private long evictions = 0;
+
+  /**
+   * Constructor for BoltExpectationCache (package-private).
+   *
+   * @param budget byte budget
+   * @since 12.0.0
+   */
+  BoltExpectationCache(long budget) {
+    this.budget = Math.max(0, budget);
+  }
+
+  /**
+   * Retrieve cached expectation lines.
+   *
+   * @param loader class loader of the resource
+   * @param name resolved resource name
+   * @param charset resource character encoding
+   * @return expectation lines (shared, not to be modified), or null if not cached
+   * @since 12.0.0
+   */
+  synchronized String[] get(ClassLoader loader, String name, Charset charset) {
+    purge();
+    final Entry entry = entries.get(new Key(loader, name, charset, null));
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+
+    hits++;
+    return entry.lines;
+  }
+
+  /**
+   * Add expectation lines to the cache, evicting least-recently-used entries as needed.
+   *
+   * <p>Lines larger than the budget are not cached.
+   *
+   * @param loader class loader of the resource
+   * @param name resolved resource name
+   * @param charset resource character encoding
+   * @param lines expectation lines (shared, not to be modified)
+   * @since 12.0.0
+   */
+  synchronized void put(ClassLoader loader, String name, Charset charset, String[] lines) {
+    purge();
+    final long weight = weigh(lines);
+    if (weight > budget) {
+      return;
+    }
+
+    final Key key = new Key(loader, name, charset, collected);
+    final Entry previous = entries.put(key, new Entry(lines, weight));
+    if (previous != null) {
+      size -= previous.weight;
+    }
+    size += weight;
+    evict();
+  }
+
+  /**
+   * Retrieve the byte budget.
+   *
+   * @return byte budget
+   * @since 12.0.0
+   */
+  synchronized long budget() {
+    return budget;
+  }
+
+  /**
+   * Specify the byte budget, evicting least-recently-used entries as needed.
+   *
+   * @param budget byte budget, zero (or negative) to disable caching
+   * @since 12.0.0
+   */
+  synchronized void budget(long budget) {
+    this.budget = Math.max(0, budget);
+    evict();
+  }
+
+  /**
+   * Retrieve the estimated size of the cached entries.
+   *
+   * @return estimated size in bytes
+   * @since 12.0.0
+   */
+  synchronized long size() {
+    purge();
+    return size;
+  }
+
+  /**
+   * Retrieve the number of cached entries.
+   *
+   * @return number of cached entries
+   * @since 12.0.0
+   */
+  synchronized int count() {
+    purge();
+    return entries.size();
+  }
+
+  /**
+   * Retrieve the number of lookups that found a cached entry.
+   *
+   * @return hit count
+   * @since 12.0.0
+   */
+  synchronized long hits() {
+    return hits;
+  }
+
+  /**
+   * Retrieve the number of lookups that did not find a cached entry.
+   *
+   * @return miss count
+   * @since 12.0.0
+   */
+  synchronized long misses() {
+    return misses;
+  }
+
+  /**
+   * Retrieve the number of entries evicted to stay within the budget.
+   *
+   * @return eviction count
+   * @since 12.0.0
+   */
+  synchronized long evictions() {
+    return evictions;
+  }
+
+  /**
+   * Remove all entries and reset the counters.
+   *
+   * @since 12.0.0
+   */
+  synchronized void clear() {
+    entries.clear();
+    size = 0;
+    hits = 0;
+    misses = 0;
+    evictions = 0;
+  }
+
+  /** Remove the entries of the class loaders that have been collected. */
+  private void purge() {
+    Reference<? extends ClassLoader> reference;
+    while ((reference = collected.poll()) != null) {
+      final Entry entry = entries.remove((Key) reference);
+      if (entry != null) {
+        size -= entry.weight;
+      }
+    }
+  }
+
+  private void evict() {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (size > budget && iterator.hasNext()) {
+      size -= iterator.next().weight;
+      iterator.remove();
+      evictions++;
+    }
+  }
+
+  private static long weigh(String[] lines) {
+    long weight = ARRAY_OVERHEAD;
+    for (String line : lines) {
+      weight += LINE_OVERHEAD + 2L * line.length();
+    }
+    return weight;
+  }
+
+  /**
+   * Cache key, with a weak reference to the class loader.
+   *
+   * <p>The hash code is fixed on creation, so that a key can be removed after its class loader has
+   * been collected. A collected key is equal only to itself. The bootstrap class loader (null) is
+   * never collected.
+   */
+  private static final class Key extends WeakReference<ClassLoader> {
+
+    private final boolean bootstrap;
+
+    private final String name;
+
+    private final Charset charset;
+
+    private final int hash;
+
+    Key(ClassLoader loader, String name, Charset charset, ReferenceQueue<ClassLoader> queue) {
+      super(loader, queue);
+      this.bootstrap = loader == null;
+      this.name = name;
+      this.charset = charset;
+      this.hash = Objects.hash(System.identityHashCode(loader), name, charset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      final ClassLoader loader = get();
+      if (bootstrap != other.bootstrap || (!bootstrap && loader == null)) {
+        return false;
+      }
+      return loader == other.get() && name.equals(other.name) && charset.equals(other.charset);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class Entry {
+
+    private final String[] lines;
+
+    private final long weight;
+
+    Entry(String[] lines, long weight) {
+      this.lines = lines;
+      this.weight = weight;
+    }
+  }
+}
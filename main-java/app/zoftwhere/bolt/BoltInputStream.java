@@ -2,9 +2,15 @@ package app.zoftwhere.bolt;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -12,21 +18,41 @@ import java.nio.charset.StandardCharsets;
  *
  * <p>This is a package-private class for providing input stream transcoding.
  *
+ * <p>Input is decoded and re-encoded in blocks, using reusable buffers. Malformed input and
+ * unmappable characters are replaced, as with {@link java.io.InputStreamReader} and {@link
+ * String#getBytes(Charset)}.
+ *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 4.0.0
  */
 class BoltInputStream extends InputStream {
 
-  private final InputStreamReader reader;
+  /** Size of the transcoding buffers. */
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream inputStream;
+
+  private final CharsetDecoder decoder;
+
+  private final CharsetEncoder encoder;
+
+  /** Source bytes, in read mode. */
+  private final ByteBuffer input = emptyBytes();
+
+  /** Decoded characters, in read mode. */
+  private final CharBuffer chars = emptyChars();
 
-  private final Charset destination;
+  /** Encoded bytes, in read mode. */
+  private final ByteBuffer output = emptyBytes();
 
-  private byte[] buffer;
+  private boolean byteOrderMark = false;
 
-  private int index = 0;
+  private boolean inputEnded = false;
 
-  private int size = 0;
+  private boolean decodeEnded = false;
+
+  private boolean encodeEnded = false;
 
   /**
    * Constructor for BoltInputStream (package-private).
@@ -39,26 +65,24 @@ class BoltInputStream extends InputStream {
    * @since 4.0.0
    */
   BoltInputStream(InputStream inputStream, Charset source, Charset destination) {
+    this.inputStream = inputStream;
+    this.decoder =
+        source
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
     if (!"UTF-16".equals(destination.name())) {
-      this.destination = destination;
-      this.reader = new InputStreamReader(inputStream, source);
+      this.encoder = newEncoder(destination);
       return;
     }
 
-    this.destination = StandardCharsets.UTF_16BE;
-    this.reader = new InputStreamReader(inputStream, source);
+    this.encoder = newEncoder(StandardCharsets.UTF_16BE);
 
     // Pad non-empty text with UTF-16 BOM (UTF-16BE encoding);
     try {
+      byteOrderMark = true;
       fill();
-      if (size > 0) {
-        byte[] newBuffer = new byte[size + 2];
-        newBuffer[0] = -2;
-        newBuffer[1] = -1;
-        System.arraycopy(buffer, 0, newBuffer, 2, size);
-        buffer = newBuffer;
-        size += 2;
-      }
     } catch (IOException e) {
       throw new UncheckedIOException(e.getMessage(), e);
     }
@@ -67,44 +91,129 @@ class BoltInputStream extends InputStream {
   /** {@inheritDoc} */
   @Override
   public int read() throws IOException {
-    if (index >= size) {
-      fill();
-      if (index >= size) {
-        return -1;
-      }
+    if (!output.hasRemaining() && !fill()) {
+      return -1;
     }
 
-    return buffer[index++] & 0xff;
+    return output.get() & 0xff;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!output.hasRemaining() && !fill()) {
+      return -1;
+    }
+
+    final int count = Math.min(len, output.remaining());
+    output.get(b, off, count);
+    return count;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int available() {
+    return output.remaining();
   }
 
   /**
-   * Fills the buffer with code-point-to-byte conversion.
+   * Fills the output buffer with the next block of transcoded bytes.
    *
-   * @throws IOException when cannot read from reader.
+   * <p>A surrogate pair split across blocks is held back by the encoder until its low surrogate has
+   * been decoded.
+   *
+   * @return {@code true} if bytes are available, {@code false} at the end of the stream
+   * @throws IOException when cannot read from input stream.
    */
-  private void fill() throws IOException {
-    index = 0;
-    size = 0;
+  private boolean fill() throws IOException {
+    ((Buffer) output).clear();
+    if (byteOrderMark) {
+      output.put((byte) -2).put((byte) -1);
+    }
+    final int start = output.position();
 
-    int f1 = reader.read();
-    if (f1 == -1) {
-      return;
+    while (output.position() == start && !encodeEnded) {
+      final CoderResult result = encoder.encode(chars, output, decodeEnded);
+      if (result.isOverflow()) {
+        break;
+      }
+      if (decodeEnded) {
+        encodeEnded = encoder.flush(output).isUnderflow();
+      } else {
+        decode();
+      }
     }
 
-    if (!Character.isSurrogate((char) f1)) {
-      buffer = Character.toString((char) f1).getBytes(destination);
-      size = buffer.length;
-      return;
+    if (byteOrderMark && output.position() == start) {
+      ((Buffer) output).clear();
+    }
+    byteOrderMark = false;
+    ((Buffer) output).flip();
+    return output.hasRemaining();
+  }
+
+  /**
+   * Decodes the next block of characters, reading from the input stream as needed.
+   *
+   * @throws IOException when cannot read from input stream.
+   */
+  private void decode() throws IOException {
+    chars.compact();
+    final int start = chars.position();
+
+    while (true) {
+      final CoderResult result = decoder.decode(input, chars, inputEnded);
+      if (result.isOverflow() || chars.position() > start) {
+        break;
+      }
+      if (inputEnded) {
+        decodeEnded = decoder.flush(chars).isUnderflow();
+        break;
+      }
+
+      input.compact();
+      final int count =
+          inputStream.read(
+              input.array(), input.arrayOffset() + input.position(), input.remaining());
+      if (count < 0) {
+        inputEnded = true;
+      } else {
+        ((Buffer) input).position(input.position() + count);
+      }
+      ((Buffer) input).flip();
     }
 
-    int f2 = reader.read();
-    buffer = (new String(new char[] {(char) f1, (char) f2})).getBytes(destination);
-    size = buffer.length;
+    ((Buffer) chars).flip();
   }
 
   /** {@inheritDoc} */
   @Override
   public void close() throws IOException {
-    reader.close();
+    inputStream.close();
+  }
+
+  private static CharsetEncoder newEncoder(Charset charset) {
+    return charset
+        .newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  private static ByteBuffer emptyBytes() {
+    final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    ((Buffer) buffer).flip();
+    return buffer;
+  }
+
+  private static CharBuffer emptyChars() {
+    final CharBuffer buffer = CharBuffer.allocate(BUFFER_SIZE);
+    ((Buffer) buffer).flip();
+    return buffer;
   }
 }
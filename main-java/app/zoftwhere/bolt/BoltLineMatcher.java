@@ -0,0 +1,369 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bolt Line Matcher class.
+ *
+ * <p>This is a package-private class for comparing program output with the expectation while the
+ * program is running.
+ *
+ * <p>Output is decoded incrementally, and split into lines as {@link app.zoftwhere.bolt.BoltReader}
+ * does. Each line is compared as soon as it is terminated. The line matcher works in one of two
+ * modes:
+ *
+ * <ul>
+ *   <li>Abort mode: output written through {@link #wrap(OutputStream)} is compared on the program
+ *       thread. At the first mismatch, the write throws {@link app.zoftwhere.bolt.RunnerException},
+ *       so that the program is aborted. The last (unterminated) line, and the line count, are left
+ *       to the comparison after execution.
+ *   <li>Collect mode: output is fed by a {@link app.zoftwhere.bolt.BoltPipeline} on its consumer
+ *       thread. Every line is kept, and on {@link #finish()} the comparison is completed exactly as
+ *       the comparison after execution would.
+ * </ul>
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltLineMatcher {
+
+  /** Error message thrown to the program when aborted on mismatch. */
+  static final String MISMATCH = "bolt.runner.output.mismatch";
+
+  /** Number of bytes, and characters, decoded per block. */
+  private static final int BUFFER_SIZE = 4096;
+
+  private final String[] expected;
+
+  private final Comparator<String> comparator;
+
+  private final CharsetDecoder decoder;
+
+  private final boolean abort;
+
+  /** Program output lines, kept in collect mode. */
+  private final List<String> lines = new ArrayList<>();
+
+  private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+  private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+  private final StringBuilder line = new StringBuilder();
+
+  /** Number of terminated lines so far. */
+  private int compared = 0;
+
+  /** If the next character is a line feed (\n), skip it. */
+  private boolean skipLF = false;
+
+  private int offendingIndex = -1;
+
+  private String message = null;
+
+  private boolean finished = false;
+
+  private boolean discarded = false;
+
+  /**
+   * Constructor for BoltLineMatcher (package-private).
+   *
+   * @param expected expected program output lines (without null elements)
+   * @param charset character encoding of program output
+   * @param comparator program output comparator, or null for equality
+   * @param abort {@code true} for abort mode, {@code false} for collect mode
+   * @since 12.0.0
+   */
+  BoltLineMatcher(
+      String[] expected, Charset charset, Comparator<String> comparator, boolean abort) {
+    this.expected = expected;
+    this.comparator = comparator;
+    this.abort = abort;
+    this.decoder =
+        charset
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  /**
+   * Wrap the capture stream, to compare the output written through it.
+   *
+   * @param outputStream capture stream
+   * @return comparing {@link java.io.OutputStream}
+   * @since 12.0.0
+   */
+  OutputStream wrap(OutputStream outputStream) {
+    return new MatchOutputStream(outputStream);
+  }
+
+  /**
+   * Check if the line matcher is in abort mode.
+   *
+   * @return {@code true} for abort mode, {@code false} for collect mode
+   * @since 12.0.0
+   */
+  boolean isAbort() {
+    return abort;
+  }
+
+  /**
+   * Check if the program was aborted on mismatch (abort mode).
+   *
+   * @return {@code true} if aborted on mismatch, {@code false} otherwise
+   * @since 12.0.0
+   */
+  synchronized boolean isMismatch() {
+    return abort && message != null;
+  }
+
+  /**
+   * Check if the comparison was completed, and not discarded (collect mode).
+   *
+   * @return {@code true} if {@link #finish()} completed, {@code false} otherwise
+   * @since 12.0.0
+   */
+  synchronized boolean isComplete() {
+    return finished && !discarded;
+  }
+
+  /**
+   * Discard the comparison, leaving it to the comparison after execution (collect mode).
+   *
+   * @since 12.0.0
+   */
+  synchronized void discard() {
+    discarded = true;
+  }
+
+  /**
+   * Retrieve the zero-based index of the mismatching line.
+   *
+   * @return index of the mismatching line, -1 for a length mismatch
+   * @since 12.0.0
+   */
+  synchronized int offendingIndex() {
+    return offendingIndex;
+  }
+
+  /**
+   * Retrieve the mismatch message.
+   *
+   * @return mismatch message, null if no mismatch
+   * @since 12.0.0
+   */
+  synchronized String message() {
+    return message;
+  }
+
+  /**
+   * Retrieve the program output lines (collect mode).
+   *
+   * @return program output lines
+   * @since 12.0.0
+   */
+  synchronized String[] output() {
+    return lines.toArray(new String[0]);
+  }
+
+  /**
+   * Decode and compare the bytes written (collect mode).
+   *
+   * @param b bytes written
+   * @param off offset of the first byte
+   * @param len number of bytes
+   * @since 12.0.0
+   */
+  synchronized void accept(byte[] b, int off, int len) {
+    feed(b, off, len);
+  }
+
+  /**
+   * Complete the comparison at the end of the program output (collect mode).
+   *
+   * <p>The last line is kept, and the line count is checked before the first mismatching line, as
+   * for the comparison after execution.
+   *
+   * @since 12.0.0
+   */
+  synchronized void finish() {
+    bytes.flip();
+    decoder.decode(bytes, chars, true);
+    chars.flip();
+    scan();
+    chars.clear();
+    decoder.flush(chars);
+    chars.flip();
+    scan();
+    chars.clear();
+    lines.add(line.toString());
+    line.setLength(0);
+
+    if (lines.size() != expected.length) {
+      offendingIndex = -1;
+      message = "bolt.runner.asserter.output.length.mismatch";
+    } else if (message == null && lines.size() > compared) {
+      compare(lines.get(compared));
+    }
+    finished = true;
+  }
+
+  /**
+   * Retrieve the expected lines.
+   *
+   * @return expected program output lines
+   * @since 12.0.0
+   */
+  String[] expected() {
+    return expected;
+  }
+
+  /**
+   * Decode and compare the bytes written.
+   *
+   * @param b bytes written
+   * @param off offset of the first byte
+   * @param len number of bytes
+   */
+  private void feed(byte[] b, int off, int len) {
+    int index = off;
+    final int end = off + len;
+    while (index < end && !isAborted()) {
+      final int count = Math.min(bytes.remaining(), end - index);
+      bytes.put(b, index, count);
+      index += count;
+
+      bytes.flip();
+      CoderResult result;
+      do {
+        result = decoder.decode(bytes, chars, false);
+        chars.flip();
+        scan();
+        chars.clear();
+      } while (result.isOverflow() && !isAborted());
+      bytes.compact();
+    }
+  }
+
+  /** Split the decoded characters into lines, comparing each terminated line. */
+  private void scan() {
+    while (chars.hasRemaining() && !isAborted()) {
+      final char c = chars.get();
+      if (skipLF) {
+        skipLF = false;
+        if (c == '\n') {
+          continue;
+        }
+      }
+
+      if (isTerminator(c)) {
+        skipLF = c == '\r';
+        final String actual = line.toString();
+        line.setLength(0);
+        if (!abort) {
+          lines.add(actual);
+        }
+        if (message == null) {
+          compare(actual);
+        } else {
+          compared++;
+        }
+      } else {
+        line.append(c);
+      }
+    }
+  }
+
+  /**
+   * Check if the program is to be aborted on mismatch.
+   *
+   * @return {@code true} if a mismatch was found in abort mode, {@code false} otherwise
+   */
+  private boolean isAborted() {
+    return abort && message != null;
+  }
+
+  /**
+   * Compare a terminated line with the next expected line.
+   *
+   * @param actual terminated program output line
+   */
+  private void compare(String actual) {
+    // A terminated line is followed by another, so the output has more lines than expected.
+    if (compared >= expected.length) {
+      message = "bolt.runner.asserter.output.length.mismatch";
+      compared++;
+      return;
+    }
+
+    final String want = expected[compared];
+    final boolean mismatch =
+        comparator == null ? !Objects.equals(want, actual) : comparator.compare(want, actual) != 0;
+    if (mismatch) {
+      offendingIndex = compared;
+      message = "bolt.runner.asserter.output.data.mismatch";
+    }
+    compared++;
+  }
+
+  /**
+   * Check if the character terminates a line.
+   *
+   * @param c character to check
+   * @return {@code true} for a line terminator, {@code false} otherwise
+   */
+  private static boolean isTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\f' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  /** Output stream that compares the output written, before passing it on. */
+  private final class MatchOutputStream extends OutputStream {
+
+    private final OutputStream outputStream;
+
+    MatchOutputStream(OutputStream outputStream) {
+      this.outputStream = outputStream;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      synchronized (BoltLineMatcher.this) {
+        if (message != null) {
+          throw new RunnerException(MISMATCH);
+        }
+
+        outputStream.write(b, off, len);
+        feed(b, off, len);
+        if (message != null) {
+          throw new RunnerException(MISMATCH);
+        }
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      outputStream.close();
+    }
+  }
+}
@@ -0,0 +1,475 @@
+package app.zoftwhere.bolt;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bolt Output Stream class.
+ *
+ * <p>This is a package-private class for capturing program output.
+ *
+ * <p>Output is kept in memory until the spill threshold is exceeded, after which it is written to a
+ * temporary file that is memory-mapped when read back.
+ *
+ * <p>In memory, output is held in segments that grow geometrically up to a fixed size. Segments are
+ * never copied on growth, and are read back in place.
+ *
+ * <p>With an output limit, only the head of the output up to the limit is captured, and a write
+ * beyond the limit throws {@link app.zoftwhere.bolt.RunnerOutputLimitException}.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+class BoltOutputStream extends OutputStream {
+
+  /** Size of the first in-memory segment. */
+  private static final int MIN_SEGMENT_SIZE = 256;
+
+  /** Size limit for in-memory segments. */
+  private static final int MAX_SEGMENT_SIZE = 1 << 20;
+
+  /** Size of the write buffer for the temporary file. */
+  private static final int SPILL_BUFFER_SIZE = 1 << 16;
+
+  /** Size of each memory-mapped window when reading back the temporary file. */
+  private static final long MAP_WINDOW_SIZE = 1L << 26;
+
+  private final long threshold;
+
+  private final long limit;
+
+  private final List<byte[]> segments = new ArrayList<>();
+
+  /** Current (last) in-memory segment. */
+  private byte[] segment = new byte[0];
+
+  /** Number of bytes used in the current segment. */
+  private int count = 0;
+
+  private Path path;
+
+  private FileChannel channel;
+
+  private OutputStream spill;
+
+  private long size = 0;
+
+  private IOException failure;
+
+  private RunnerOutputLimitException exceeded;
+
+  /**
+   * Constructor for BoltOutputStream (package-private).
+   *
+   * <p>Creates an instance that spills to a temporary file once more than {@code threshold} bytes
+   * have been written.
+   *
+   * @param threshold number of bytes to keep in memory
+   * @since 12.0.0
+   */
+  BoltOutputStream(long threshold) {
+    this(threshold, -1);
+  }
+
+  /**
+   * Constructor for BoltOutputStream (package-private).
+   *
+   * <p>Creates an instance that spills to a temporary file once more than {@code threshold} bytes
+   * have been written, and refuses writes beyond {@code limit} bytes.
+   *
+   * @param threshold number of bytes to keep in memory
+   * @param limit number of bytes to capture, negative for no limit
+   * @since 12.0.0
+   */
+  BoltOutputStream(long threshold, long limit) {
+    this.threshold = threshold;
+    this.limit = limit;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws RunnerOutputLimitException when the write would exceed the output limit.
+   */
+  @Override
+  public void write(int b) throws IOException {
+    if (limit >= 0 && size >= limit) {
+      throw exceeded();
+    }
+
+    append(b);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>If the write would exceed the output limit, the bytes up to the limit are retained.
+   *
+   * @throws RunnerOutputLimitException when the write would exceed the output limit.
+   */
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+      throw new IndexOutOfBoundsException();
+    }
+
+    if (limit >= 0 && len > limit - size) {
+      append(b, off, (int) (limit - size));
+      throw exceeded();
+    }
+
+    append(b, off, len);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void flush() throws IOException {
+    if (spill != null) {
+      spill.flush();
+    }
+  }
+
+  /**
+   * Append a byte to the captured output.
+   *
+   * @param b byte to append
+   * @throws IOException when cannot write to the temporary file.
+   */
+  private void append(int b) throws IOException {
+    prepare(1);
+    if (spill == null) {
+      if (count == segment.length) {
+        grow();
+      }
+      segment[count++] = (byte) b;
+    } else {
+      try {
+        spill.write(b);
+      } catch (IOException e) {
+        failure = e;
+        throw e;
+      }
+    }
+    size++;
+  }
+
+  /**
+   * Append bytes to the captured output.
+   *
+   * @param b bytes to append
+   * @param off offset of the first byte
+   * @param len number of bytes
+   * @throws IOException when cannot write to the temporary file.
+   */
+  private void append(byte[] b, int off, int len) throws IOException {
+    prepare(len);
+    if (spill == null) {
+      int index = off;
+      int remaining = len;
+      while (remaining > 0) {
+        if (count == segment.length) {
+          grow();
+        }
+        final int length = Math.min(remaining, segment.length - count);
+        System.arraycopy(b, index, segment, count, length);
+        count += length;
+        index += length;
+        remaining -= length;
+      }
+    } else {
+      try {
+        spill.write(b, off, len);
+      } catch (IOException e) {
+        failure = e;
+        throw e;
+      }
+    }
+    size += len;
+  }
+
+  /**
+   * Retrieve the number of bytes written.
+   *
+   * @return number of bytes written
+   * @since 12.0.0
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Check if the output was spilled to a temporary file.
+   *
+   * @return {@code true} if spilled, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isSpilled() {
+    return channel != null;
+  }
+
+  /**
+   * Retrieve the capture failure, if any.
+   *
+   * <p>A {@link java.io.PrintStream} swallows write failures, so these are recorded for the runner
+   * to report.
+   *
+   * @return capture failure, if any, null otherwise
+   * @since 12.0.0
+   */
+  IOException failure() {
+    return failure;
+  }
+
+  /**
+   * Retrieve the output limit error, if the output limit was exceeded.
+   *
+   * <p>The error is recorded, so that the output limit is reported even if the program swallowed
+   * it.
+   *
+   * @return output limit error, if any, null otherwise
+   * @since 12.0.0
+   */
+  RunnerOutputLimitException exceededLimit() {
+    return exceeded;
+  }
+
+  /**
+   * Returns an input stream for reading back the captured output.
+   *
+   * @return {@link java.io.InputStream} for the captured output
+   * @throws IOException when cannot read from the temporary file.
+   * @since 12.0.0
+   */
+  InputStream newInputStream() throws IOException {
+    if (channel == null) {
+      return new SegmentInputStream(segments, count, size);
+    }
+
+    spill.flush();
+    return new MappedInputStream(channel, size);
+  }
+
+  /**
+   * Releases the temporary file, if any.
+   *
+   * <p>The stream itself remains usable after {@link #close()}, as programs commonly close their
+   * output stream before the runner reads it back.
+   *
+   * @throws IOException when cannot delete the temporary file.
+   * @since 12.0.0
+   */
+  void release() throws IOException {
+    clearSegments();
+    if (channel != null) {
+      try {
+        channel.close();
+      } finally {
+        channel = null;
+        spill = null;
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  /**
+   * Spills the captured output to a temporary file if the write would exceed the threshold.
+   *
+   * @param length number of bytes about to be written
+   * @throws IOException when cannot write to the temporary file.
+   */
+  private void prepare(int length) throws IOException {
+    if (channel != null || size + length <= threshold) {
+      return;
+    }
+
+    try {
+      path = Files.createTempFile("bolt-", ".out");
+      channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.DELETE_ON_CLOSE);
+      spill = new BufferedOutputStream(Channels.newOutputStream(channel), SPILL_BUFFER_SIZE);
+      final int last = segments.size() - 1;
+      for (int index = 0; index < last; index++) {
+        spill.write(segments.get(index));
+      }
+      if (last >= 0) {
+        spill.write(segment, 0, count);
+      }
+      clearSegments();
+    } catch (IOException e) {
+      failure = e;
+      throw e;
+    }
+  }
+
+  /**
+   * Create an output limit error, recording the first.
+   *
+   * <p>A new instance is created for every refused write, as a program (or its print stream) may
+   * add a later one as suppressed to an earlier one.
+   *
+   * @return output limit error
+   */
+  private RunnerOutputLimitException exceeded() {
+    final RunnerOutputLimitException error = new RunnerOutputLimitException(limit);
+    if (exceeded == null) {
+      exceeded = error;
+    }
+    return error;
+  }
+
+  /** Adds an in-memory segment, double the size of the current one (within limits). */
+  private void grow() {
+    final int length = Math.max(MIN_SEGMENT_SIZE, Math.min(segment.length << 1, MAX_SEGMENT_SIZE));
+    segment = new byte[length];
+    segments.add(segment);
+    count = 0;
+  }
+
+  /** Drops the in-memory segments. */
+  private void clearSegments() {
+    segments.clear();
+    segment = new byte[0];
+    count = 0;
+  }
+
+  /** Input stream over the in-memory segments, reading them in place. */
+  private static class SegmentInputStream extends InputStream {
+
+    private final List<byte[]> segments;
+
+    /** Number of bytes used in the last segment. */
+    private final int lastCount;
+
+    private int segmentIndex = 0;
+
+    private int position = 0;
+
+    private long remaining;
+
+    SegmentInputStream(List<byte[]> segments, int lastCount, long size) {
+      this.segments = segments;
+      this.lastCount = lastCount;
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() {
+      if (remaining == 0) {
+        return -1;
+      }
+      final byte[] current = advance();
+      remaining--;
+      return current[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (remaining == 0) {
+        return -1;
+      }
+      final byte[] current = advance();
+      final int limit = segmentIndex == segments.size() - 1 ? lastCount : current.length;
+      final int length = Math.min(len, limit - position);
+      System.arraycopy(current, position, b, off, length);
+      position += length;
+      remaining -= length;
+      return length;
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves past an exhausted segment.
+     *
+     * @return segment holding the next byte
+     */
+    private byte[] advance() {
+      byte[] current = segments.get(segmentIndex);
+      if (position == current.length) {
+        segmentIndex++;
+        position = 0;
+        current = segments.get(segmentIndex);
+      }
+      return current;
+    }
+  }
+
+  /** Input stream over the temporary file, mapped one window at a time. */
+  private static class MappedInputStream extends InputStream {
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private long position = 0;
+
+    private MappedByteBuffer window;
+
+    MappedInputStream(FileChannel channel, long size) {
+      this.channel = channel;
+      this.size = size;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!remap()) {
+        return -1;
+      }
+      return window.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!remap()) {
+        return -1;
+      }
+      final int count = Math.min(len, window.remaining());
+      window.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      final long remaining = size - position + (window != null ? window.remaining() : 0);
+      return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    private boolean remap() throws IOException {
+      if (window != null && window.hasRemaining()) {
+        return true;
+      }
+      if (position >= size) {
+        return false;
+      }
+      final long length = Math.min(MAP_WINDOW_SIZE, size - position);
+      window = channel.map(MapMode.READ_ONLY, position, length);
+      position += length;
+      return true;
+    }
+  }
+}
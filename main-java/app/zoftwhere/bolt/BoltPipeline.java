@@ -0,0 +1,255 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bolt Pipeline class.
+ *
+ * <p>This is a package-private class for decoding and comparing program output on a consumer
+ * thread, concurrently with program execution.
+ *
+ * <p>Output written through {@link #wrap(OutputStream)} is passed on to the capture stream, and
+ * copied into chunks. Full chunks are handed to the consumer thread through a bounded,
+ * single-producer single-consumer ring buffer, that is lock-free. The consumer thread feeds them to
+ * a {@link app.zoftwhere.bolt.BoltLineMatcher} in collect mode. A producer that finds the ring
+ * buffer full waits for the consumer thread, so that memory use is bounded.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltPipeline {
+
+  /** Number of chunks held by the ring buffer (a power of two). */
+  static final int RING_SIZE = 64;
+
+  /** Size of the chunks handed to the consumer thread. */
+  static final int CHUNK_SIZE = 1 << 13;
+
+  /** Time to park while waiting on the other thread. */
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  private final BoltLineMatcher matcher;
+
+  private final byte[][] ring = new byte[RING_SIZE][];
+
+  /** Sequence of the next chunk to consume. */
+  private final AtomicLong head = new AtomicLong();
+
+  /** Sequence of the next chunk to publish. */
+  private final AtomicLong tail = new AtomicLong();
+
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  private final Thread consumer;
+
+  private volatile boolean closed = false;
+
+  /** Producer thread waiting for the ring buffer to drain, if any. */
+  private volatile Thread producer = null;
+
+  private volatile Throwable failure = null;
+
+  /** Chunk being filled by the producer. */
+  private byte[] chunk = new byte[CHUNK_SIZE];
+
+  /** Number of bytes used in the chunk being filled. */
+  private int count = 0;
+
+  /**
+   * Constructor for BoltPipeline (package-private).
+   *
+   * <p>Creates an instance, and starts its consumer thread.
+   *
+   * @param matcher line matcher in collect mode
+   * @since 12.0.0
+   */
+  BoltPipeline(BoltLineMatcher matcher) {
+    this.matcher = matcher;
+    this.consumer = new Thread(this::consume, "bolt-pipeline-" + COUNT.incrementAndGet());
+    consumer.setDaemon(true);
+    consumer.start();
+  }
+
+  /**
+   * Wrap the capture stream, to pipeline the output written through it.
+   *
+   * @param outputStream capture stream
+   * @return pipelining {@link java.io.OutputStream}
+   * @since 12.0.0
+   */
+  OutputStream wrap(OutputStream outputStream) {
+    return new PipeOutputStream(outputStream);
+  }
+
+  /**
+   * Hand the remaining output to the consumer thread, and wait for it to complete the comparison.
+   *
+   * @return {@code true} if the comparison was completed, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean finish() {
+    synchronized (this) {
+      if (!closed) {
+        publishChunk();
+        closed = true;
+      }
+    }
+    LockSupport.unpark(consumer);
+
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    return failure == null && matcher.isComplete();
+  }
+
+  /**
+   * Close the pipeline, without waiting for the consumer thread.
+   *
+   * @since 12.0.0
+   */
+  void close() {
+    closed = true;
+    LockSupport.unpark(consumer);
+  }
+
+  /** Consume the chunks from the ring buffer, until the pipeline is closed and drained. */
+  private void consume() {
+    try {
+      long sequence = head.get();
+      while (true) {
+        if (sequence == tail.get()) {
+          // The closed flag is set after the last chunk is published.
+          if (closed && sequence == tail.get()) {
+            break;
+          }
+          LockSupport.parkNanos(this, PARK_NANOS);
+          continue;
+        }
+
+        final int slot = (int) sequence & (RING_SIZE - 1);
+        final byte[] data = ring[slot];
+        ring[slot] = null;
+        head.lazySet(++sequence);
+        final Thread waiting = producer;
+        if (waiting != null) {
+          LockSupport.unpark(waiting);
+        }
+
+        matcher.accept(data, 0, data.length);
+      }
+      matcher.finish();
+    } catch (Throwable e) {
+      failure = e;
+    } finally {
+      done.countDown();
+    }
+  }
+
+  /**
+   * Copy the bytes written into chunks, publishing each chunk when full.
+   *
+   * @param b bytes written
+   * @param off offset of the first byte
+   * @param len number of bytes
+   */
+  private void stage(byte[] b, int off, int len) {
+    int index = off;
+    int remaining = len;
+    while (remaining > 0) {
+      final int length = Math.min(remaining, CHUNK_SIZE - count);
+      System.arraycopy(b, index, chunk, count, length);
+      count += length;
+      index += length;
+      remaining -= length;
+      if (count == CHUNK_SIZE) {
+        publish(chunk);
+        chunk = new byte[CHUNK_SIZE];
+        count = 0;
+      }
+    }
+  }
+
+  /** Publish the chunk being filled, if not empty. */
+  private void publishChunk() {
+    if (count > 0) {
+      publish(Arrays.copyOf(chunk, count));
+      count = 0;
+    }
+  }
+
+  /**
+   * Publish a chunk to the consumer thread, waiting while the ring buffer is full.
+   *
+   * <p>If the consumer thread has stopped, the chunk is dropped, and the comparison is not
+   * completed.
+   *
+   * @param data chunk to publish
+   */
+  private void publish(byte[] data) {
+    final long sequence = tail.get();
+    while (sequence - head.get() >= RING_SIZE) {
+      if (done.getCount() == 0) {
+        return;
+      }
+      producer = Thread.currentThread();
+      if (sequence - head.get() >= RING_SIZE) {
+        LockSupport.parkNanos(this, PARK_NANOS);
+      }
+      producer = null;
+    }
+
+    ring[(int) sequence & (RING_SIZE - 1)] = data;
+    tail.lazySet(sequence + 1);
+    LockSupport.unpark(consumer);
+  }
+
+  /** Output stream that pipelines the output written, after passing it on. */
+  private final class PipeOutputStream extends OutputStream {
+
+    private final OutputStream outputStream;
+
+    PipeOutputStream(OutputStream outputStream) {
+      this.outputStream = outputStream;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      synchronized (BoltPipeline.this) {
+        outputStream.write(b, off, len);
+        if (closed) {
+          failure = new RunnerException("bolt.runner.pipeline.closed");
+          return;
+        }
+        stage(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      outputStream.close();
+    }
+  }
+}
@@ -0,0 +1,413 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bolt Process class.
+ *
+ * <p>This is a package-private class for executing a program as an operating system process, such
+ * as a native binary, a script, or a separate Java virtual machine.
+ *
+ * <p>Program input is pumped to the standard input of the process, and the standard output of the
+ * process is pumped to the program output, each on a dedicated daemon thread with a large buffer.
+ * The standard error of the process is either inherited, or merged with its standard output.
+ *
+ * <p>On Linux, resource limits are applied by a {@code /bin/sh} wrapper that sets them with {@code
+ * ulimit}, and then executes the process in its place. While the process runs, its CPU time, user
+ * time and peak resident memory are sampled from {@code /proc/<pid>}, and reported as the usage of
+ * the program.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltProcess {
+
+  /** Error message for a process stopped by its CPU time limit. */
+  static final String CPU_LIMIT_EXCEEDED = "bolt.runner.process.cpu.limit.exceeded";
+
+  /** Size of the pump buffers. */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /** Interval at which the usage of the process is sampled. */
+  static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  /** Exit value of a process terminated by SIGXCPU, at its soft CPU time limit. */
+  private static final int SIGXCPU_EXIT = 128 + 24;
+
+  /** Exit value of a process terminated by SIGKILL, at its hard CPU time limit. */
+  private static final int SIGKILL_EXIT = 128 + 9;
+
+  private static final Method PID = lookupPid();
+
+  private static final boolean LINUX = isLinux();
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  private final List<String> command;
+
+  private final boolean captureError;
+
+  private final Duration cpuLimit;
+
+  private final long memoryLimit;
+
+  private final long fileLimit;
+
+  /**
+   * Constructor for BoltProcess (private).
+   *
+   * @param command process command, and its arguments
+   * @param setting execution settings
+   * @since 12.0.0
+   */
+  private BoltProcess(List<String> command, BoltSetting setting) {
+    this.command = command;
+    this.captureError = setting.isCaptureErrorStream();
+    this.cpuLimit = setting.processCpuLimit();
+    this.memoryLimit = setting.processMemoryLimit();
+    this.fileLimit = setting.processFileLimit();
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a process command.
+   *
+   * <p>The command is copied, so that later changes to the list do not affect the program.
+   *
+   * @param command process command, and its arguments
+   * @param setting execution settings
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if command non-null, null otherwise
+   * @since 12.0.0
+   */
+  static BoltExecutor executor(List<String> command, BoltSetting setting) {
+    if (command == null) {
+      return null;
+    }
+
+    final List<String> copy = Collections.unmodifiableList(new ArrayList<>(command));
+    if (copy.isEmpty() || copy.contains(null)) {
+      final RunnerException error = new RunnerException("bolt.runner.process.command.invalid");
+      return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> error;
+    }
+
+    if (setting.isProcessLimited() && !isLimitSupported()) {
+      final RunnerException error = new RunnerException("bolt.runner.process.limit.unsupported");
+      return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> error;
+    }
+
+    return new BoltProcess(copy, setting)::execute;
+  }
+
+  /**
+   * Check if process resource limits are supported on this platform.
+   *
+   * @return {@code true} on Linux with {@code /bin/sh}, {@code false} otherwise
+   * @since 12.0.0
+   */
+  static boolean isLimitSupported() {
+    return LINUX && Files.isExecutable(Paths.get("/bin/sh"));
+  }
+
+  /**
+   * Execute the process, and wait for it to exit.
+   *
+   * <p>Program arguments, if any, are appended to the command. If the executing thread is
+   * interrupted, or the program output refuses a write, the process is destroyed.
+   *
+   * @param arguments program arguments
+   * @param inputCharset character encoding for {@link java.io.InputStream}
+   * @param inputStream {@link java.io.InputStream}
+   * @param outputCharset character encoding for {@link java.io.OutputStream}
+   * @param outputStream {@link java.io.OutputStream}
+   * @return {@code null} for execution success, {@link java.lang.Exception} with program error
+   *     otherwise
+   */
+  private Exception execute(
+      String[] arguments,
+      Charset inputCharset,
+      InputStream inputStream,
+      Charset outputCharset,
+      OutputStream outputStream) {
+    final List<String> line = new ArrayList<>();
+    if (cpuLimit != null || memoryLimit >= 0 || fileLimit >= 0) {
+      // The wrapper is named "bolt" ($0), and executes its positional parameters ($@).
+      line.add("/bin/sh");
+      line.add("-c");
+      line.add(limitScript());
+      line.add("bolt");
+    }
+    line.addAll(command);
+    if (arguments != null) {
+      line.addAll(Arrays.asList(arguments));
+    }
+
+    final ProcessBuilder builder = new ProcessBuilder(line);
+    if (captureError) {
+      builder.redirectErrorStream(true);
+    } else {
+      builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+    }
+
+    final Process process;
+    try {
+      process = builder.start();
+    } catch (IOException | RuntimeException e) {
+      return new RunnerException("bolt.runner.process.start", e);
+    }
+
+    final int id = COUNT.incrementAndGet();
+    final Pump input = new Pump(inputStream, process.getOutputStream(), true, process);
+    final Pump output = new Pump(process.getInputStream(), outputStream, false, process);
+    input.start("bolt-process-input-" + id);
+    output.start("bolt-process-output-" + id);
+
+    try {
+      final BoltUsage usage = await(process);
+      final int exitValue = process.exitValue();
+      output.thread.join();
+      // The process has exited, so the input pump can no longer be blocked by the process.
+      closeQuietly(process.getOutputStream());
+      input.thread.join();
+      BoltUsage.report(usage);
+
+      if (output.failure != null) {
+        return output.failure;
+      }
+      if (isCpuLimitExceeded(exitValue, usage)) {
+        final RunnerException cause = new RunnerException(CPU_LIMIT_EXCEEDED);
+        return new RunnerTimeLimitException(cpuLimit, cause);
+      }
+      if (input.failure != null) {
+        return new RunnerException("bolt.runner.process.input", input.failure);
+      }
+      return exitValue != 0 ? new RunnerExitException(exitValue) : null;
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      return new RunnerException("bolt.runner.process.interrupted", e);
+    } finally {
+      if (process.isAlive()) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  /**
+   * Wait for the process to exit, sampling its usage while it runs.
+   *
+   * <p>The process is reaped by the runtime as soon as it exits, so the last sample taken before
+   * then is the one reported.
+   *
+   * @param process process to wait for
+   * @return last usage sampled, or null if unavailable
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private static BoltUsage await(Process process) throws InterruptedException {
+    final long pid = pid(process);
+    if (pid < 0) {
+      process.waitFor();
+      return null;
+    }
+
+    BoltUsage usage = BoltUsage.sampleProcess(pid, null);
+    while (!process.waitFor(SAMPLE_NANOS, TimeUnit.NANOSECONDS)) {
+      usage = BoltUsage.sampleProcess(pid, usage);
+    }
+    return usage;
+  }
+
+  /**
+   * Check if the process was stopped by its CPU time limit.
+   *
+   * <p>The soft limit sends SIGXCPU. A process that handles or ignores it is sent SIGKILL a second
+   * later, at the hard limit, which is only attributed to the CPU time limit if the CPU time
+   * sampled reached the soft limit.
+   *
+   * @param exitValue process exit value
+   * @param usage last usage sampled, or null if unavailable
+   * @return {@code true} if the CPU time limit was exceeded, {@code false} otherwise
+   */
+  private boolean isCpuLimitExceeded(int exitValue, BoltUsage usage) {
+    if (cpuLimit == null) {
+      return false;
+    }
+    if (exitValue == SIGXCPU_EXIT) {
+      return true;
+    }
+    if (exitValue != SIGKILL_EXIT || usage == null || !usage.cpuTime().isPresent()) {
+      return false;
+    }
+    return usage.cpuTime().get().getSeconds() >= cpuSeconds();
+  }
+
+  /**
+   * Build the wrapper script that applies the resource limits, and executes the process.
+   *
+   * <p>The hard CPU time limit is set a second beyond the soft limit, so that the soft limit stops
+   * the process with SIGXCPU, which identifies it.
+   *
+   * @return wrapper script for {@code /bin/sh -c}
+   */
+  private String limitScript() {
+    final StringBuilder script = new StringBuilder();
+    if (cpuLimit != null) {
+      final long seconds = cpuSeconds();
+      // The soft limit is set first, as a hard limit below the soft limit is refused.
+      script.append("ulimit -S -t ").append(seconds).append(" && ");
+      script.append("ulimit -H -t ").append(seconds + 1).append(" && ");
+    }
+    if (memoryLimit >= 0) {
+      script.append("ulimit -v ").append((memoryLimit + 1023) / 1024).append(" && ");
+    }
+    if (fileLimit >= 0) {
+      script.append("ulimit -n ").append(fileLimit).append(" && ");
+    }
+    return script.append("exec \"$@\"").toString();
+  }
+
+  /**
+   * Retrieve the CPU time limit in whole seconds, rounded up.
+   *
+   * @return CPU time limit in seconds
+   */
+  private long cpuSeconds() {
+    return cpuLimit.getSeconds() + (cpuLimit.getNano() > 0 ? 1 : 0);
+  }
+
+  /**
+   * Retrieve the process identifier, available from Java 9.
+   *
+   * @param process process
+   * @return process identifier, negative if unavailable
+   */
+  private static long pid(Process process) {
+    if (PID == null) {
+      return -1;
+    }
+
+    try {
+      return (Long) PID.invoke(process);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private static Method lookupPid() {
+    try {
+      return Process.class.getMethod("pid");
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static boolean isLinux() {
+    try {
+      return System.getProperty("os.name", "").startsWith("Linux");
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static void closeQuietly(OutputStream outputStream) {
+    try {
+      outputStream.close();
+    } catch (IOException ignore) {
+    }
+  }
+
+  /**
+   * Pump that copies a stream to another on a dedicated daemon thread.
+   *
+   * <p>The input pump closes the standard input of the process when the program input is exhausted,
+   * and ignores a process that stops reading. The output pump destroys the process if the program
+   * output refuses a write.
+   */
+  private static final class Pump implements Runnable {
+
+    private final InputStream source;
+
+    private final OutputStream target;
+
+    private final boolean toProcess;
+
+    private final Process process;
+
+    private Thread thread;
+
+    private volatile Exception failure = null;
+
+    Pump(InputStream source, OutputStream target, boolean toProcess, Process process) {
+      this.source = source;
+      this.target = target;
+      this.toProcess = toProcess;
+      this.process = process;
+    }
+
+    void start(String name) {
+      thread = new Thread(this, name);
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      try {
+        int size;
+        while ((size = read(buffer)) != -1) {
+          if (!write(buffer, size)) {
+            return;
+          }
+        }
+      } catch (Exception e) {
+        failure = e;
+      } finally {
+        if (toProcess) {
+          closeQuietly(target);
+        }
+      }
+    }
+
+    private int read(byte[] buffer) throws IOException {
+      try {
+        return source.read(buffer, 0, buffer.length);
+      } catch (IOException e) {
+        // A destroyed process closes its standard output.
+        if (!toProcess && !process.isAlive()) {
+          return -1;
+        }
+        throw e;
+      }
+    }
+
+    private boolean write(byte[] buffer, int size) throws Exception {
+      try {
+        target.write(buffer, 0, size);
+        return true;
+      } catch (IOException e) {
+        if (toProcess) {
+          // The process stopped reading its standard input, or exited.
+          return false;
+        }
+        process.destroyForcibly();
+        throw e;
+      } catch (RuntimeException e) {
+        process.destroyForcibly();
+        throw e;
+      }
+    }
+  }
+}
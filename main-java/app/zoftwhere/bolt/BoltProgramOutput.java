@@ -1,6 +1,7 @@
 package app.zoftwhere.bolt;
 
 import static app.zoftwhere.bolt.BoltResult.newBoltResult;
+import static app.zoftwhere.bolt.BoltUtility.supplyAsync;
 import static java.util.Objects.requireNonNull;
 
 import app.zoftwhere.bolt.api.RunnerAsserter;
@@ -12,6 +13,8 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Bolt program output class.
@@ -19,19 +22,23 @@ import java.util.Optional;
  * <p>This is a package-private class for providing its functionality.
  *
  * @author Osmund
- * @version 11.3.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 class BoltProgramOutput implements RunnerProgramOutput {
 
   private final Charset encoding;
 
+  private final BoltSetting setting;
+
   private final String[] output;
 
   private final Exception error;
 
   private final Duration duration;
 
+  private final BoltUsage usage;
+
   private final Comparator<String> comparator;
 
   /**
@@ -46,10 +53,53 @@ class BoltProgramOutput implements RunnerProgramOutput {
    * @since 11.0.0
    */
   BoltProgramOutput(Charset encoding, String[] output, Duration duration, Exception error) {
+    this(encoding, new BoltSetting(), output, duration, error);
+  }
+
+  /**
+   * Constructor for BoltProgramOutput (package-private).
+   *
+   * <p>Creates an instance based on the execution settings, program output and program exception.
+   *
+   * @param encoding default character encoding
+   * @param setting execution settings
+   * @param output program (actual) output lines
+   * @param duration program execution duration
+   * @param error execution error, if any, null otherwise
+   * @since 12.0.0
+   */
+  BoltProgramOutput(
+      Charset encoding, BoltSetting setting, String[] output, Duration duration, Exception error) {
+    this(encoding, setting, output, duration, BoltUsage.UNAVAILABLE, error);
+  }
+
+  /**
+   * Constructor for BoltProgramOutput (package-private).
+   *
+   * <p>Creates an instance based on the execution settings, program output, resource usage and
+   * program exception.
+   *
+   * @param encoding default character encoding
+   * @param setting execution settings
+   * @param output program (actual) output lines
+   * @param duration program execution duration
+   * @param usage resource usage of the program thread
+   * @param error execution error, if any, null otherwise
+   * @since 12.0.0
+   */
+  BoltProgramOutput(
+      Charset encoding,
+      BoltSetting setting,
+      String[] output,
+      Duration duration,
+      BoltUsage usage,
+      Exception error) {
     this.encoding = encoding;
+    this.setting = requireNonNull(setting);
     this.output = requireNonNull(output);
     this.error = error;
     this.duration = duration;
+    this.usage = requireNonNull(usage);
     this.comparator = null;
   }
 
@@ -57,16 +107,25 @@ class BoltProgramOutput implements RunnerProgramOutput {
    * Constructor for BoltProgramOutput (private).
    *
    * @param encoding default character encoding
+   * @param setting execution settings
    * @param output program (actual) output lines
    * @param duration program execution duration
+   * @param usage resource usage of the program thread
    * @param comparator program output comparator, if any, null otherwise
-   * @since 11.0.0
+   * @since 12.0.0
    */
   private BoltProgramOutput(
-      Charset encoding, String[] output, Duration duration, Comparator<String> comparator) {
+      Charset encoding,
+      BoltSetting setting,
+      String[] output,
+      Duration duration,
+      BoltUsage usage,
+      Comparator<String> comparator) {
     this.encoding = encoding;
+    this.setting = setting;
     this.output = requireNonNull(output);
     this.duration = duration;
+    this.usage = usage;
     this.error = null;
     this.comparator = comparator;
   }
@@ -98,40 +157,114 @@ class BoltProgramOutput implements RunnerProgramOutput {
 
     if (comparator == null) {
       RunnerException nullError = new RunnerException("bolt.runner.expectation.comparator.null");
-      return new BoltProgramOutput(encoding, output, Duration.ZERO, nullError);
+      return new BoltProgramOutput(encoding, setting, output, Duration.ZERO, nullError);
     }
 
-    return new BoltProgramOutput(encoding, output, duration, comparator);
+    return new BoltProgramOutput(encoding, setting, output, duration, usage, comparator);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerAsserter expected(String... expected) {
     String[] expectation = expected == null || expected.length == 0 ? new String[] {""} : expected;
-    return newBoltResult(output, expectation, duration, comparator, error);
+    return newBoltResult(output, expectation, duration, comparator, error).usage(usage);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerAsserter expected(InputStreamSupplier supplier) {
-    return newBoltResult(output, supplier, encoding, duration, comparator, error);
+    return newBoltResult(output, supplier, encoding, setting, duration, comparator, error)
+        .usage(usage);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerAsserter expected(InputStreamSupplier supplier, Charset charset) {
-    return newBoltResult(output, supplier, charset, duration, comparator, error);
+    return newBoltResult(output, supplier, charset, setting, duration, comparator, error)
+        .usage(usage);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerAsserter loadExpectation(String resourceName, Class<?> withClass) {
-    return newBoltResult(output, resourceName, withClass, encoding, duration, comparator, error);
+    return newBoltResult(
+            output, resourceName, withClass, encoding, setting, duration, comparator, error)
+        .usage(usage);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerAsserter loadExpectation(String resourceName, Class<?> withClass, Charset charset) {
-    return newBoltResult(output, resourceName, withClass, charset, duration, comparator, error);
+    return newBoltResult(
+            output, resourceName, withClass, charset, setting, duration, comparator, error)
+        .usage(usage);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerAsserter> expectedAsync(Executor executor, String... expected) {
+    return supplyAsync(() -> expected(expected), executor, this::newErrorResult);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerAsserter> expectedAsync(
+      InputStreamSupplier supplier, Executor executor) {
+    return supplyAsync(() -> expected(supplier), executor, this::newErrorResult);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerAsserter> expectedAsync(
+      InputStreamSupplier supplier, Charset charset, Executor executor) {
+    return supplyAsync(() -> expected(supplier, charset), executor, this::newErrorResult);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Executor executor) {
+    return supplyAsync(
+        () -> loadExpectation(resourceName, withClass), executor, this::newErrorResult);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Charset charset, Executor executor) {
+    return supplyAsync(
+        () -> loadExpectation(resourceName, withClass, charset), executor, this::newErrorResult);
+  }
+
+  /**
+   * Returns the execution result for the comparison of a line matcher.
+   *
+   * @param matcher line matcher that aborted the program, or that completed its comparison
+   * @return {@link app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  RunnerAsserter compared(BoltLineMatcher matcher) {
+    final String[] expected = matcher.expected();
+    final String message = matcher.message();
+    if (message == null) {
+      return new BoltResult(output, expected, duration).usage(usage);
+    }
+
+    final int offendingIndex = matcher.offendingIndex();
+    return new BoltResult(output, expected, duration, offendingIndex, message).usage(usage);
+  }
+
+  /**
+   * Create an execution result for an error that prevented the comparison.
+   *
+   * <p>An existing program error takes precedence over the comparison error.
+   *
+   * @param asyncError comparison error
+   * @return {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded with the error
+   * @since 12.0.0
+   */
+  private RunnerAsserter newErrorResult(RunnerException asyncError) {
+    final Exception exception = error != null ? error : asyncError;
+    return new BoltResult(output, new String[0], duration, exception).usage(usage);
   }
 }
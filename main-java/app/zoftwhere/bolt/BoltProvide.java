@@ -1,21 +1,25 @@
 package app.zoftwhere.bolt;
 
 import static app.zoftwhere.bolt.BoltReader.readArray;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
-import java.io.ByteArrayOutputStream;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
 
@@ -25,7 +29,7 @@ import java.util.Scanner;
  * <p>This is a package-private interface for providing default functionality.
  *
  * @author Osmund
- * @version 11.3.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 interface BoltProvide {
@@ -66,6 +70,25 @@ interface BoltProvide {
     return new BoltInputStream(inputStream, source, destination);
   }
 
+  /**
+   * Return a new {@link java.io.InputStream} supplier for a {@link java.lang.String} array.
+   *
+   * @param input input {@link java.lang.String} array
+   * @param charset character encoding for {@link java.io.InputStream}
+   * @param setting execution settings
+   * @return {@link java.io.InputStream} supplier, over pre-encoded bytes if specified by settings
+   * @since 12.0.0
+   */
+  default InputStreamSupplier newArraySupplier(
+      String[] input, Charset charset, BoltSetting setting) {
+    if (!setting.isPreEncodeInput()) {
+      return () -> new BoltArrayInputStream(input, charset);
+    }
+
+    final byte[] data = BoltArrayInputStream.encode(input, charset);
+    return () -> new ByteArrayInputStream(data);
+  }
+
   /**
    * Return a new {@link java.util.Scanner}.
    *
@@ -118,6 +141,34 @@ interface BoltProvide {
     return program != null ? (arguments, input, output) -> program.call(input, output) : null;
   }
 
+  /**
+   * Return a new {@link app.zoftwhere.bolt.RunnerTokenizer}.
+   *
+   * <p>Input in a character encoding other than UTF-8 or US-ASCII is transcoded to UTF-8, which the
+   * tokenizer reads.
+   *
+   * @param inputStream input stream
+   * @param charset input stream character encoding
+   * @return {@link app.zoftwhere.bolt.RunnerTokenizer} for input stream
+   * @since 12.0.0
+   */
+  default RunnerTokenizer newTokenizer(InputStream inputStream, Charset charset) {
+    final boolean compatible = UTF_8.equals(charset) || US_ASCII.equals(charset);
+    return new RunnerTokenizer(
+        compatible ? inputStream : newInputStream(inputStream, charset, UTF_8));
+  }
+
+  /**
+   * Create a fast-IO program proxy.
+   *
+   * @param program fast-IO program without arguments
+   * @return fast-IO proxy program with arguments
+   * @since 12.0.0
+   */
+  default RunFastArgued proxyRunFast(RunFast program) {
+    return program != null ? (arguments, in, out) -> program.call(in, out) : null;
+  }
+
   /**
    * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for program.
    *
@@ -132,7 +183,11 @@ interface BoltProvide {
 
     return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> {
       try (Scanner scanner = newScanner(inputStream, inputCharset)) {
-        try (PrintStream out = newPrintStream(outputStream, outputCharset)) {
+        // With character capture, the print stream appends to the capture character buffer.
+        try (PrintStream out =
+            outputStream instanceof BoltCharOutputStream
+                ? ((BoltCharOutputStream) outputStream).newPrintStream()
+                : newPrintStream(outputStream, outputCharset)) {
           program.call(arguments, scanner, out);
         }
       } catch (Exception e) {
@@ -164,10 +219,119 @@ interface BoltProvide {
     };
   }
 
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for program.
+   *
+   * @param program fast-IO program with arguments (or proxy)
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if program non-null, null otherwise
+   * @since 12.0.0
+   */
+  default BoltExecutor buildFastExecutor(RunFastArgued program) {
+    if (program == null) {
+      return null;
+    }
+
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> {
+      try (RunnerTokenizer in = newTokenizer(inputStream, inputCharset)) {
+        try (RunnerWriter out = new RunnerWriter(outputStream, outputCharset)) {
+          program.call(arguments, in, out);
+        }
+      } catch (Exception e) {
+        return e;
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a system-stream program.
+   *
+   * <p>The standard input and standard output are routed to the program input and output, for the
+   * executing thread and the threads it starts. The program input is transcoded to the character
+   * encoding of the program, as for an input-output-stream program.
+   *
+   * @param program system-stream program
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if program non-null, null otherwise
+   * @since 12.0.0
+   */
+  default BoltExecutor buildSystemExecutor(RunSystem program) {
+    if (program == null) {
+      return null;
+    }
+
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> {
+      try (InputStream stream = newInputStream(inputStream, inputCharset, outputCharset);
+          PrintStream out = newPrintStream(outputStream, outputCharset)) {
+        final String[] programArguments = arguments != null ? arguments : new String[0];
+        BoltSystemStreams.route(stream, out, () -> program.accept(programArguments));
+      } catch (Exception e) {
+        return e;
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a process program.
+   *
+   * <p>The program input is transcoded to the character encoding of the process, as for an
+   * input-output-stream program.
+   *
+   * @param command process command, and its arguments
+   * @param setting execution settings
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if command non-null, null otherwise
+   * @since 12.0.0
+   */
+  default BoltExecutor buildProcessExecutor(List<String> command, BoltSetting setting) {
+    final BoltExecutor process = BoltProcess.executor(command, setting);
+    if (process == null) {
+      return null;
+    }
+
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) ->
+        process.execute(
+            arguments,
+            inputCharset,
+            newInputStream(inputStream, inputCharset, outputCharset),
+            outputCharset,
+            outputStream);
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a main class program, run on the pool of
+   * worker Java virtual machines, or in process if specified.
+   *
+   * <p>The program input is transcoded to the character encoding of the program, as for an
+   * input-output-stream program.
+   *
+   * @param className main class name
+   * @param setting execution settings
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if class name non-null, null otherwise
+   * @since 12.0.0
+   */
+  default BoltExecutor buildMainExecutor(String className, BoltSetting setting) {
+    final BoltExecutor main =
+        setting.isInProcessMain()
+            ? BoltClassLoader.executor(className)
+            : BoltWorkerPool.executor(className);
+    if (main == null) {
+      return null;
+    }
+
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) ->
+        main.execute(
+            arguments,
+            inputCharset,
+            newInputStream(inputStream, inputCharset, outputCharset),
+            outputCharset,
+            outputStream);
+  }
+
   /**
    * Returns the program output.
    *
    * @param encoding default character encoding
+   * @param setting execution settings
    * @param arguments program argument array
    * @param inputCharset character encoding for program input {@link java.io.InputStream}
    * @param streamSupplier {@link java.io.InputStream} supplier for program input
@@ -175,63 +339,174 @@ interface BoltProvide {
    * @param executor program executor
    * @param error execution error
    * @return {@link app.zoftwhere.bolt.BoltProgramOutput}
-   * @since 11.0.0
+   * @since 12.0.0
    */
   default BoltProgramOutput buildOutput(
       Charset encoding,
+      BoltSetting setting,
       String[] arguments,
       Charset inputCharset,
       InputStreamSupplier streamSupplier,
       Charset outputCharset,
       BoltExecutor executor,
       Exception error) {
+    return buildOutput(
+        encoding,
+        setting,
+        arguments,
+        inputCharset,
+        streamSupplier,
+        outputCharset,
+        executor,
+        error,
+        null);
+  }
+
+  /**
+   * Returns the program output, comparing it with the expectation while the program is running.
+   *
+   * <p>If the line matcher aborts the program on mismatch, the program error is discarded, and the
+   * line matcher reports the mismatch.
+   *
+   * @param encoding default character encoding
+   * @param setting execution settings
+   * @param arguments program argument array
+   * @param inputCharset character encoding for program input {@link java.io.InputStream}
+   * @param streamSupplier {@link java.io.InputStream} supplier for program input
+   * @param outputCharset character encoding for program output
+   * @param executor program executor
+   * @param error execution error
+   * @param matcher line matcher for the program output, or null for none
+   * @return {@link app.zoftwhere.bolt.BoltProgramOutput}
+   * @since 12.0.0
+   */
+  default BoltProgramOutput buildOutput(
+      Charset encoding,
+      BoltSetting setting,
+      String[] arguments,
+      Charset inputCharset,
+      InputStreamSupplier streamSupplier,
+      Charset outputCharset,
+      BoltExecutor executor,
+      Exception error,
+      BoltLineMatcher matcher) {
     final String[] blank = new String[] {""};
     if (executor == null) {
       RunnerException nullError = new RunnerException("bolt.runner.program.null");
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, nullError);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, nullError);
     }
 
     if (inputCharset == null) {
       RunnerException nullError = new RunnerException("bolt.runner.input.charset.null");
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, nullError);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, nullError);
     }
 
     if (outputCharset == null) {
       RunnerException nullError = new RunnerException("bolt.runner.output.charset.null");
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, nullError);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, nullError);
     }
 
     if (streamSupplier == null) {
       RunnerException nullError = new RunnerException("bolt.runner.input.stream.supplier.null");
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, nullError);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, nullError);
     }
 
     if (error != null) {
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, error);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, error);
     }
 
     try (InputStream inputStream = streamSupplier.get()) {
       if (inputStream == null) {
         RunnerException nullError = new RunnerException("bolt.runner.load.input.input.stream.null");
-        return new BoltProgramOutput(encoding, blank, Duration.ZERO, nullError);
+        return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, nullError);
+      }
+
+      BoltOutputStream outputStream =
+          new BoltOutputStream(setting.spillThreshold(), setting.outputLimit());
+      final BoltPipeline pipeline =
+          matcher != null && !matcher.isAbort() ? new BoltPipeline(matcher) : null;
+      final BoltCharOutputStream charStream =
+          matcher == null && setting.isCharCaptured(outputCharset)
+              ? new BoltCharOutputStream(outputStream, outputCharset)
+              : null;
+      final OutputStream capture;
+      if (pipeline != null) {
+        capture = pipeline.wrap(outputStream);
+      } else if (matcher != null) {
+        capture = matcher.wrap(outputStream);
+      } else if (charStream != null) {
+        capture = charStream;
+      } else {
+        capture = outputStream;
       }
+      try {
+        // Call the executor.
+        final BoltUsage.Meter meter =
+            setting.memoryLimit() >= 0 ? BoltUsage.memoryMeter() : BoltUsage.meter();
+        final BoltExecutor metered = meter.wrap(executor);
 
-      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long from = System.nanoTime();
+        final Exception runError;
+        if (setting.isWatched()) {
+          runError =
+              BoltWatchdog.execute(
+                  metered,
+                  meter,
+                  setting.timeLimit(),
+                  setting.memoryLimit(),
+                  setting.isVirtualThreads(),
+                  arguments,
+                  inputCharset,
+                  inputStream,
+                  outputCharset,
+                  capture);
+        } else if (setting.isVirtualThreads()) {
+          runError =
+              BoltDispatcher.execute(
+                  metered, arguments, inputCharset, inputStream, outputCharset, capture);
+        } else {
+          runError = metered.execute(arguments, inputCharset, inputStream, outputCharset, capture);
+        }
+        long to = System.nanoTime();
+        final boolean pipelined = pipeline != null && pipeline.finish();
+
+        // Execution duration calculation is correct if duration is less than 292 years.
+        Duration time = Duration.ofNanos(to - from);
 
-      // Call the executor.
-      Instant from = Instant.now();
-      Exception runError =
-          executor.execute(arguments, inputCharset, inputStream, outputCharset, outputStream);
-      Instant to = Instant.now();
+        if (outputStream.failure() != null) {
+          RunnerException captureError =
+              new RunnerException("bolt.runner.output.capture", outputStream.failure());
+          return new BoltProgramOutput(encoding, setting, blank, time, captureError);
+        }
 
-      // Execution duration calculation is correct if duration is less than 292 years.
-      Duration time = Duration.ofNanos(from.until(to, ChronoUnit.NANOS));
+        // The output limit, and a mismatch abort, take precedence over the program error, as the
+        // program may have caught or wrapped them.
+        final Exception limitError = outputStream.exceededLimit();
+        final boolean mismatch = matcher != null && matcher.isMismatch();
+        final Exception outputError = limitError != null ? limitError : mismatch ? null : runError;
 
-      final byte[] data = outputStream.toByteArray();
-      final String[] output = readArray(() -> new BoltReader(data, outputCharset));
-      return new BoltProgramOutput(encoding, output, time, runError);
+        // The pipelined output is used only if the pipeline completed, and the program succeeded.
+        final String[] output;
+        if (pipelined && outputError == null) {
+          output = matcher.output();
+        } else if (charStream != null) {
+          output = charStream.output();
+        } else {
+          if (pipeline != null) {
+            matcher.discard();
+          }
+          final InputStream data = outputStream.newInputStream();
+          output = readArray(() -> new BoltReader(data, outputCharset));
+        }
+        return new BoltProgramOutput(encoding, setting, output, time, meter.usage(), outputError);
+      } finally {
+        if (pipeline != null) {
+          pipeline.close();
+        }
+        outputStream.release();
+      }
     } catch (Exception runError) {
-      return new BoltProgramOutput(encoding, blank, Duration.ZERO, runError);
+      return new BoltProgramOutput(encoding, setting, blank, Duration.ZERO, runError);
     }
   }
 }
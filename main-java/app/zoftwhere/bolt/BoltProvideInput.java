@@ -1,18 +1,26 @@
 package app.zoftwhere.bolt;
 
 import static app.zoftwhere.bolt.BoltUtility.arrayHasNull;
+import static app.zoftwhere.bolt.BoltUtility.supplyAsync;
 import static java.util.Objects.requireNonNull;
 
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerLoader;
 import app.zoftwhere.bolt.api.RunnerProgramInput;
 import app.zoftwhere.bolt.api.RunnerProgramOutput;
 import app.zoftwhere.bolt.api.RunnerProvideInput;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Bolt Provide Input class.
@@ -20,7 +28,7 @@ import java.nio.charset.Charset;
  * <p>This is a package-private class for providing its functionality.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 class BoltProvideInput
@@ -28,6 +36,8 @@ class BoltProvideInput
 
   private final Charset encoding;
 
+  private final BoltSetting setting;
+
   private final String[] arguments;
 
   private final Charset inputCharset;
@@ -43,10 +53,12 @@ class BoltProvideInput
    * first.
    *
    * @param encoding character encoding to use by default when not specified
-   * @since 11.0.0
+   * @param setting execution settings
+   * @since 12.0.0
    */
-  BoltProvideInput(Charset encoding) {
+  BoltProvideInput(Charset encoding, BoltSetting setting) {
     this.encoding = requireNonNull(encoding);
+    this.setting = requireNonNull(setting);
     this.arguments = null;
     this.inputCharset = encoding;
     this.supplier = () -> null;
@@ -57,6 +69,7 @@ class BoltProvideInput
    * Constructor for BoltProvideInput (private).
    *
    * @param encoding character encoding to use by default when not specified
+   * @param setting execution settings
    * @param arguments program arguments
    * @param inputCharset character encoding of {@link java.io.InputStream}
    * @param supplier {@link java.io.InputStream} supplier for program input
@@ -65,11 +78,13 @@ class BoltProvideInput
    */
   private BoltProvideInput(
       Charset encoding,
+      BoltSetting setting,
       String[] arguments,
       Charset inputCharset,
       InputStreamSupplier supplier,
       RunnerException error) {
     this.encoding = encoding;
+    this.setting = setting;
     this.arguments = arguments;
     this.inputCharset = inputCharset;
     this.supplier = supplier;
@@ -87,33 +102,60 @@ class BoltProvideInput
   public RunnerProgramInput input(Charset charset, String... input) {
     if (charset == null) {
       //noinspection ConstantConditions
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     if (input == null) {
       RunnerException error = new RunnerException("bolt.runner.variable.argument.input.null");
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     if (arrayHasNull(input)) {
       RunnerException error = new RunnerException("bolt.runner.variable.argument.input.has.null");
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
-    InputStreamSupplier supplier = () -> new BoltArrayInputStream(input, charset);
-    return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+    InputStreamSupplier supplier = newArraySupplier(input, charset, setting);
+    return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerProgramInput input(InputStreamSupplier supplier) {
-    return new BoltProvideInput(encoding, arguments, inputCharset, supplier, error);
+    return new BoltProvideInput(encoding, setting, arguments, inputCharset, supplier, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerProgramInput input(InputStreamSupplier supplier, Charset charset) {
-    return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+    return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramInput input(RunnerInput input) {
+    return input(input, input != null ? input.charset(encoding) : encoding);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramInput input(RunnerInput input, Charset charset) {
+    if (charset == null) {
+      //noinspection ConstantConditions
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
+    }
+
+    if (input == null) {
+      RunnerException error = new RunnerException("bolt.runner.input.fixture.null");
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
+    }
+
+    if (input.error() != null) {
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, input.error());
+    }
+
+    InputStreamSupplier supplier = input.supplier(charset);
+    return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
   }
 
   /** {@inheritDoc} */
@@ -127,32 +169,33 @@ class BoltProvideInput
   public RunnerProgramInput loadInput(String resourceName, Class<?> withClass, Charset charset) {
     if (charset == null) {
       //noinspection ConstantConditions
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     if (resourceName == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.name.null");
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     if (withClass == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.class.null");
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     if (withClass.getResource(resourceName) == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.not.found");
-      return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+      return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
     }
 
     InputStreamSupplier supplier = () -> withClass.getResourceAsStream(resourceName);
-    return new BoltProvideInput(encoding, arguments, charset, supplier, error);
+    return new BoltProvideInput(encoding, setting, arguments, charset, supplier, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerLoader argument(String... arguments) {
-    return new BoltProvideInput(encoding, emptyOnNull(arguments), inputCharset, supplier, error);
+    return new BoltProvideInput(
+        encoding, setting, emptyOnNull(arguments), inputCharset, supplier, error);
   }
 
   /** {@inheritDoc} */
@@ -165,7 +208,8 @@ class BoltProvideInput
   @Override
   public RunnerProgramOutput run(Charset charset, RunStandard program) {
     BoltExecutor executor = buildStandardExecutor(proxyRunStandard(program));
-    return buildOutput(encoding, arguments, inputCharset, supplier, charset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -178,7 +222,78 @@ class BoltProvideInput
   @Override
   public RunnerProgramOutput runConsole(Charset charset, RunConsole program) {
     BoltExecutor executor = buildConsoleExecutor(proxyRunConsole(program));
-    return buildOutput(encoding, arguments, inputCharset, supplier, charset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runProcess(List<String> command) {
+    return runProcess(encoding, command);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runProcess(Charset charset, List<String> command) {
+    BoltExecutor executor = buildProcessExecutor(command, setting);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runMain(String className) {
+    return runMain(encoding, className);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runMain(Charset charset, String className) {
+    BoltExecutor executor = buildMainExecutor(className, setting);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runSystem(RunSystem program) {
+    return runSystem(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runSystem(Charset charset, RunSystem program) {
+    BoltExecutor executor = buildSystemExecutor(program);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runFast(RunFast program) {
+    return runFast(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runFast(Charset charset, RunFast program) {
+    BoltExecutor executor = buildFastExecutor(proxyRunFast(program));
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runFast(RunFastArgued program) {
+    return runFast(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput runFast(Charset charset, RunFastArgued program) {
+    BoltExecutor executor = buildFastExecutor(program);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -191,7 +306,8 @@ class BoltProvideInput
   @Override
   public RunnerProgramOutput run(Charset charset, RunStandardArgued program) {
     BoltExecutor executor = buildStandardExecutor(program);
-    return buildOutput(encoding, arguments, inputCharset, supplier, charset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -204,6 +320,141 @@ class BoltProvideInput
   @Override
   public RunnerProgramOutput runConsole(Charset charset, RunConsoleArgued program) {
     BoltExecutor executor = buildConsoleExecutor(program);
-    return buildOutput(encoding, arguments, inputCharset, supplier, charset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, inputCharset, supplier, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runAsync(RunStandard program, Executor executor) {
+    return runAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runAsync(
+      Charset charset, RunStandard program, Executor executor) {
+    return supplyAsync(() -> run(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      RunConsole program, Executor executor) {
+    return runConsoleAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      Charset charset, RunConsole program, Executor executor) {
+    return supplyAsync(() -> runConsole(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runAsync(
+      RunStandardArgued program, Executor executor) {
+    return runAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runAsync(
+      Charset charset, RunStandardArgued program, Executor executor) {
+    return supplyAsync(() -> run(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      RunConsoleArgued program, Executor executor) {
+    return runConsoleAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      Charset charset, RunConsoleArgued program, Executor executor) {
+    return supplyAsync(() -> runConsole(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runProcessAsync(
+      List<String> command, Executor executor) {
+    return runProcessAsync(encoding, command, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runProcessAsync(
+      Charset charset, List<String> command, Executor executor) {
+    return supplyAsync(() -> runProcess(charset, command), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runMainAsync(String className, Executor executor) {
+    return runMainAsync(encoding, className, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runMainAsync(
+      Charset charset, String className, Executor executor) {
+    return supplyAsync(() -> runMain(charset, className), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runSystemAsync(
+      RunSystem program, Executor executor) {
+    return runSystemAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runSystemAsync(
+      Charset charset, RunSystem program, Executor executor) {
+    return supplyAsync(() -> runSystem(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runFastAsync(RunFast program, Executor executor) {
+    return runFastAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runFastAsync(
+      Charset charset, RunFast program, Executor executor) {
+    return supplyAsync(() -> runFast(charset, program), executor, this::newErrorOutput);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runFastAsync(
+      RunFastArgued program, Executor executor) {
+    return runFastAsync(encoding, program, executor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public CompletableFuture<RunnerProgramOutput> runFastAsync(
+      Charset charset, RunFastArgued program, Executor executor) {
+    return supplyAsync(() -> runFast(charset, program), executor, this::newErrorOutput);
+  }
+
+  /**
+   * Create a program output for an error that prevented the program from being executed.
+   *
+   * @param error execution error
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput} loaded with the error
+   * @since 12.0.0
+   */
+  private RunnerProgramOutput newErrorOutput(RunnerException error) {
+    return new BoltProgramOutput(encoding, setting, new String[] {""}, Duration.ZERO, error);
   }
 }
@@ -1,18 +1,39 @@
 package app.zoftwhere.bolt;
 
+import static app.zoftwhere.bolt.BoltReader.readArray;
 import static app.zoftwhere.bolt.BoltUtility.arrayHasNull;
 import static java.util.Objects.requireNonNull;
 
+import app.zoftwhere.bolt.api.RunnerAsserter;
+import app.zoftwhere.bolt.api.RunnerBatchResult;
+import app.zoftwhere.bolt.api.RunnerBenchmarkResult;
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerPreProgram;
 import app.zoftwhere.bolt.api.RunnerProgram;
 import app.zoftwhere.bolt.api.RunnerProgramOutput;
 import app.zoftwhere.bolt.api.RunnerProvideProgram;
+import app.zoftwhere.bolt.api.RunnerResult;
+import java.net.URL;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Bolt Provide Program class.
@@ -21,7 +42,7 @@ import java.nio.charset.Charset;
  * implementation.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 class BoltProvideProgram
@@ -29,6 +50,8 @@ class BoltProvideProgram
 
   private final Charset encoding;
 
+  private final BoltSetting setting;
+
   private final String[] arguments;
 
   private final Charset outputCharset;
@@ -44,10 +67,12 @@ class BoltProvideProgram
    * first.
    *
    * @param encoding default character encoding
-   * @since 11.0.0
+   * @param setting execution settings
+   * @since 12.0.0
    */
-  BoltProvideProgram(Charset encoding) {
+  BoltProvideProgram(Charset encoding, BoltSetting setting) {
     this.encoding = requireNonNull(encoding);
+    this.setting = requireNonNull(setting);
     this.arguments = null;
     this.executor = (arguments, inputCharset, inputStream, outputCharset, outputStream) -> null;
     this.outputCharset = encoding;
@@ -58,6 +83,7 @@ class BoltProvideProgram
    * Constructor for BoltProvideProgram (private).
    *
    * @param encoding character encoding to use by default when not specified
+   * @param setting execution settings
    * @param arguments program argument array
    * @param charset character encoding of program output
    * @param executor program executor interface
@@ -66,11 +92,13 @@ class BoltProvideProgram
    */
   private BoltProvideProgram(
       Charset encoding,
+      BoltSetting setting,
       String[] arguments,
       Charset charset,
       BoltExecutor executor,
       RunnerException error) {
     this.encoding = encoding;
+    this.setting = setting;
     this.arguments = arguments;
     this.outputCharset = charset;
     this.executor = executor;
@@ -87,7 +115,7 @@ class BoltProvideProgram
   @Override
   public RunnerProgram run(Charset charset, RunStandard program) {
     BoltExecutor executor = buildStandardExecutor(proxyRunStandard(program));
-    return new BoltProvideProgram(encoding, arguments, charset, executor, error);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -100,7 +128,72 @@ class BoltProvideProgram
   @Override
   public RunnerProgram runConsole(Charset charset, RunConsole program) {
     BoltExecutor executor = buildConsoleExecutor(proxyRunConsole(program));
-    return new BoltProvideProgram(encoding, arguments, charset, executor, error);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runProcess(List<String> command) {
+    return runProcess(encoding, command);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runProcess(Charset charset, List<String> command) {
+    BoltExecutor executor = buildProcessExecutor(command, setting);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runMain(String className) {
+    return runMain(encoding, className);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runMain(Charset charset, String className) {
+    BoltExecutor executor = buildMainExecutor(className, setting);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runSystem(RunSystem program) {
+    return runSystem(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runSystem(Charset charset, RunSystem program) {
+    BoltExecutor executor = buildSystemExecutor(program);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runFast(RunFast program) {
+    return runFast(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runFast(Charset charset, RunFast program) {
+    BoltExecutor executor = buildFastExecutor(proxyRunFast(program));
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runFast(RunFastArgued program) {
+    return runFast(encoding, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runFast(Charset charset, RunFastArgued program) {
+    BoltExecutor executor = buildFastExecutor(program);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -113,7 +206,7 @@ class BoltProvideProgram
   @Override
   public RunnerPreProgram run(Charset charset, RunStandardArgued program) {
     BoltExecutor executor = buildStandardExecutor(program);
-    return new BoltProvideProgram(encoding, arguments, charset, executor, error);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -126,13 +219,14 @@ class BoltProvideProgram
   @Override
   public RunnerPreProgram runConsole(Charset charset, RunConsoleArgued program) {
     BoltExecutor executor = buildConsoleExecutor(program);
-    return new BoltProvideProgram(encoding, arguments, charset, executor, error);
+    return new BoltProvideProgram(encoding, setting, arguments, charset, executor, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerProgram argument(String... arguments) {
-    return new BoltProvideProgram(encoding, emptyOnNull(arguments), outputCharset, executor, error);
+    return new BoltProvideProgram(
+        encoding, setting, emptyOnNull(arguments), outputCharset, executor, error);
   }
 
   /** {@inheritDoc} */
@@ -146,33 +240,89 @@ class BoltProvideProgram
   public RunnerProgramOutput input(Charset charset, String... input) {
     if (charset == null) {
       //noinspection ConstantConditions
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     if (input == null) {
       RunnerException error = new RunnerException("bolt.runner.variable.argument.input.null");
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     if (arrayHasNull(input)) {
       RunnerException error = new RunnerException("bolt.runner.variable.argument.input.has.null");
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
-    InputStreamSupplier supplier = () -> new BoltArrayInputStream(input, charset);
-    return buildOutput(encoding, arguments, charset, supplier, outputCharset, executor, error);
+    InputStreamSupplier supplier = newArraySupplier(input, charset, setting);
+    return buildOutput(
+        encoding, setting, arguments, charset, supplier, outputCharset, executor, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerProgramOutput input(InputStreamSupplier supplier) {
-    return buildOutput(encoding, arguments, encoding, supplier, outputCharset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, encoding, supplier, outputCharset, executor, error);
   }
 
   /** {@inheritDoc} */
   @Override
   public RunnerProgramOutput input(InputStreamSupplier supplier, Charset charset) {
-    return buildOutput(encoding, arguments, charset, supplier, outputCharset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, charset, supplier, outputCharset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput input(RunnerInput input) {
+    return input(input, input != null ? input.charset(encoding) : encoding);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramOutput input(RunnerInput input, Charset charset) {
+    return input(input, charset, null);
+  }
+
+  /**
+   * Specify the input, with a line matcher for the program output.
+   *
+   * @param input {@link app.zoftwhere.bolt.RunnerInput} fixture for program input
+   * @param charset character encoding of program input {@link java.io.InputStream}
+   * @param matcher line matcher for the program output, or null for none
+   * @return {@link app.zoftwhere.bolt.BoltProgramOutput}
+   */
+  private BoltProgramOutput input(RunnerInput input, Charset charset, BoltLineMatcher matcher) {
+    if (charset == null) {
+      //noinspection ConstantConditions
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
+    }
+
+    if (input == null) {
+      RunnerException error = new RunnerException("bolt.runner.input.fixture.null");
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
+    }
+
+    if (input.error() != null) {
+      return buildOutput(
+          encoding,
+          setting,
+          arguments,
+          charset,
+          () -> null,
+          outputCharset,
+          executor,
+          input.error());
+    }
+
+    InputStreamSupplier supplier = input.supplier(charset);
+    return buildOutput(
+        encoding, setting, arguments, charset, supplier, outputCharset, executor, error, matcher);
   }
 
   /** {@inheritDoc} */
@@ -186,25 +336,293 @@ class BoltProvideProgram
   public RunnerProgramOutput loadInput(String resourceName, Class<?> withClass, Charset charset) {
     if (charset == null) {
       //noinspection ConstantConditions
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     if (resourceName == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.name.null");
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     if (withClass == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.class.null");
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     if (withClass.getResource(resourceName) == null) {
       RunnerException error = new RunnerException("bolt.runner.load.input.resource.not.found");
-      return buildOutput(encoding, arguments, charset, () -> null, outputCharset, executor, error);
+      return buildOutput(
+          encoding, setting, arguments, charset, () -> null, outputCharset, executor, error);
     }
 
     InputStreamSupplier supplier = () -> withClass.getResourceAsStream(resourceName);
-    return buildOutput(encoding, arguments, charset, supplier, outputCharset, executor, error);
+    return buildOutput(
+        encoding, setting, arguments, charset, supplier, outputCharset, executor, error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerBatchResult batch(List<RunnerCase> cases) {
+    ExecutorService executorService =
+        setting.isVirtualThreads() ? BoltDispatcher.executor() : ForkJoinPool.commonPool();
+    return batch(cases, executorService, false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerBatchResult batch(List<RunnerCase> cases, ExecutorService executorService) {
+    return batch(cases, executorService, false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerBatchResult batch(
+      List<RunnerCase> cases, ExecutorService executorService, boolean failFast) {
+    if (cases == null) {
+      RunnerException error = new RunnerException("bolt.runner.batch.cases.null");
+      return new BoltBatchResult(Collections.emptyList(), error);
+    }
+
+    if (executorService == null) {
+      RunnerException error = new RunnerException("bolt.runner.batch.executor.null");
+      return new BoltBatchResult(Collections.emptyList(), error);
+    }
+
+    final AtomicBoolean offended = new AtomicBoolean(false);
+    final List<Future<RunnerResult>> futures = new ArrayList<>(cases.size());
+    final List<RunnerResult> results = new ArrayList<>(cases.size());
+    try {
+      for (RunnerCase runnerCase : cases) {
+        futures.add(executorService.submit(() -> runCase(runnerCase, failFast, offended)));
+      }
+    } catch (RejectedExecutionException e) {
+      offended.set(true);
+      futures.forEach(future -> future.cancel(false));
+      RunnerException error = new RunnerException("bolt.runner.batch.rejected", e);
+      return new BoltBatchResult(Collections.emptyList(), error);
+    }
+
+    for (int index = 0; index < futures.size(); index++) {
+      try {
+        results.add(futures.get(index).get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        offended.set(true);
+        futures.forEach(future -> future.cancel(false));
+        while (results.size() < futures.size()) {
+          results.add(newErrorResult(BoltBatchResult.CANCELLED, null));
+        }
+        RunnerException error = new RunnerException("bolt.runner.batch.interrupted", e);
+        return new BoltBatchResult(results, error);
+      } catch (CancellationException e) {
+        results.add(newErrorResult(BoltBatchResult.CANCELLED, e));
+      } catch (ExecutionException e) {
+        results.add(newErrorResult("bolt.runner.batch.execution", e.getCause()));
+      }
+    }
+
+    return new BoltBatchResult(results, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerBenchmarkResult benchmark(RunnerCase runnerCase) {
+    return benchmark(
+        runnerCase, BoltBenchmarkResult.DEFAULT_WARMUP, BoltBenchmarkResult.DEFAULT_ITERATIONS);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerBenchmarkResult benchmark(RunnerCase runnerCase, int warmup, int iterations) {
+    if (runnerCase == null) {
+      RunnerException error = new RunnerException("bolt.runner.benchmark.case.null");
+      return new BoltBenchmarkResult(newErrorResult(error), error, 0, new long[0]);
+    }
+
+    if (warmup < 0) {
+      RunnerException error = new RunnerException("bolt.runner.benchmark.warmup.negative");
+      return new BoltBenchmarkResult(newErrorResult(error), error, 0, new long[0]);
+    }
+
+    if (iterations < 1) {
+      RunnerException error = new RunnerException("bolt.runner.benchmark.iterations.invalid");
+      return new BoltBenchmarkResult(newErrorResult(error), error, 0, new long[0]);
+    }
+
+    for (int index = 0; index < warmup; index++) {
+      final RunnerProgramOutput programOutput = input(runnerCase.input());
+      if (programOutput.error().isPresent()) {
+        RunnerResult result = compare(programOutput, runnerCase).result();
+        return new BoltBenchmarkResult(result, null, index + 1, new long[0]);
+      }
+    }
+
+    final long[] samples = new long[iterations];
+    RunnerProgramOutput programOutput = null;
+    for (int index = 0; index < iterations; index++) {
+      programOutput = input(runnerCase.input());
+      if (programOutput.error().isPresent()) {
+        RunnerResult result = compare(programOutput, runnerCase).result();
+        return new BoltBenchmarkResult(result, null, warmup, Arrays.copyOf(samples, index));
+      }
+      samples[index] = programOutput.executionDuration().toNanos();
+    }
+
+    final RunnerResult result = compare(programOutput, runnerCase).result();
+    return new BoltBenchmarkResult(result, null, warmup, samples);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerAsserter verify(RunnerCase runnerCase) {
+    if (runnerCase == null) {
+      return newErrorResult("bolt.runner.verify.case.null", null);
+    }
+
+    return runCase(runnerCase);
+  }
+
+  /**
+   * Run the program for a single case of a batch.
+   *
+   * @param runnerCase program input-expectation case
+   * @param failFast whether to skip the case after an offence
+   * @param offended offence flag shared by the cases of the batch
+   * @return execution result for the case
+   */
+  private RunnerResult runCase(RunnerCase runnerCase, boolean failFast, AtomicBoolean offended) {
+    if (failFast && offended.get()) {
+      return newErrorResult(BoltBatchResult.CANCELLED, null);
+    }
+
+    final RunnerResult result = runBatchCase(runnerCase);
+    if (failFast && !result.isSuccess()) {
+      offended.set(true);
+    }
+    return result;
+  }
+
+  /**
+   * Run the program for a single case.
+   *
+   * @param runnerCase program input-expectation case
+   * @return execution result for the case
+   */
+  private RunnerResult runBatchCase(RunnerCase runnerCase) {
+    if (runnerCase == null) {
+      return newErrorResult("bolt.runner.batch.case.null", null);
+    }
+
+    return runCase(runnerCase).result();
+  }
+
+  /**
+   * Run the program for a single case, aborting it on mismatch, or pipelining the comparison, if
+   * specified by the runner setting.
+   *
+   * @param runnerCase program input-expectation case
+   * @return execution result for the case
+   */
+  private RunnerAsserter runCase(RunnerCase runnerCase) {
+    final boolean abort = setting.isAbortOnMismatch();
+    final boolean matched = abort || setting.isPipelineComparison();
+    final BoltLineMatcher matcher = matched ? newMatcher(runnerCase, abort) : null;
+    if (matcher == null) {
+      return compare(input(runnerCase.input()), runnerCase);
+    }
+
+    final RunnerInput input = runnerCase.input();
+    final Charset charset = input != null ? input.charset(encoding) : encoding;
+    final BoltProgramOutput programOutput = input(input, charset, matcher);
+    if (matcher.isMismatch()) {
+      return programOutput.compared(matcher);
+    }
+
+    if (matcher.isComplete() && !programOutput.error().isPresent()) {
+      return programOutput.compared(matcher);
+    }
+    return compare(programOutput, runnerCase);
+  }
+
+  /**
+   * Create a line matcher for the expectation of a case.
+   *
+   * <p>Expectation errors are left to the comparison after execution, so no line matcher is created
+   * for an expectation that cannot be resolved.
+   *
+   * @param runnerCase program input-expectation case
+   * @param abort {@code true} for abort mode, {@code false} for collect mode
+   * @return line matcher, or null if the expectation cannot be resolved
+   */
+  private BoltLineMatcher newMatcher(RunnerCase runnerCase, boolean abort) {
+    if (outputCharset == null) {
+      return null;
+    }
+
+    final String[] expected = runnerCase.expected();
+    if (expected != null) {
+      return !arrayHasNull(expected)
+          ? new BoltLineMatcher(expected, outputCharset, null, abort)
+          : null;
+    }
+
+    final String resourceName = runnerCase.resourceName();
+    final Class<?> withClass = runnerCase.withClass();
+    final Charset charset = runnerCase.charset(encoding);
+    if (resourceName == null || withClass == null || charset == null) {
+      return null;
+    }
+
+    final URL resource = withClass.getResource(resourceName);
+    if (resource == null) {
+      return null;
+    }
+
+    // Decoded expectations are cached on the resolved resource location.
+    final BoltExpectationCache cache = BoltExpectationCache.INSTANCE;
+    final ClassLoader loader = withClass.getClassLoader();
+    final String name = resource.toExternalForm();
+    String[] lines = setting.isStreamExpectation() ? null : cache.get(loader, name, charset);
+    if (lines == null) {
+      try {
+        lines =
+            readArray(() -> new BoltReader(withClass.getResourceAsStream(resourceName), charset));
+      } catch (RunnerException e) {
+        return null;
+      }
+      if (!setting.isStreamExpectation()) {
+        cache.put(loader, name, charset, lines);
+      }
+    }
+    return new BoltLineMatcher(lines, outputCharset, null, abort);
+  }
+
+  /**
+   * Compare the program output with the expectation of a case.
+   *
+   * @param programOutput program output
+   * @param runnerCase program input-expectation case
+   * @return execution result for the case
+   */
+  private RunnerAsserter compare(RunnerProgramOutput programOutput, RunnerCase runnerCase) {
+    if (runnerCase.expected() != null) {
+      return programOutput.expected(runnerCase.expected());
+    }
+
+    final String resourceName = runnerCase.resourceName();
+    final Class<?> withClass = runnerCase.withClass();
+    final Charset charset = runnerCase.charset(encoding);
+    return programOutput.loadExpectation(resourceName, withClass, charset);
+  }
+
+  private static BoltResult newErrorResult(String message, Throwable cause) {
+    return newErrorResult(new RunnerException(message, cause));
+  }
+
+  private static BoltResult newErrorResult(RunnerException error) {
+    return new BoltResult(new String[] {""}, new String[0], Duration.ZERO, error);
   }
 }
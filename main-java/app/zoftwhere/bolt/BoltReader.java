@@ -18,18 +18,27 @@ import java.util.function.Supplier;
  * <p>This is a package-private class for providing this functionality.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 4.0.0
  */
 class BoltReader implements Iterator<String>, AutoCloseable {
 
-  @SuppressWarnings("FieldCanBeLocal")
-  private final int defaultExpectedLineLength = 80;
+  /** Number of characters decoded per block read. */
+  private static final int BUFFER_SIZE = 8192;
 
   private final boolean autoClose;
 
   private final Reader reader;
 
+  /** Decoded character block. */
+  private final char[] buffer = new char[BUFFER_SIZE];
+
+  /** Index of the next character in the decoded block. */
+  private int index = 0;
+
+  /** Number of characters in the decoded block. */
+  private int size = 0;
+
   /** Last line empty. */
   private boolean lastLineEmpty = true;
 
@@ -102,7 +111,7 @@ class BoltReader implements Iterator<String>, AutoCloseable {
    */
   public boolean hasNext() {
     try {
-      return lastLineEmpty || reader.ready();
+      return lastLineEmpty || index < size || reader.ready();
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -119,41 +128,73 @@ class BoltReader implements Iterator<String>, AutoCloseable {
   }
 
   String readLine() throws IOException {
-    StringBuilder builder = new StringBuilder(defaultExpectedLineLength);
+    StringBuilder builder = null;
     lastLineEmpty = false;
 
-    while (true) {
-      int v = reader.read();
-
-      if (v == -1) {
-        break;
-      }
-
-      char c = (char) v;
-
-      if (c == '\n' && skipLF) {
-        skipLF = false;
-        lastLineEmpty = false;
-        continue;
-      } else {
+    while (index < size || fill()) {
+      if (skipLF) {
         skipLF = false;
+        if (buffer[index] == '\n') {
+          index++;
+          continue;
+        }
       }
 
-      if (c == '\n' || c == '\f' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
-        lastLineEmpty = true;
-        break;
+      final int from = index;
+      while (index < size) {
+        final char c = buffer[index];
+
+        if (isTerminator(c)) {
+          final int length = index - from;
+          index++;
+          skipLF = c == '\r';
+          lastLineEmpty = true;
+          if (builder == null) {
+            return new String(buffer, from, length);
+          }
+          return builder.append(buffer, from, length).toString();
+        }
+
+        index++;
       }
 
-      if (c == '\r') {
-        skipLF = true;
-        lastLineEmpty = true;
-        break;
+      // The line continues into the next block.
+      if (builder == null) {
+        builder = new StringBuilder(index - from + 80);
       }
+      builder.append(buffer, from, index - from);
+    }
+
+    return builder != null ? builder.toString() : "";
+  }
+
+  /**
+   * Check if the character terminates a line.
+   *
+   * @param c character to check
+   * @return {@code true} for a line terminator, {@code false} otherwise
+   */
+  private static boolean isTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\f' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  /**
+   * Decodes the next block of characters.
+   *
+   * @return {@code true} if characters were decoded, {@code false} at the end of the stream
+   * @throws IOException when cannot read from reader.
+   */
+  private boolean fill() throws IOException {
+    index = 0;
+    size = 0;
 
-      builder.append(c);
+    final int count = reader.read(buffer, 0, BUFFER_SIZE);
+    if (count == -1) {
+      return false;
     }
 
-    return builder.toString();
+    size = count;
+    return true;
   }
 
   private List<String> list() {
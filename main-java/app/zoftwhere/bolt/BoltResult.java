@@ -9,12 +9,16 @@ import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import app.zoftwhere.bolt.api.RunnerInterface.RunnerResultConsumer;
 import app.zoftwhere.bolt.api.RunnerResult;
 import java.io.InputStream;
+import java.net.URL;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Bolt execution result class.
@@ -22,7 +26,7 @@ import java.util.Optional;
  * <p>This is a package-private class for providing this functionality.
  *
  * @author Osmund
- * @version 11.3.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 class BoltResult implements RunnerResult, RunnerAsserter {
@@ -31,6 +35,8 @@ class BoltResult implements RunnerResult, RunnerAsserter {
 
   private final String[] expected;
 
+  private final int expectedOffset;
+
   private final int offendingIndex;
 
   private final String message;
@@ -39,6 +45,8 @@ class BoltResult implements RunnerResult, RunnerAsserter {
 
   private final Duration executionDuration;
 
+  private final BoltUsage usage;
+
   /**
    * Constructor for BoltResult (package-private).
    *
@@ -52,7 +60,9 @@ class BoltResult implements RunnerResult, RunnerAsserter {
   BoltResult(String[] output, String[] expected, Duration duration) {
     this.output = requireNonNull(output);
     this.expected = requireNonNull(expected);
+    this.expectedOffset = 0;
     this.executionDuration = requireNonNull(duration);
+    this.usage = BoltUsage.UNAVAILABLE;
     this.offendingIndex = -1;
     this.message = null;
     this.error = null;
@@ -74,13 +84,45 @@ class BoltResult implements RunnerResult, RunnerAsserter {
       String[] output, String[] expected, Duration duration, int offendingIndex, String message) {
     this.output = requireNonNull(output);
     this.expected = requireNonNull(expected);
+    this.expectedOffset = 0;
     this.executionDuration = requireNonNull(duration);
+    this.usage = BoltUsage.UNAVAILABLE;
     //noinspection ManualMinMaxCalculation
     this.offendingIndex = offendingIndex >= -1 ? offendingIndex : -1;
     this.message = requireNonNull(message);
     this.error = null;
   }
 
+  /**
+   * Constructor for BoltResult (package-private).
+   *
+   * <p>Creates an instance for a streamed comparison in a success state or failure state.
+   *
+   * @param output program (actual) output lines
+   * @param expected retained expected output lines
+   * @param expectedOffset zero-based index of the first retained expected line
+   * @param duration program execution duration
+   * @param offendingIndex zero-based index of erroneous line, if any, -1 otherwise.
+   * @param message program failure state message, null for success state
+   * @since 12.0.0
+   */
+  BoltResult(
+      String[] output,
+      String[] expected,
+      int expectedOffset,
+      Duration duration,
+      int offendingIndex,
+      String message) {
+    this.output = requireNonNull(output);
+    this.expected = requireNonNull(expected);
+    this.expectedOffset = Math.max(expectedOffset, 0);
+    this.executionDuration = requireNonNull(duration);
+    this.usage = BoltUsage.UNAVAILABLE;
+    this.offendingIndex = Math.max(offendingIndex, -1);
+    this.message = message;
+    this.error = null;
+  }
+
   /**
    * Constructor for BoltResult (package-private).
    *
@@ -95,12 +137,45 @@ class BoltResult implements RunnerResult, RunnerAsserter {
   BoltResult(String[] output, String[] expected, Duration duration, Exception error) {
     this.output = requireNonNull(output);
     this.expected = requireNonNull(expected);
+    this.expectedOffset = 0;
     this.executionDuration = requireNonNull(duration);
+    this.usage = BoltUsage.UNAVAILABLE;
     this.offendingIndex = -1;
     this.message = null;
     this.error = requireNonNull(error);
   }
 
+  /**
+   * Constructor for BoltResult (private).
+   *
+   * <p>Creates a copy of the execution result, with the resource usage specified.
+   *
+   * @param result execution result to copy
+   * @param usage resource usage of the program thread
+   * @since 12.0.0
+   */
+  private BoltResult(BoltResult result, BoltUsage usage) {
+    this.output = result.output;
+    this.expected = result.expected;
+    this.expectedOffset = result.expectedOffset;
+    this.executionDuration = result.executionDuration;
+    this.usage = requireNonNull(usage);
+    this.offendingIndex = result.offendingIndex;
+    this.message = result.message;
+    this.error = result.error;
+  }
+
+  /**
+   * Create a copy of the execution result, with the resource usage specified.
+   *
+   * @param usage resource usage of the program thread
+   * @return {@link app.zoftwhere.bolt.BoltResult}
+   * @since 12.0.0
+   */
+  BoltResult usage(BoltUsage usage) {
+    return new BoltResult(this, usage);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isSuccess() {
@@ -116,7 +191,25 @@ class BoltResult implements RunnerResult, RunnerAsserter {
   /** {@inheritDoc} */
   @Override
   public boolean isError() {
-    return error != null;
+    return error != null && !isLimitExceeded();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isTimeLimitExceeded() {
+    return error instanceof RunnerTimeLimitException;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isMemoryLimitExceeded() {
+    return error instanceof RunnerMemoryLimitException;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isOutputLimitExceeded() {
+    return error instanceof RunnerOutputLimitException;
   }
 
   /** {@inheritDoc} */
@@ -131,6 +224,12 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     return Arrays.copyOf(expected, expected.length);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public int expectedOffset() {
+    return expectedOffset;
+  }
+
   /** {@inheritDoc} */
   @Override
   public int offendingIndex() {
@@ -155,6 +254,30 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     return executionDuration;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Optional<Duration> cpuTime() {
+    return usage.cpuTime();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<Duration> userTime() {
+    return usage.userTime();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public OptionalLong allocatedBytes() {
+    return usage.allocatedBytes();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public OptionalLong peakMemory() {
+    return usage.peakMemory();
+  }
+
   /** {@inheritDoc} */
   @Override
   public void assertSuccess() {
@@ -165,6 +288,8 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     if (isError()) {
       throw new RunnerException("bolt.runner.asserter.error.found");
     }
+
+    assertNoLimitExceeded();
   }
 
   /** {@inheritDoc} */
@@ -177,6 +302,8 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     if (isError()) {
       throw new RunnerException("bolt.runner.asserter.error.found");
     }
+
+    assertNoLimitExceeded();
   }
 
   /** {@inheritDoc} */
@@ -189,6 +316,40 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     if (isFailure()) {
       throw new RunnerException(message);
     }
+
+    assertNoLimitExceeded();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertTimeLimitExceeded() {
+    assertLimitExceeded(RunnerTimeLimitException.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertMemoryLimitExceeded() {
+    assertLimitExceeded(RunnerMemoryLimitException.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertOutputLimitExceeded() {
+    assertLimitExceeded(RunnerOutputLimitException.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void assertWithin(Duration limit) {
+    if (limit == null) {
+      throw new RunnerException("bolt.runner.asserter.duration.null");
+    }
+
+    assertNoLimitExceeded();
+
+    if (executionDuration.compareTo(limit) > 0) {
+      throw new RunnerException("bolt.runner.asserter.duration.exceeded");
+    }
   }
 
   /** {@inheritDoc} */
@@ -221,6 +382,62 @@ class BoltResult implements RunnerResult, RunnerAsserter {
     return this;
   }
 
+  /**
+   * Check if the program exceeded a limit.
+   *
+   * <p>The limit-exceeded state is decided by the type of the error, so that a program that throws
+   * a {@link app.zoftwhere.bolt.RunnerException} with a limit message is still in an error state.
+   *
+   * @return {@code true} if a limit was exceeded, {@code false} otherwise
+   * @since 12.0.0
+   */
+  private boolean isLimitExceeded() {
+    return isTimeLimitExceeded() || isMemoryLimitExceeded() || isOutputLimitExceeded();
+  }
+
+  /**
+   * Asserts that the execution result is for the limit-exceeded state specified.
+   *
+   * @param limitType type of the limit error expected
+   * @since 12.0.0
+   */
+  private void assertLimitExceeded(Class<? extends RunnerException> limitType) {
+    if (isSuccess()) {
+      throw new RunnerException("bolt.runner.asserter.success.found");
+    }
+
+    if (isFailure()) {
+      throw new RunnerException(message);
+    }
+
+    if (isError()) {
+      throw new RunnerException("bolt.runner.asserter.error.found");
+    }
+
+    if (!limitType.isInstance(error)) {
+      assertNoLimitExceeded();
+    }
+  }
+
+  /**
+   * Asserts that the execution result is not for a limit-exceeded state.
+   *
+   * @since 12.0.0
+   */
+  private void assertNoLimitExceeded() {
+    if (isTimeLimitExceeded()) {
+      throw new RunnerException("bolt.runner.asserter.time.limit.exceeded", error);
+    }
+
+    if (isMemoryLimitExceeded()) {
+      throw new RunnerException("bolt.runner.asserter.memory.limit.exceeded", error);
+    }
+
+    if (isOutputLimitExceeded()) {
+      throw new RunnerException("bolt.runner.asserter.output.limit.exceeded", error);
+    }
+  }
+
   /**
    * BoltResult factory method (package-private).
    *
@@ -255,16 +472,18 @@ class BoltResult implements RunnerResult, RunnerAsserter {
    * @param output program (actual) output lines
    * @param supplier input stream supplier
    * @param inputCharset input stream character encoding
+   * @param setting execution settings
    * @param duration program execution duration
    * @param comparator program output comparator
    * @param error execution error
    * @return {@link app.zoftwhere.bolt.BoltResult}
-   * @since 11.0.0
+   * @since 12.0.0
    */
   static BoltResult newBoltResult(
       String[] output,
       InputStreamSupplier supplier,
       Charset inputCharset,
+      BoltSetting setting,
       Duration duration,
       Comparator<String> comparator,
       Exception error) {
@@ -288,6 +507,11 @@ class BoltResult implements RunnerResult, RunnerAsserter {
         RunnerException nullError = new RunnerException("bolt.runner.load.expectation.stream.null");
         return new BoltResult(output, new String[0], duration, nullError);
       }
+      if (setting.isStreamExpectation()) {
+        Iterator<String> iterator = new BoltLineIterator(inputStream, inputCharset);
+        int window = setting.expectationWindow();
+        return performStreamComparison(output, iterator, window, duration, comparator);
+      }
       String[] expected = readArray(() -> new BoltReader(inputStream, inputCharset));
       return performComparison(output, expected, duration, comparator);
     } catch (Exception runError) {
@@ -304,17 +528,19 @@ class BoltResult implements RunnerResult, RunnerAsserter {
    * @param resourceName input resource name
    * @param withClass input resource class
    * @param charset input resource character encoding
+   * @param setting execution settings
    * @param duration program execution duration
    * @param comparator program output comparator
    * @param error execution error
    * @return {@link app.zoftwhere.bolt.BoltResult}
-   * @since 11.0.0
+   * @since 12.0.0
    */
   static BoltResult newBoltResult(
       String[] output,
       String resourceName,
       Class<?> withClass,
       Charset charset,
+      BoltSetting setting,
       Duration duration,
       Comparator<String> comparator,
       Exception error) {
@@ -323,7 +549,7 @@ class BoltResult implements RunnerResult, RunnerAsserter {
           () -> {
             throw new RunnerException("bolt.runner.load.expectation.resource.name.null");
           };
-      return newBoltResult(output, supplier, charset, duration, comparator, error);
+      return newBoltResult(output, supplier, charset, setting, duration, comparator, error);
     }
 
     if (withClass == null) {
@@ -331,19 +557,38 @@ class BoltResult implements RunnerResult, RunnerAsserter {
           () -> {
             throw new RunnerException("bolt.runner.load.expectation.resource.class.null");
           };
-      return newBoltResult(output, supplier, charset, duration, comparator, error);
+      return newBoltResult(output, supplier, charset, setting, duration, comparator, error);
     }
 
-    if (withClass.getResource(resourceName) == null) {
+    URL resource = withClass.getResource(resourceName);
+    if (resource == null) {
       InputStreamSupplier supplier =
           () -> {
             throw new RunnerException("bolt.runner.load.expectation.resource.not.found");
           };
-      return newBoltResult(output, supplier, charset, duration, comparator, error);
+      return newBoltResult(output, supplier, charset, setting, duration, comparator, error);
     }
 
     InputStreamSupplier supplier = () -> withClass.getResourceAsStream(resourceName);
-    return newBoltResult(output, supplier, charset, duration, comparator, error);
+    if (error != null || charset == null || setting.isStreamExpectation()) {
+      return newBoltResult(output, supplier, charset, setting, duration, comparator, error);
+    }
+
+    // Decoded expectations are cached on the resolved resource location.
+    final BoltExpectationCache cache = BoltExpectationCache.INSTANCE;
+    final ClassLoader loader = withClass.getClassLoader();
+    final String name = resource.toExternalForm();
+    String[] expected = cache.get(loader, name, charset);
+    if (expected != null) {
+      return performComparison(output, expected, duration, comparator);
+    }
+
+    BoltResult result =
+        newBoltResult(output, supplier, charset, setting, duration, comparator, null);
+    if (!result.isError()) {
+      cache.put(loader, name, charset, result.expected);
+    }
+    return result;
   }
 
   /**
@@ -390,4 +635,70 @@ class BoltResult implements RunnerResult, RunnerAsserter {
 
     return new BoltResult(output, expected, duration);
   }
+
+  /**
+   * BoltResult factory method (private).
+   *
+   * <p>Returns a BoltResult instance after comparing the program output with a streamed
+   * expectation, stopping at the first offending line.
+   *
+   * @param output program (actual) output lines
+   * @param expected program expected output line iterator
+   * @param window number of expected lines to retain on either side of the offending line
+   * @param duration program execution duration
+   * @param comparator program output comparator
+   * @return a BoltResult instance after performing output comparison
+   */
+  private static BoltResult performStreamComparison(
+      String[] output,
+      Iterator<String> expected,
+      int window,
+      Duration duration,
+      Comparator<String> comparator) {
+    final ArrayDeque<String> retained = new ArrayDeque<>();
+    int offset = 0;
+    int index = 0;
+    int offendingIndex = -1;
+    String message = null;
+
+    while (expected.hasNext()) {
+      final String line = expected.next();
+      retained.addLast(line);
+      if (retained.size() - 1 > window) {
+        retained.removeFirst();
+        offset++;
+      }
+
+      if (index >= output.length) {
+        message = "bolt.runner.asserter.output.length.mismatch";
+        break;
+      }
+
+      final boolean mismatch =
+          comparator == null
+              ? !Objects.equals(line, output[index])
+              : comparator.compare(line, output[index]) != 0;
+      if (mismatch) {
+        offendingIndex = index;
+        message = "bolt.runner.asserter.output.data.mismatch";
+        break;
+      }
+
+      index++;
+    }
+
+    if (message == null && index != output.length) {
+      message = "bolt.runner.asserter.output.length.mismatch";
+    }
+
+    // Retain the expected lines following the offending line.
+    if (message != null) {
+      for (int count = 0; count < window && expected.hasNext(); count++) {
+        retained.addLast(expected.next());
+      }
+    }
+
+    final String[] lines = retained.toArray(new String[0]);
+    return new BoltResult(output, lines, offset, duration, offendingIndex, message);
+  }
 }
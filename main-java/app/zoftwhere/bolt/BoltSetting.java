@@ -0,0 +1,496 @@
+package app.zoftwhere.bolt;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+
+/**
+ * Bolt Setting class.
+ *
+ * <p>This is a package-private class for holding the execution settings of a {@link
+ * app.zoftwhere.bolt.Runner}.
+ *
+ * <p>Instances are immutable once returned; every setter returns a modified copy.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltSetting {
+
+  /** Number of expected lines to retain around a mismatch, or -1 to load the full expectation. */
+  private int expectationWindow = -1;
+
+  /** Number of program output bytes to capture in memory before spilling to a temporary file. */
+  private long spillThreshold = Long.MAX_VALUE;
+
+  /** Whether {@link java.lang.String} array input is encoded once, when specified. */
+  private boolean preEncodeInput = false;
+
+  /** Whether programs are executed on virtual threads (or the fallback platform pool). */
+  private boolean virtualThreads = false;
+
+  /** Wall-clock time limit for program execution, or null for no limit. */
+  private Duration timeLimit = null;
+
+  /** Memory limit for program execution in bytes, or -1 for no limit. */
+  private long memoryLimit = -1;
+
+  /** Output limit for program execution in bytes, or -1 for no limit. */
+  private long outputLimit = -1;
+
+  /** Whether programs are aborted at the first output line that mismatches the expectation. */
+  private boolean abortOnMismatch = false;
+
+  /** Whether program output is decoded and compared on a consumer thread, during execution. */
+  private boolean pipelineComparison = false;
+
+  /** Whether the standard error of process programs is captured with their standard output. */
+  private boolean captureErrorStream = false;
+
+  /** CPU time limit for process programs, or null for no limit. */
+  private Duration processCpuLimit = null;
+
+  /** Address space limit for process programs in bytes, or -1 for no limit. */
+  private long processMemoryLimit = -1;
+
+  /** Open file limit for process programs, or -1 for no limit. */
+  private long processFileLimit = -1;
+
+  /** Whether main class programs run in process, in an isolating class loader. */
+  private boolean inProcessMain = false;
+
+  /** Whether scanner-printer program output is captured as characters, instead of bytes. */
+  private boolean charCapture = false;
+
+  /**
+   * Constructor for BoltSetting (package-private).
+   *
+   * <p>Creates an instance with the default settings.
+   *
+   * @since 12.0.0
+   */
+  BoltSetting() {}
+
+  /**
+   * Constructor for BoltSetting (private).
+   *
+   * <p>Creates a copy of the settings provided.
+   *
+   * @param setting settings to copy
+   * @since 12.0.0
+   */
+  private BoltSetting(BoltSetting setting) {
+    this.expectationWindow = setting.expectationWindow;
+    this.spillThreshold = setting.spillThreshold;
+    this.preEncodeInput = setting.preEncodeInput;
+    this.virtualThreads = setting.virtualThreads;
+    this.timeLimit = setting.timeLimit;
+    this.memoryLimit = setting.memoryLimit;
+    this.outputLimit = setting.outputLimit;
+    this.abortOnMismatch = setting.abortOnMismatch;
+    this.pipelineComparison = setting.pipelineComparison;
+    this.captureErrorStream = setting.captureErrorStream;
+    this.processCpuLimit = setting.processCpuLimit;
+    this.processMemoryLimit = setting.processMemoryLimit;
+    this.processFileLimit = setting.processFileLimit;
+    this.inProcessMain = setting.inProcessMain;
+    this.charCapture = setting.charCapture;
+  }
+
+  /**
+   * Retrieve the number of expected lines to retain around a streamed comparison mismatch.
+   *
+   * @return window size for streamed comparison, -1 for full comparison
+   * @since 12.0.0
+   */
+  int expectationWindow() {
+    return expectationWindow;
+  }
+
+  /**
+   * Specify the number of expected lines to retain around a streamed comparison mismatch.
+   *
+   * @param window window size for streamed comparison, negative for full comparison
+   * @return a copy of the settings with the window specified
+   * @since 12.0.0
+   */
+  BoltSetting expectationWindow(int window) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.expectationWindow = window >= 0 ? window : -1;
+    return copy;
+  }
+
+  /**
+   * Check if expectations are compared while streaming.
+   *
+   * @return {@code true} if expectations are streamed, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isStreamExpectation() {
+    return expectationWindow >= 0;
+  }
+
+  /**
+   * Retrieve the number of program output bytes to capture in memory.
+   *
+   * @return number of bytes captured in memory before spilling to a temporary file
+   * @since 12.0.0
+   */
+  long spillThreshold() {
+    return spillThreshold;
+  }
+
+  /**
+   * Specify the number of program output bytes to capture in memory.
+   *
+   * @param threshold number of bytes to capture in memory, negative to never spill
+   * @return a copy of the settings with the threshold specified
+   * @since 12.0.0
+   */
+  BoltSetting spillThreshold(long threshold) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.spillThreshold = threshold >= 0 ? threshold : Long.MAX_VALUE;
+    return copy;
+  }
+
+  /**
+   * Check if {@link java.lang.String} array input is encoded once, when specified.
+   *
+   * @return {@code true} if input is pre-encoded, {@code false} if encoded per run
+   * @since 12.0.0
+   */
+  boolean isPreEncodeInput() {
+    return preEncodeInput;
+  }
+
+  /**
+   * Specify whether {@link java.lang.String} array input is encoded once, when specified.
+   *
+   * @param enabled {@code true} to pre-encode input, {@code false} to encode per run
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting preEncodeInput(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.preEncodeInput = enabled;
+    return copy;
+  }
+
+  /**
+   * Check if programs are executed on virtual threads.
+   *
+   * @return {@code true} if programs are dispatched, {@code false} if executed on the caller thread
+   * @since 12.0.0
+   */
+  boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Specify whether programs are executed on virtual threads.
+   *
+   * @param enabled {@code true} to dispatch programs, {@code false} to execute on the caller thread
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting virtualThreads(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.virtualThreads = enabled;
+    return copy;
+  }
+
+  /**
+   * Retrieve the wall-clock time limit for program execution.
+   *
+   * @return time limit, or null for no limit
+   * @since 12.0.0
+   */
+  Duration timeLimit() {
+    return timeLimit;
+  }
+
+  /**
+   * Specify the wall-clock time limit for program execution.
+   *
+   * @param limit time limit, or null (or a zero or negative duration) for no limit
+   * @return a copy of the settings with the limit specified
+   * @since 12.0.0
+   */
+  BoltSetting timeLimit(Duration limit) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.timeLimit = limit != null && !limit.isNegative() && !limit.isZero() ? limit : null;
+    return copy;
+  }
+
+  /**
+   * Retrieve the memory limit for program execution.
+   *
+   * @return memory limit in bytes, or -1 for no limit
+   * @since 12.0.0
+   */
+  long memoryLimit() {
+    return memoryLimit;
+  }
+
+  /**
+   * Specify the memory limit for program execution.
+   *
+   * @param bytes memory limit in bytes, negative for no limit
+   * @return a copy of the settings with the limit specified
+   * @since 12.0.0
+   */
+  BoltSetting memoryLimit(long bytes) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.memoryLimit = bytes >= 0 ? bytes : -1;
+    return copy;
+  }
+
+  /**
+   * Retrieve the output limit for program execution.
+   *
+   * @return output limit in bytes, negative for no limit
+   * @since 12.0.0
+   */
+  long outputLimit() {
+    return outputLimit;
+  }
+
+  /**
+   * Specify the output limit for program execution.
+   *
+   * @param bytes output limit in bytes, negative for no limit
+   * @return a copy of the settings with the limit specified
+   * @since 12.0.0
+   */
+  BoltSetting outputLimit(long bytes) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.outputLimit = bytes >= 0 ? bytes : -1;
+    return copy;
+  }
+
+  /**
+   * Check if programs are aborted at the first output line that mismatches the expectation.
+   *
+   * @return {@code true} if programs are aborted on mismatch, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isAbortOnMismatch() {
+    return abortOnMismatch;
+  }
+
+  /**
+   * Specify whether programs are aborted at the first output line that mismatches the expectation.
+   *
+   * @param enabled {@code true} to abort on mismatch, {@code false} to compare after execution
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting abortOnMismatch(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.abortOnMismatch = enabled;
+    return copy;
+  }
+
+  /**
+   * Check if program output is decoded and compared on a consumer thread, during execution.
+   *
+   * @return {@code true} if the comparison is pipelined, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isPipelineComparison() {
+    return pipelineComparison;
+  }
+
+  /**
+   * Specify whether program output is decoded and compared on a consumer thread, during execution.
+   *
+   * @param enabled {@code true} to pipeline the comparison, {@code false} to compare after
+   *     execution
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting pipelineComparison(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.pipelineComparison = enabled;
+    return copy;
+  }
+
+  /**
+   * Check if the standard error of process programs is captured with their standard output.
+   *
+   * @return {@code true} if the standard error is captured, {@code false} if it is inherited
+   * @since 12.0.0
+   */
+  boolean isCaptureErrorStream() {
+    return captureErrorStream;
+  }
+
+  /**
+   * Specify whether the standard error of process programs is captured with their standard output.
+   *
+   * @param enabled {@code true} to capture the standard error, {@code false} to inherit it
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting captureErrorStream(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.captureErrorStream = enabled;
+    return copy;
+  }
+
+  /**
+   * Retrieve the CPU time limit for process programs.
+   *
+   * @return CPU time limit, or null for no limit
+   * @since 12.0.0
+   */
+  Duration processCpuLimit() {
+    return processCpuLimit;
+  }
+
+  /**
+   * Specify the CPU time limit for process programs.
+   *
+   * @param limit CPU time limit, or null (or a zero or negative duration) for no limit
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting processCpuLimit(Duration limit) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.processCpuLimit = limit != null && !limit.isNegative() && !limit.isZero() ? limit : null;
+    return copy;
+  }
+
+  /**
+   * Retrieve the address space limit for process programs.
+   *
+   * @return address space limit in bytes, or -1 for no limit
+   * @since 12.0.0
+   */
+  long processMemoryLimit() {
+    return processMemoryLimit;
+  }
+
+  /**
+   * Specify the address space limit for process programs.
+   *
+   * @param bytes address space limit in bytes, negative for no limit
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting processMemoryLimit(long bytes) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.processMemoryLimit = bytes >= 0 ? bytes : -1;
+    return copy;
+  }
+
+  /**
+   * Retrieve the open file limit for process programs.
+   *
+   * @return open file limit, or -1 for no limit
+   * @since 12.0.0
+   */
+  long processFileLimit() {
+    return processFileLimit;
+  }
+
+  /**
+   * Specify the open file limit for process programs.
+   *
+   * @param files open file limit, negative for no limit
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting processFileLimit(long files) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.processFileLimit = files >= 0 ? files : -1;
+    return copy;
+  }
+
+  /**
+   * Check if main class programs run in process, in an isolating class loader.
+   *
+   * @return {@code true} if main class programs run in process, {@code false} if they run on worker
+   *     Java virtual machines
+   * @since 12.0.0
+   */
+  boolean isInProcessMain() {
+    return inProcessMain;
+  }
+
+  /**
+   * Specify whether main class programs run in process, in an isolating class loader.
+   *
+   * @param enabled {@code true} to run in process, {@code false} to run on worker Java virtual
+   *     machines
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting inProcessMain(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.inProcessMain = enabled;
+    return copy;
+  }
+
+  /**
+   * Check if scanner-printer program output is captured as characters.
+   *
+   * @return {@code true} if output is captured as characters, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isCharCapture() {
+    return charCapture;
+  }
+
+  /**
+   * Specify whether scanner-printer program output is captured as characters.
+   *
+   * @param enabled {@code true} to capture characters, {@code false} to capture bytes
+   * @return a copy of the settings with the option specified
+   * @since 12.0.0
+   */
+  BoltSetting charCapture(boolean enabled) {
+    final BoltSetting copy = new BoltSetting(this);
+    copy.charCapture = enabled;
+    return copy;
+  }
+
+  /**
+   * Check if process programs are executed with resource limits.
+   *
+   * @return {@code true} if a process limit is specified, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isProcessLimited() {
+    return processCpuLimit != null || processMemoryLimit >= 0 || processFileLimit >= 0;
+  }
+
+  /**
+   * Check if scanner-printer program output is captured as characters, in the output encoding.
+   *
+   * <p>Character capture does not apply under a watchdog, an output limit or a spill threshold,
+   * which operate on the output bytes. Nor does it apply with abort on mismatch or pipelined
+   * comparison, which match the output bytes as they are written; that is checked by the caller.
+   *
+   * @param outputCharset output character encoding
+   * @return {@code true} if output is captured as characters, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isCharCaptured(Charset outputCharset) {
+    return charCapture
+        && !isWatched()
+        && outputLimit < 0
+        && spillThreshold == Long.MAX_VALUE
+        && BoltCharOutputStream.isSupported(outputCharset);
+  }
+
+  /**
+   * Check if programs are executed on a watchdog-managed thread.
+   *
+   * @return {@code true} if a time limit or memory limit is specified, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isWatched() {
+    return timeLimit != null || memoryLimit >= 0;
+  }
+}
@@ -0,0 +1,334 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Bolt System Streams class.
+ *
+ * <p>This is a package-private class for running programs that use {@link java.lang.System#in} and
+ * {@link java.lang.System#out}, concurrently.
+ *
+ * <p>A routing input stream and a routing print stream are installed once, as the standard input
+ * and standard output. Each dispatches to the streams of the run on the current thread, or to the
+ * streams it replaced if no run is routed there. The route of a run is inherited by the threads
+ * that the run starts, and is closed when the run ends, so that a thread that outlives the run
+ * falls back to the replaced streams.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltSystemStreams {
+
+  /** Route of the run on the current thread, inherited by the threads it starts. */
+  private static final InheritableThreadLocal<Route> ROUTE = new InheritableThreadLocal<>();
+
+  /** Installed routing standard input, or null if not yet installed. */
+  private static RoutingInputStream input = null;
+
+  /** Installed routing standard output, or null if not yet installed. */
+  private static RoutingPrintStream output = null;
+
+  private BoltSystemStreams() {}
+
+  /**
+   * Run a program with the standard input and standard output routed to the specified streams, for
+   * the current thread and the threads it starts.
+   *
+   * <p>The routing streams are (re-)installed if the standard input or standard output has been
+   * replaced since.
+   *
+   * @param in program input
+   * @param out program output
+   * @param program program that uses the standard input and standard output
+   * @throws java.lang.Exception program error
+   * @since 12.0.0
+   */
+  static void route(InputStream in, PrintStream out, Program program) throws Exception {
+    install();
+    final Route previous = ROUTE.get();
+    final Route route = new Route(in, out);
+    ROUTE.set(route);
+    try {
+      program.call();
+    } finally {
+      out.flush();
+      route.closed = true;
+      if (previous != null) {
+        ROUTE.set(previous);
+      } else {
+        ROUTE.remove();
+      }
+    }
+  }
+
+  private static synchronized void install() {
+    if (System.in != input) {
+      input = new RoutingInputStream(System.in);
+      System.setIn(input);
+    }
+    if (System.out != output) {
+      output = new RoutingPrintStream(System.out);
+      System.setOut(output);
+    }
+  }
+
+  /** Program that uses the standard input and standard output. */
+  @FunctionalInterface
+  interface Program {
+
+    void call() throws Exception;
+  }
+
+  /** Streams of a run. */
+  private static final class Route {
+
+    private final InputStream in;
+
+    private final PrintStream out;
+
+    /** Whether the run has ended, for threads that inherited the route and outlive the run. */
+    private volatile boolean closed = false;
+
+    Route(InputStream in, PrintStream out) {
+      this.in = in;
+      this.out = out;
+    }
+  }
+
+  /** Input stream that dispatches to the input of the run on the current thread. */
+  private static final class RoutingInputStream extends InputStream {
+
+    private final InputStream fallback;
+
+    RoutingInputStream(InputStream fallback) {
+      this.fallback = fallback;
+    }
+
+    private InputStream target() {
+      final Route route = ROUTE.get();
+      return route != null && !route.closed ? route.in : fallback;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return target().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return target().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      return target().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return target().available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      target().close();
+    }
+
+    @Override
+    public void mark(int readLimit) {
+      target().mark(readLimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+      target().reset();
+    }
+
+    @Override
+    public boolean markSupported() {
+      return target().markSupported();
+    }
+  }
+
+  /** Print stream that dispatches to the output of the run on the current thread. */
+  private static final class RoutingPrintStream extends PrintStream {
+
+    private final PrintStream fallback;
+
+    RoutingPrintStream(PrintStream fallback) {
+      super(fallback, false);
+      this.fallback = fallback;
+    }
+
+    private PrintStream target() {
+      final Route route = ROUTE.get();
+      return route != null && !route.closed ? route.out : fallback;
+    }
+
+    @Override
+    public void flush() {
+      target().flush();
+    }
+
+    @Override
+    public void close() {
+      target().close();
+    }
+
+    @Override
+    public boolean checkError() {
+      return target().checkError();
+    }
+
+    @Override
+    public void write(int b) {
+      target().write(b);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+      target().write(buf, off, len);
+    }
+
+    @Override
+    public void print(boolean b) {
+      target().print(b);
+    }
+
+    @Override
+    public void print(char c) {
+      target().print(c);
+    }
+
+    @Override
+    public void print(int i) {
+      target().print(i);
+    }
+
+    @Override
+    public void print(long l) {
+      target().print(l);
+    }
+
+    @Override
+    public void print(float f) {
+      target().print(f);
+    }
+
+    @Override
+    public void print(double d) {
+      target().print(d);
+    }
+
+    @Override
+    public void print(char[] s) {
+      target().print(s);
+    }
+
+    @Override
+    public void print(String s) {
+      target().print(s);
+    }
+
+    @Override
+    public void print(Object obj) {
+      target().print(obj);
+    }
+
+    @Override
+    public void println() {
+      target().println();
+    }
+
+    @Override
+    public void println(boolean x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(char x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(int x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(long x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(float x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(double x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(char[] x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(String x) {
+      target().println(x);
+    }
+
+    @Override
+    public void println(Object x) {
+      target().println(x);
+    }
+
+    @Override
+    public PrintStream printf(String format, Object... args) {
+      target().printf(format, args);
+      return this;
+    }
+
+    @Override
+    public PrintStream printf(Locale l, String format, Object... args) {
+      target().printf(l, format, args);
+      return this;
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+      target().format(format, args);
+      return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+      target().format(l, format, args);
+      return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+      target().append(csq);
+      return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+      target().append(csq, start, end);
+      return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+      target().append(c);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,439 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bolt Usage class.
+ *
+ * <p>This is a package-private class for the resources used by the thread that executed a program:
+ * CPU time, user time, allocated bytes, and (when sampled for a memory limit) peak memory.
+ *
+ * <p>CPU time and user time are read from the platform {@link java.lang.management.ThreadMXBean}.
+ * Allocated bytes are read from {@code com.sun.management.ThreadMXBean}, which is looked up
+ * reflectively. Memory used is the growth in heap usage since the program started, capped at the
+ * bytes allocated by the program thread. Figures that the runtime does not support, or has
+ * disabled, are unavailable.
+ *
+ * <p>For a process program, the figures are read from {@code /proc/<pid>} on Linux instead, and
+ * reported in place of those of the thread that waited for the process.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltUsage {
+
+  /** Usage for which no figure is available. */
+  static final BoltUsage UNAVAILABLE = new BoltUsage(-1, -1, -1, -1);
+
+  private static final ThreadMXBean THREAD_BEAN = lookupThreadBean();
+
+  private static final Method ALLOCATED_BYTES = lookupAllocatedBytes(THREAD_BEAN);
+
+  private static final MemoryMXBean MEMORY_BEAN = lookupMemoryBean();
+
+  /** Duration of a clock tick in {@code /proc/<pid>/stat} (USER_HZ is 100 on Linux). */
+  private static final long TICK_NANOS = 10_000_000L;
+
+  /** Meter of the program executing on the current thread, if any. */
+  private static final ThreadLocal<Meter> CURRENT = new ThreadLocal<>();
+
+  private final long cpuNanos;
+
+  private final long userNanos;
+
+  private final long allocatedBytes;
+
+  private final long peakMemory;
+
+  /**
+   * Constructor for BoltUsage (private).
+   *
+   * @param cpuNanos CPU time in nanoseconds, negative if unavailable
+   * @param userNanos user time in nanoseconds, negative if unavailable
+   * @param allocatedBytes allocated bytes, negative if unavailable
+   * @param peakMemory peak memory in bytes, negative if not sampled
+   * @since 12.0.0
+   */
+  private BoltUsage(long cpuNanos, long userNanos, long allocatedBytes, long peakMemory) {
+    this.cpuNanos = cpuNanos;
+    this.userNanos = userNanos;
+    this.allocatedBytes = allocatedBytes;
+    this.peakMemory = peakMemory;
+  }
+
+  /**
+   * Create a meter for the resources used by the current thread.
+   *
+   * @return {@link app.zoftwhere.bolt.BoltUsage.Meter}
+   * @since 12.0.0
+   */
+  static Meter meter() {
+    return new Meter(false);
+  }
+
+  /**
+   * Create a meter for the resources used by the current thread, that also samples memory.
+   *
+   * @return {@link app.zoftwhere.bolt.BoltUsage.Meter}
+   * @since 12.0.0
+   */
+  static Meter memoryMeter() {
+    return new Meter(true);
+  }
+
+  /**
+   * Report the usage of a process program executed on the current thread.
+   *
+   * <p>The usage replaces that of the metered thread, which only waited for the process.
+   *
+   * @param usage process usage
+   * @since 12.0.0
+   */
+  static void report(BoltUsage usage) {
+    final Meter meter = CURRENT.get();
+    if (meter != null && usage != null) {
+      meter.reported = usage;
+    }
+  }
+
+  /**
+   * Sample the usage of a running process from {@code /proc/<pid>}.
+   *
+   * <p>CPU time and user time are read from {@code stat}, and peak memory is the resident set high
+   * water mark ({@code VmHWM}) read from {@code status}. The peak memory is the greater of this
+   * sample and the previous one.
+   *
+   * @param pid process identifier
+   * @param previous previous sample, or null
+   * @return process usage, or the previous sample if the process cannot be read
+   * @since 12.0.0
+   */
+  static BoltUsage sampleProcess(long pid, BoltUsage previous) {
+    final Path proc = Paths.get("/proc", Long.toString(pid));
+    long userNanos = previous != null ? previous.userNanos : -1;
+    long cpuNanos = previous != null ? previous.cpuNanos : -1;
+    long peakMemory = previous != null ? previous.peakMemory : -1;
+    boolean sampled = false;
+    try {
+      final byte[] data = Files.readAllBytes(proc.resolve("stat"));
+      final String stat = new String(data, StandardCharsets.UTF_8);
+      // The command name is in parentheses, and may contain spaces; fields follow the last one.
+      final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).trim().split(" ");
+      userNanos = Long.parseLong(fields[11]) * TICK_NANOS;
+      cpuNanos = userNanos + Long.parseLong(fields[12]) * TICK_NANOS;
+      sampled = true;
+    } catch (IOException | RuntimeException ignore) {
+    }
+
+    try {
+      final List<String> status =
+          Files.readAllLines(proc.resolve("status"), StandardCharsets.UTF_8);
+      for (String line : status) {
+        if (line.startsWith("VmHWM:")) {
+          final String kibibytes = line.substring(6).replace("kB", "").trim();
+          peakMemory = Math.max(peakMemory, Long.parseLong(kibibytes) * 1024);
+          sampled = true;
+        }
+      }
+    } catch (IOException | RuntimeException ignore) {
+    }
+
+    if (!sampled) {
+      return previous;
+    }
+    return new BoltUsage(cpuNanos, userNanos, -1, peakMemory);
+  }
+
+  /**
+   * Retrieve the CPU time.
+   *
+   * @return CPU time, if available
+   * @since 12.0.0
+   */
+  Optional<Duration> cpuTime() {
+    return cpuNanos >= 0 ? Optional.of(Duration.ofNanos(cpuNanos)) : Optional.empty();
+  }
+
+  /**
+   * Retrieve the user time.
+   *
+   * @return user time, if available
+   * @since 12.0.0
+   */
+  Optional<Duration> userTime() {
+    return userNanos >= 0 ? Optional.of(Duration.ofNanos(userNanos)) : Optional.empty();
+  }
+
+  /**
+   * Retrieve the allocated bytes.
+   *
+   * @return allocated bytes, if available
+   * @since 12.0.0
+   */
+  OptionalLong allocatedBytes() {
+    return allocatedBytes >= 0 ? OptionalLong.of(allocatedBytes) : OptionalLong.empty();
+  }
+
+  /**
+   * Retrieve the peak memory.
+   *
+   * @return peak memory in bytes, if sampled
+   * @since 12.0.0
+   */
+  OptionalLong peakMemory() {
+    return peakMemory >= 0 ? OptionalLong.of(peakMemory) : OptionalLong.empty();
+  }
+
+  private static ThreadMXBean lookupThreadBean() {
+    try {
+      return ManagementFactory.getThreadMXBean();
+    } catch (RuntimeException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static MemoryMXBean lookupMemoryBean() {
+    try {
+      return ManagementFactory.getMemoryMXBean();
+    } catch (RuntimeException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static Method lookupAllocatedBytes(ThreadMXBean bean) {
+    if (bean == null) {
+      return null;
+    }
+
+    try {
+      final Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+      if (!type.isInstance(bean)) {
+        return null;
+      }
+
+      final Method supported = type.getMethod("isThreadAllocatedMemorySupported");
+      final Method enabled = type.getMethod("isThreadAllocatedMemoryEnabled");
+      if (!(Boolean) supported.invoke(bean) || !(Boolean) enabled.invoke(bean)) {
+        return null;
+      }
+
+      return type.getMethod("getThreadAllocatedBytes", long.class);
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static boolean isCpuTimeEnabled() {
+    try {
+      return THREAD_BEAN != null
+          && THREAD_BEAN.isCurrentThreadCpuTimeSupported()
+          && THREAD_BEAN.isThreadCpuTimeEnabled();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Read the CPU time of the current thread.
+   *
+   * @return CPU time in nanoseconds, negative if unavailable
+   */
+  private static long readCpuTime() {
+    return isCpuTimeEnabled() ? THREAD_BEAN.getCurrentThreadCpuTime() : -1;
+  }
+
+  /**
+   * Read the user time of the current thread.
+   *
+   * @return user time in nanoseconds, negative if unavailable
+   */
+  private static long readUserTime() {
+    return isCpuTimeEnabled() ? THREAD_BEAN.getCurrentThreadUserTime() : -1;
+  }
+
+  /**
+   * Read the allocated bytes of a thread.
+   *
+   * @param thread thread to read
+   * @return allocated bytes, negative if unavailable
+   */
+  @SuppressWarnings("deprecation")
+  private static long readAllocatedBytes(Thread thread) {
+    if (ALLOCATED_BYTES == null || thread == null) {
+      return -1;
+    }
+
+    try {
+      return (Long) ALLOCATED_BYTES.invoke(THREAD_BEAN, thread.getId());
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Read the heap usage of the Java virtual machine.
+   *
+   * @return heap bytes used, negative if unavailable
+   */
+  private static long readHeapUsed() {
+    try {
+      return MEMORY_BEAN != null ? MEMORY_BEAN.getHeapMemoryUsage().getUsed() : -1;
+    } catch (RuntimeException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Difference between two readings.
+   *
+   * @param from reading at start
+   * @param to reading at stop
+   * @return difference, negative if either reading is unavailable
+   */
+  private static long delta(long from, long to) {
+    return from >= 0 && to >= 0 ? Math.max(to - from, 0) : -1;
+  }
+
+  /**
+   * Meter for the resources used by a thread, between {@link #start()} and {@link #stop()}.
+   *
+   * <p>Both calls must be made from the thread being metered. Memory may be sampled from another
+   * thread.
+   */
+  static final class Meter {
+
+    private final boolean memory;
+
+    private final AtomicLong peakMemory = new AtomicLong(-1);
+
+    private long cpuFrom = -1;
+
+    private long userFrom = -1;
+
+    private volatile long allocatedFrom = -1;
+
+    private volatile long heapFrom = -1;
+
+    private volatile BoltUsage usage = null;
+
+    /** Usage reported by a process program, replacing the metered usage. */
+    private volatile BoltUsage reported = null;
+
+    private Meter(boolean memory) {
+      this.memory = memory;
+    }
+
+    /** Start metering the current thread. */
+    void start() {
+      if (memory) {
+        heapFrom = readHeapUsed();
+      }
+      allocatedFrom = readAllocatedBytes(Thread.currentThread());
+      userFrom = readUserTime();
+      cpuFrom = readCpuTime();
+    }
+
+    /** Stop metering the current thread. */
+    void stop() {
+      final long cpuTo = readCpuTime();
+      final long userTo = readUserTime();
+      final long allocatedTo = readAllocatedBytes(Thread.currentThread());
+      if (memory) {
+        record(sample(Thread.currentThread()));
+      }
+      usage =
+          new BoltUsage(
+              delta(cpuFrom, cpuTo),
+              delta(userFrom, userTo),
+              delta(allocatedFrom, allocatedTo),
+              peakMemory.get());
+    }
+
+    /**
+     * Sample the memory used by the metered thread.
+     *
+     * @param thread metered thread
+     * @return memory used in bytes, negative if unavailable
+     */
+    long sample(Thread thread) {
+      if (!memory) {
+        return -1;
+      }
+
+      final long heap = delta(heapFrom, readHeapUsed());
+      if (heap < 0) {
+        return -1;
+      }
+
+      final long allocated = delta(allocatedFrom, readAllocatedBytes(thread));
+      return allocated >= 0 ? Math.min(heap, allocated) : heap;
+    }
+
+    /**
+     * Record a memory sample towards the peak memory.
+     *
+     * @param sample memory used in bytes, negative if unavailable
+     */
+    void record(long sample) {
+      peakMemory.accumulateAndGet(sample, Math::max);
+    }
+
+    /**
+     * Wrap the program executor, to meter the thread on which it executes.
+     *
+     * @param executor program executor
+     * @return metered program executor
+     */
+    BoltExecutor wrap(BoltExecutor executor) {
+      return (arguments, inputCharset, inputStream, outputCharset, outputStream) -> {
+        final Meter previous = CURRENT.get();
+        CURRENT.set(this);
+        start();
+        try {
+          return executor.execute(
+              arguments, inputCharset, inputStream, outputCharset, outputStream);
+        } finally {
+          stop();
+          CURRENT.set(previous);
+        }
+      };
+    }
+
+    /**
+     * Retrieve the metered usage.
+     *
+     * <p>If a process program reported its usage, that usage is returned. Otherwise, if the meter
+     * was not stopped, only the peak memory sampled (if any) is available.
+     *
+     * @return metered usage
+     */
+    BoltUsage usage() {
+      final BoltUsage process = reported;
+      if (process != null) {
+        return process;
+      }
+
+      final BoltUsage stopped = usage;
+      if (stopped != null) {
+        return stopped;
+      }
+
+      final long peak = peakMemory.get();
+      return peak >= 0 ? new BoltUsage(-1, -1, -1, peak) : UNAVAILABLE;
+    }
+  }
+}
@@ -1,6 +1,11 @@
 package app.zoftwhere.bolt;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Bolt Utility class.
@@ -8,7 +13,7 @@ import java.util.Objects;
  * <p>This is a package-private class for providing its functionality.
  *
  * @author Osmund
- * @version 11.4.0
+ * @version 12.0.0
  * @since 11.0.0
  */
 abstract class BoltUtility {
@@ -35,4 +40,32 @@ abstract class BoltUtility {
     }
     return false;
   }
+
+  /**
+   * Supply a result asynchronously with the executor.
+   *
+   * <p>If the executor is null or rejects the task, the future is completed with the error result
+   * instead of completing exceptionally.
+   *
+   * @param supplier result supplier
+   * @param executor {@link java.util.concurrent.Executor} with which to supply the result
+   * @param errorResult error result builder
+   * @param <T> result type
+   * @return {@link java.util.concurrent.CompletableFuture} of the result
+   * @since 12.0.0
+   */
+  static <T> CompletableFuture<T> supplyAsync(
+      Supplier<T> supplier, Executor executor, Function<RunnerException, T> errorResult) {
+    if (executor == null) {
+      RunnerException error = new RunnerException("bolt.runner.async.executor.null");
+      return CompletableFuture.completedFuture(errorResult.apply(error));
+    }
+
+    try {
+      return CompletableFuture.supplyAsync(supplier, executor);
+    } catch (RejectedExecutionException e) {
+      RunnerException error = new RunnerException("bolt.runner.async.rejected", e);
+      return CompletableFuture.completedFuture(errorResult.apply(error));
+    }
+  }
 }
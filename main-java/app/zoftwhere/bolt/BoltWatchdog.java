@@ -0,0 +1,329 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bolt Watchdog class.
+ *
+ * <p>This is a package-private class for executing a program within a wall-clock time limit, or a
+ * memory limit.
+ *
+ * <p>The program is executed on a separate daemon thread (or a virtual thread, if enabled and
+ * supported). When a limit is exceeded, the stack trace of the program thread is captured, the
+ * thread is interrupted, and is given a short grace period to stop before it is abandoned.
+ *
+ * <p>The program streams are guarded, so that an abandoned program can no longer read input or
+ * write output once the caller has moved on.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltWatchdog {
+
+  /** Error message for the stack trace captured from the program thread. */
+  static final String THREAD_DUMP = "bolt.runner.watchdog.thread.dump";
+
+  /** Error message for program stream access after the program was abandoned. */
+  static final String ABANDONED = "bolt.runner.watchdog.abandoned";
+
+  /** Interval at which the memory used by the program is sampled. */
+  static final long SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  /** Time to wait for an interrupted program to stop, before it is abandoned. */
+  static final long GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  private BoltWatchdog() {}
+
+  /**
+   * Execute the program on a watchdog-managed thread, and wait for it to complete, or to exceed its
+   * time limit or memory limit.
+   *
+   * @param executor program executor
+   * @param meter resource meter of the program executor, for sampling memory
+   * @param timeLimit wall-clock time limit, or null for no limit
+   * @param memoryLimit memory limit in bytes, or negative for no limit
+   * @param virtualThreads whether to execute the program on a virtual thread, if supported
+   * @param arguments program arguments
+   * @param inputCharset character encoding for {@link java.io.InputStream}
+   * @param inputStream {@link java.io.InputStream}
+   * @param outputCharset character encoding for {@link java.io.OutputStream}
+   * @param outputStream {@link java.io.OutputStream}
+   * @return {@code null} for execution success, {@link java.lang.Exception} with program error or
+   *     limit error otherwise
+   * @since 12.0.0
+   */
+  static Exception execute(
+      BoltExecutor executor,
+      BoltUsage.Meter meter,
+      Duration timeLimit,
+      long memoryLimit,
+      boolean virtualThreads,
+      String[] arguments,
+      Charset inputCharset,
+      InputStream inputStream,
+      Charset outputCharset,
+      OutputStream outputStream) {
+    final Program program =
+        new Program(executor, arguments, inputCharset, inputStream, outputCharset, outputStream);
+    program.start(virtualThreads);
+
+    final long timeNanos = timeLimit != null ? toNanos(timeLimit) : Long.MAX_VALUE;
+    final long sampleNanos = memoryLimit >= 0 ? SAMPLE_NANOS : Long.MAX_VALUE;
+    final long from = System.nanoTime();
+    try {
+      while (true) {
+        final long remaining =
+            timeNanos == Long.MAX_VALUE ? timeNanos : timeNanos - (System.nanoTime() - from);
+        if (remaining <= 0) {
+          return new RunnerTimeLimitException(timeLimit, program.abandon());
+        }
+
+        try {
+          return program.task.get(Math.min(remaining, sampleNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+          if (memoryLimit >= 0 && isMemoryExceeded(meter, program.worker.get(), memoryLimit)) {
+            return new RunnerMemoryLimitException(memoryLimit, program.abandon());
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      program.task.cancel(true);
+      program.guardInput.abandon();
+      program.guardOutput.abandon();
+      Thread.currentThread().interrupt();
+      return new RunnerException("bolt.runner.time.limit.interrupted", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (memoryLimit >= 0 && cause instanceof OutOfMemoryError) {
+        return new RunnerMemoryLimitException(memoryLimit, cause);
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      return (Exception) cause;
+    }
+  }
+
+  /**
+   * Check if the program exceeded its memory limit.
+   *
+   * <p>A sample over the limit is confirmed after a full garbage collection, so that garbage left
+   * by the program is not counted.
+   *
+   * @param meter resource meter of the program executor
+   * @param thread program thread
+   * @param memoryLimit memory limit in bytes
+   * @return {@code true} if the memory limit is exceeded, {@code false} otherwise
+   */
+  private static boolean isMemoryExceeded(BoltUsage.Meter meter, Thread thread, long memoryLimit) {
+    long sample = meter.sample(thread);
+    if (sample > memoryLimit) {
+      System.gc();
+      sample = meter.sample(thread);
+    }
+    meter.record(sample);
+    return sample > memoryLimit;
+  }
+
+  /**
+   * Convert the time limit to nanoseconds, saturating on overflow.
+   *
+   * @param limit time limit
+   * @return time limit in nanoseconds
+   */
+  private static long toNanos(Duration limit) {
+    try {
+      return limit.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static void await(CountDownLatch done) {
+    try {
+      done.await(GRACE_NANOS, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Program execution task, with its guarded streams. */
+  private static final class Program {
+
+    private final GuardInputStream guardInput;
+
+    private final GuardOutputStream guardOutput;
+
+    private final AtomicReference<Thread> worker = new AtomicReference<>();
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private final FutureTask<Exception> task;
+
+    Program(
+        BoltExecutor executor,
+        String[] arguments,
+        Charset inputCharset,
+        InputStream inputStream,
+        Charset outputCharset,
+        OutputStream outputStream) {
+      this.guardInput = new GuardInputStream(inputStream);
+      this.guardOutput = new GuardOutputStream(outputStream);
+      this.task =
+          new FutureTask<>(
+              () -> {
+                worker.set(Thread.currentThread());
+                try {
+                  return executor.execute(
+                      arguments, inputCharset, guardInput, outputCharset, guardOutput);
+                } finally {
+                  done.countDown();
+                }
+              });
+    }
+
+    void start(boolean virtualThreads) {
+      if (virtualThreads && BoltDispatcher.isVirtual()) {
+        BoltDispatcher.executor().execute(task);
+      } else {
+        final Thread thread = new Thread(task, "bolt-program-" + COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+      }
+    }
+
+    /**
+     * Capture the stack trace of the program thread, interrupt it, and abandon it.
+     *
+     * @return the stack trace of the program thread, as cause for the limit error
+     */
+    RunnerException abandon() {
+      final Thread thread = worker.get();
+      final RunnerException dump = new RunnerException(THREAD_DUMP);
+      dump.setStackTrace(thread != null ? thread.getStackTrace() : new StackTraceElement[0]);
+      task.cancel(true);
+      await(done);
+      guardInput.abandon();
+      guardOutput.abandon();
+      return dump;
+    }
+  }
+
+  /**
+   * Input stream that refuses reads once abandoned.
+   *
+   * <p>Reads are not synchronized, as a program may be blocked on a read when it is abandoned.
+   */
+  private static final class GuardInputStream extends InputStream {
+
+    private final InputStream inputStream;
+
+    private volatile boolean abandoned = false;
+
+    GuardInputStream(InputStream inputStream) {
+      this.inputStream = inputStream;
+    }
+
+    @Override
+    public int read() throws IOException {
+      check();
+      return inputStream.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      check();
+      return inputStream.read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      check();
+      return inputStream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      check();
+      return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!abandoned) {
+        inputStream.close();
+      }
+    }
+
+    void abandon() {
+      abandoned = true;
+    }
+
+    private void check() throws IOException {
+      if (abandoned) {
+        throw new IOException(ABANDONED);
+      }
+    }
+  }
+
+  /** Output stream that refuses writes once abandoned. */
+  private static final class GuardOutputStream extends OutputStream {
+
+    private final OutputStream outputStream;
+
+    private boolean abandoned = false;
+
+    GuardOutputStream(OutputStream outputStream) {
+      this.outputStream = outputStream;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+      check();
+      outputStream.write(b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+      check();
+      outputStream.write(b, off, len);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+      check();
+      outputStream.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      if (!abandoned) {
+        outputStream.close();
+      }
+    }
+
+    synchronized void abandon() {
+      abandoned = true;
+    }
+
+    private void check() throws IOException {
+      if (abandoned) {
+        throw new IOException(ABANDONED);
+      }
+    }
+  }
+}
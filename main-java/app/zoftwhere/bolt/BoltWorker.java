@@ -0,0 +1,385 @@
+package app.zoftwhere.bolt;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bolt Worker class.
+ *
+ * <p>This is a package-private class with the main method of a worker Java virtual machine, started
+ * by {@link app.zoftwhere.bolt.BoltWorkerPool}.
+ *
+ * <p>The worker runs jobs one at a time, as requested over its standard input, and streams the job
+ * output back over its standard output, in frames. Each job main class is loaded in a throwaway
+ * class loader, so that static state does not leak from one job to the next.
+ *
+ * <p>Frames to the worker are a run request ({@link #RUN}, main class name, charset name, argument
+ * count and arguments), followed by input chunks ({@link #INPUT}, length and bytes), and an end of
+ * input ({@link #END}). Frames from the worker are a ready signal ({@link #READY}) once started,
+ * output chunks ({@link #OUTPUT}, length and bytes), a job error ({@link #ERROR}, class name,
+ * message, and stack trace), if any, and a job completion ({@link #DONE}).
+ *
+ * <p>The job error is sent as plain fields, not as a serialized object, as the job can write to the
+ * channel of the worker, and the pool must not deserialize objects from it.
+ *
+ * <p>A job that calls {@link java.lang.System#exit(int)} ends the worker, after its output is
+ * flushed.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltWorker {
+
+  /** Frame for a run request. */
+  static final int RUN = 'R';
+
+  /** Frame for a chunk of job input. */
+  static final int INPUT = 'I';
+
+  /** Frame for the end of job input. */
+  static final int END = 'C';
+
+  /** Frame for the ready signal of a started worker. */
+  static final int READY = 'K';
+
+  /** Frame for a chunk of job output. */
+  static final int OUTPUT = 'O';
+
+  /** Frame for a job error. */
+  static final int ERROR = 'E';
+
+  /** Frame for a job completion. */
+  static final int DONE = 'D';
+
+  /** Error message for a main class, or main method, that cannot be found. */
+  static final String MAIN_NOT_FOUND = "bolt.runner.worker.main.not.found";
+
+  /** Maximum number of stack trace elements sent with a job error. */
+  static final int MAX_STACK_DEPTH = 1024;
+
+  /** Maximum number of characters sent per job error field, within the limit of writeUTF. */
+  private static final int MAX_FIELD_LENGTH = 0xffff / 3;
+
+  /** Size of the stream buffers. */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /** Job output of the running job, flushed by the shutdown hook if the job exits. */
+  private static volatile PrintStream jobOutput = null;
+
+  private BoltWorker() {}
+
+  /**
+   * Worker main method.
+   *
+   * @param args unused
+   * @throws java.io.IOException if the channel to the pool fails
+   */
+  public static void main(String[] args) throws IOException {
+    final DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(new FileInputStream(FileDescriptor.in), BUFFER_SIZE));
+    final DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE));
+    final PrintStream idle = new PrintStream(new DiscardOutputStream());
+    System.setOut(idle);
+    System.setIn(new ByteArrayInputStream(new byte[0]));
+
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(out)));
+
+    final URL[] classPath = classPath();
+    final ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+    synchronized (out) {
+      out.writeByte(READY);
+      out.flush();
+    }
+
+    // The worker ends when the pool closes its standard input.
+    while (in.read() == RUN) {
+      runJob(in, out, classPath, parent, idle);
+    }
+  }
+
+  /**
+   * Run a job, and report its completion.
+   *
+   * @param in channel from the pool
+   * @param out channel to the pool
+   * @param classPath class path of the throwaway class loader
+   * @param parent parent of the throwaway class loader
+   * @param idle standard output between jobs
+   * @throws java.io.IOException if the channel to the pool fails
+   */
+  private static void runJob(
+      DataInputStream in,
+      DataOutputStream out,
+      URL[] classPath,
+      ClassLoader parent,
+      PrintStream idle)
+      throws IOException {
+    final String className = in.readUTF();
+    final String charsetName = in.readUTF();
+    final String[] arguments = new String[in.readInt()];
+    for (int index = 0; index < arguments.length; index++) {
+      arguments[index] = in.readUTF();
+    }
+
+    final PipedInputStream input = new PipedInputStream(BUFFER_SIZE);
+    final PipedOutputStream feed = new PipedOutputStream(input);
+    final Thread reader = new Thread(() -> readInput(in, feed), "bolt-worker-input");
+    reader.setDaemon(true);
+    reader.start();
+
+    final FrameOutputStream frames = new FrameOutputStream(out);
+    final PrintStream print = new PrintStream(frames, false, charsetName);
+    jobOutput = print;
+    System.setIn(input);
+    System.setOut(print);
+
+    Throwable error = null;
+    final Thread thread = Thread.currentThread();
+    final ClassLoader context = thread.getContextClassLoader();
+    try (URLClassLoader loader = new URLClassLoader(classPath, parent)) {
+      thread.setContextClassLoader(loader);
+      final Method main = findMain(loader, className);
+      if (main == null) {
+        error = new RunnerException(MAIN_NOT_FOUND);
+      } else {
+        main.invoke(null, (Object) arguments);
+      }
+    } catch (InvocationTargetException e) {
+      error = e.getCause();
+    } catch (Throwable e) {
+      error = e;
+    } finally {
+      thread.setContextClassLoader(context);
+      print.flush();
+      jobOutput = null;
+      System.setOut(idle);
+      System.setIn(new ByteArrayInputStream(new byte[0]));
+      // Output written by threads the job left running is discarded.
+      frames.close();
+    }
+
+    // The unread job input is discarded, up to the end of input.
+    input.close();
+    try {
+      reader.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (out) {
+      if (error != null) {
+        writeError(out, error);
+      }
+      out.writeByte(DONE);
+      out.flush();
+    }
+  }
+
+  /**
+   * Find the main method of the job.
+   *
+   * @param loader throwaway class loader
+   * @param className main class name
+   * @return public static main method, or null if not found
+   */
+  private static Method findMain(ClassLoader loader, String className) {
+    try {
+      final Method main = Class.forName(className, true, loader).getMethod("main", String[].class);
+      final int modifiers = main.getModifiers();
+      if (!Modifier.isStatic(modifiers)) {
+        return null;
+      }
+      main.setAccessible(true);
+      return main;
+    } catch (ClassNotFoundException | NoSuchMethodException | NoClassDefFoundError e) {
+      return null;
+    }
+  }
+
+  /**
+   * Read the job input frames into the job input, until the end of input.
+   *
+   * <p>Once the job input is closed, the remaining input is discarded.
+   *
+   * @param in channel from the pool
+   * @param feed job input feed
+   */
+  private static void readInput(DataInputStream in, PipedOutputStream feed) {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    boolean open = true;
+    try {
+      while (in.read() == INPUT) {
+        int remaining = in.readInt();
+        while (remaining > 0) {
+          final int size = in.read(buffer, 0, Math.min(remaining, buffer.length));
+          if (size < 0) {
+            return;
+          }
+          remaining -= size;
+          if (open) {
+            try {
+              feed.write(buffer, 0, size);
+            } catch (IOException e) {
+              open = false;
+            }
+          }
+        }
+      }
+    } catch (IOException ignore) {
+    } finally {
+      try {
+        feed.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Write the job error frame: class name, message, and stack trace, as plain fields.
+   *
+   * @param out channel to the pool
+   * @param error job error
+   * @throws java.io.IOException if the channel to the pool fails
+   */
+  private static void writeError(DataOutputStream out, Throwable error) throws IOException {
+    final String message = error.getMessage();
+    final StackTraceElement[] trace = error.getStackTrace();
+    final int depth = Math.min(trace.length, MAX_STACK_DEPTH);
+    out.writeByte(ERROR);
+    out.writeUTF(field(error.getClass().getName()));
+    out.writeBoolean(message != null);
+    out.writeUTF(field(message));
+    out.writeInt(depth);
+    for (int index = 0; index < depth; index++) {
+      final StackTraceElement element = trace[index];
+      out.writeUTF(field(element.getClassName()));
+      out.writeUTF(field(element.getMethodName()));
+      out.writeUTF(field(element.getFileName()));
+      out.writeInt(element.getLineNumber());
+    }
+  }
+
+  private static String field(String value) {
+    if (value == null) {
+      return "";
+    }
+    return value.length() > MAX_FIELD_LENGTH ? value.substring(0, MAX_FIELD_LENGTH) : value;
+  }
+
+  /**
+   * Flush the output of the running job, if any, for a job that exits the worker.
+   *
+   * @param out channel to the pool
+   */
+  private static void flush(DataOutputStream out) {
+    final PrintStream print = jobOutput;
+    if (print != null) {
+      print.flush();
+    }
+    synchronized (out) {
+      try {
+        out.flush();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
+  /**
+   * Retrieve the class path of the throwaway class loaders.
+   *
+   * @return class path entries of the worker
+   */
+  private static URL[] classPath() {
+    final List<URL> urls = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+      if (entry.isEmpty()) {
+        continue;
+      }
+      try {
+        urls.add(Paths.get(entry).toUri().toURL());
+      } catch (MalformedURLException | RuntimeException ignore) {
+      }
+    }
+    return urls.toArray(new URL[0]);
+  }
+
+  /** Output stream that writes job output frames, until closed. */
+  private static final class FrameOutputStream extends OutputStream {
+
+    private final DataOutputStream out;
+
+    private boolean closed = false;
+
+    FrameOutputStream(DataOutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      synchronized (out) {
+        if (closed || len == 0) {
+          return;
+        }
+        out.writeByte(OUTPUT);
+        out.writeInt(len);
+        out.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      synchronized (out) {
+        if (!closed) {
+          out.flush();
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      synchronized (out) {
+        closed = true;
+      }
+    }
+  }
+
+  /** Output stream that discards its output. */
+  private static final class DiscardOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {}
+
+    @Override
+    public void write(byte[] b, int off, int len) {}
+  }
+}
@@ -0,0 +1,508 @@
+package app.zoftwhere.bolt;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bolt Worker Pool class.
+ *
+ * <p>This is a package-private class for running Java main classes out of process, on a pool of
+ * pre-started worker Java virtual machines (see {@link app.zoftwhere.bolt.BoltWorker}).
+ *
+ * <p>A job borrows an idle worker, or starts one if none is idle, and a spare worker is started in
+ * the background, so that the next job does not wait for a Java virtual machine to start. Program
+ * input is pumped to the worker, and job output is pumped back to the program output, each on a
+ * dedicated daemon thread. A worker that completes its job is returned to the pool, most recently
+ * used first. A worker that exits, fails, or is interrupted, is discarded.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+final class BoltWorkerPool {
+
+  /** Shared pool of worker Java virtual machines. */
+  static final BoltWorkerPool INSTANCE = new BoltWorkerPool(capacity());
+
+  private static final AtomicInteger COUNT = new AtomicInteger();
+
+  /** Maximum number of idle workers. */
+  private final int capacity;
+
+  /** Idle workers, most recently used first. */
+  private final Deque<Worker> idle = new ArrayDeque<>();
+
+  /** Number of spare workers being started. */
+  private int starting = 0;
+
+  /**
+   * Constructor for BoltWorkerPool (package-private).
+   *
+   * @param capacity maximum number of idle workers
+   * @since 12.0.0
+   */
+  BoltWorkerPool(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Retrieve {@link app.zoftwhere.bolt.BoltExecutor} for a main class, run on the shared pool.
+   *
+   * @param className main class name
+   * @return {@link app.zoftwhere.bolt.BoltExecutor} if class name non-null, null otherwise
+   * @since 12.0.0
+   */
+  static BoltExecutor executor(String className) {
+    if (className == null) {
+      return null;
+    }
+
+    return (arguments, inputCharset, inputStream, outputCharset, outputStream) ->
+        INSTANCE.execute(
+            className, arguments, inputCharset, inputStream, outputCharset, outputStream);
+  }
+
+  /**
+   * Run the main class on a worker, and wait for the job to complete.
+   *
+   * @param className main class name
+   * @param arguments program arguments
+   * @param inputCharset character encoding for {@link java.io.InputStream}
+   * @param inputStream {@link java.io.InputStream}
+   * @param outputCharset character encoding for {@link java.io.OutputStream}
+   * @param outputStream {@link java.io.OutputStream}
+   * @return {@code null} for execution success, {@link java.lang.Exception} with program error
+   *     otherwise
+   * @since 12.0.0
+   */
+  Exception execute(
+      String className,
+      String[] arguments,
+      Charset inputCharset,
+      InputStream inputStream,
+      Charset outputCharset,
+      OutputStream outputStream) {
+    // The usage of the current thread, which only waits for the worker, is not that of the job.
+    BoltUsage.report(BoltUsage.UNAVAILABLE);
+
+    final Worker worker;
+    try {
+      worker = acquire();
+    } catch (IOException | RuntimeException e) {
+      return new RunnerException("bolt.runner.worker.start", e);
+    }
+    prestart();
+
+    final Job job = new Job(worker, inputStream, outputStream);
+    try {
+      worker.send(className, outputCharset, arguments != null ? arguments : new String[0]);
+      job.start();
+      job.done.await();
+      job.input.join();
+    } catch (InterruptedException e) {
+      worker.destroy();
+      Thread.currentThread().interrupt();
+      return new RunnerException("bolt.runner.worker.interrupted", e);
+    } catch (IOException | RuntimeException e) {
+      worker.destroy();
+      return new RunnerException("bolt.runner.worker.channel", e);
+    }
+
+    // The job did not complete, so the worker exited, or was destroyed.
+    if (!job.completed) {
+      worker.destroy();
+      if (job.outputFailure != null) {
+        return job.outputFailure;
+      }
+      final int exitValue = worker.exitValue();
+      return exitValue != 0 ? new RunnerExitException(exitValue) : null;
+    }
+
+    release(worker, true);
+    if (job.inputFailure != null) {
+      return new RunnerException("bolt.runner.worker.input", job.inputFailure);
+    }
+    return job.error;
+  }
+
+  /**
+   * Borrow an idle worker, or start one if none is idle.
+   *
+   * @return worker
+   * @throws java.io.IOException if the worker fails to start
+   */
+  private Worker acquire() throws IOException {
+    synchronized (idle) {
+      while (!idle.isEmpty()) {
+        final Worker worker = idle.pollFirst();
+        if (worker.isAlive()) {
+          return worker;
+        }
+      }
+    }
+    return Worker.start();
+  }
+
+  /**
+   * Return a worker to the pool, or discard it if the pool is full.
+   *
+   * <p>A worker that completed a job is warm, so it is borrowed first. A spare worker is cold, so
+   * it is borrowed last.
+   *
+   * @param worker worker to return
+   * @param warm {@code true} for a worker that completed a job, {@code false} for a spare worker
+   */
+  private void release(Worker worker, boolean warm) {
+    synchronized (idle) {
+      if (idle.size() < capacity) {
+        if (warm) {
+          idle.offerFirst(worker);
+        } else {
+          idle.offerLast(worker);
+        }
+        return;
+      }
+    }
+    worker.close();
+  }
+
+  /**
+   * Retrieve the number of idle workers.
+   *
+   * @return number of idle workers
+   */
+  int idleCount() {
+    synchronized (idle) {
+      return idle.size();
+    }
+  }
+
+  /** Start a spare worker in the background, if no worker is idle or being started. */
+  private void prestart() {
+    synchronized (idle) {
+      if (!idle.isEmpty() || starting > 0) {
+        return;
+      }
+      starting++;
+    }
+
+    final Thread thread =
+        new Thread(
+            () -> {
+              Worker worker = null;
+              try {
+                worker = Worker.start();
+              } catch (IOException | RuntimeException ignore) {
+              } finally {
+                synchronized (idle) {
+                  starting--;
+                }
+              }
+              if (worker != null) {
+                release(worker, false);
+              }
+            },
+            "bolt-worker-start-" + COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static int capacity() {
+    return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  }
+
+  /** Job on a worker, with its input and output pumps. */
+  private static final class Job {
+
+    private final Worker worker;
+
+    private final InputStream inputStream;
+
+    private final OutputStream outputStream;
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private Thread input;
+
+    private volatile boolean completed = false;
+
+    private volatile Exception error = null;
+
+    private volatile Exception inputFailure = null;
+
+    private volatile Exception outputFailure = null;
+
+    Job(Worker worker, InputStream inputStream, OutputStream outputStream) {
+      this.worker = worker;
+      this.inputStream = inputStream;
+      this.outputStream = outputStream;
+    }
+
+    void start() {
+      final int id = COUNT.incrementAndGet();
+      input = new Thread(this::pumpInput, "bolt-worker-input-" + id);
+      input.setDaemon(true);
+      input.start();
+      final Thread output = new Thread(this::pumpOutput, "bolt-worker-output-" + id);
+      output.setDaemon(true);
+      output.start();
+    }
+
+    /** Pump the program input to the worker, followed by the end of input. */
+    private void pumpInput() {
+      final byte[] buffer = new byte[BoltWorker.BUFFER_SIZE];
+      try {
+        int size;
+        while ((size = read(buffer)) != -1) {
+          if (size > 0) {
+            worker.sendInput(buffer, size);
+          }
+        }
+        worker.sendEnd();
+      } catch (IOException ignore) {
+        // The worker exited, or was destroyed.
+      }
+    }
+
+    /**
+     * Read the program input, ending it on failure.
+     *
+     * @param buffer input buffer
+     * @return number of bytes read, or -1 at the end of input
+     */
+    private int read(byte[] buffer) {
+      try {
+        return inputStream.read(buffer, 0, buffer.length);
+      } catch (Exception e) {
+        inputFailure = e;
+        return -1;
+      }
+    }
+
+    /** Pump the job output frames to the program output, until the job completes. */
+    private void pumpOutput() {
+      final byte[] buffer = new byte[BoltWorker.BUFFER_SIZE];
+      try {
+        final DataInputStream in = worker.in;
+        int frame;
+        while ((frame = in.read()) != -1) {
+          if (frame == BoltWorker.OUTPUT) {
+            int remaining = in.readInt();
+            while (remaining > 0) {
+              final int size = Math.min(remaining, buffer.length);
+              in.readFully(buffer, 0, size);
+              outputStream.write(buffer, 0, size);
+              remaining -= size;
+            }
+          } else if (frame == BoltWorker.ERROR) {
+            error = readError(in);
+          } else if (frame == BoltWorker.DONE) {
+            completed = true;
+            return;
+          } else {
+            throw new IOException("bolt.runner.worker.frame.invalid");
+          }
+        }
+      } catch (IOException e) {
+        // The worker exited, or was destroyed.
+      } catch (Exception e) {
+        // The program output refused a write, so the job is abandoned.
+        outputFailure = e;
+        worker.destroy();
+      } finally {
+        done.countDown();
+      }
+    }
+
+    /**
+     * Read the job error frame, and rebuild the job error as a runner exception.
+     *
+     * <p>A runner exception of the worker keeps its message. Any other job error is reported as
+     * "bolt.runner.worker.program.error", caused by a runner exception with the class name and
+     * message of the job error, and its stack trace.
+     *
+     * @param in channel from the worker
+     * @return job error as a runner exception
+     * @throws java.io.IOException if the channel fails, or the frame is invalid
+     */
+    private static RunnerException readError(DataInputStream in) throws IOException {
+      final String className = in.readUTF();
+      final boolean hasMessage = in.readBoolean();
+      final String message = in.readUTF();
+      final int depth = in.readInt();
+      if (depth < 0 || depth > BoltWorker.MAX_STACK_DEPTH) {
+        throw new IOException("bolt.runner.worker.frame.invalid");
+      }
+      final StackTraceElement[] trace = new StackTraceElement[depth];
+      for (int index = 0; index < depth; index++) {
+        final String declaringClass = in.readUTF();
+        final String methodName = in.readUTF();
+        final String fileName = in.readUTF();
+        final int lineNumber = in.readInt();
+        trace[index] =
+            new StackTraceElement(
+                declaringClass, methodName, fileName.isEmpty() ? null : fileName, lineNumber);
+      }
+
+      if (RunnerException.class.getName().equals(className) && hasMessage) {
+        final RunnerException error = new RunnerException(message);
+        error.setStackTrace(trace);
+        return error;
+      }
+
+      final RunnerException cause =
+          new RunnerException(hasMessage ? className + ": " + message : className);
+      cause.setStackTrace(trace);
+      return new RunnerException("bolt.runner.worker.program.error", cause);
+    }
+  }
+
+  /** Worker Java virtual machine, and its channels. */
+  private static final class Worker {
+
+    private final Process process;
+
+    private final DataInputStream in;
+
+    private final DataOutputStream out;
+
+    private Worker(Process process) {
+      this.process = process;
+      this.in =
+          new DataInputStream(
+              new BufferedInputStream(process.getInputStream(), BoltWorker.BUFFER_SIZE));
+      this.out =
+          new DataOutputStream(
+              new BufferedOutputStream(process.getOutputStream(), BoltWorker.BUFFER_SIZE));
+    }
+
+    /**
+     * Start a worker, and wait for its ready signal.
+     *
+     * @return started worker
+     * @throws java.io.IOException if the worker fails to start
+     */
+    static Worker start() throws IOException {
+      final List<String> command = new ArrayList<>();
+      command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+      command.add("-cp");
+      command.add(classPath());
+      command.add(BoltWorker.class.getName());
+
+      final ProcessBuilder builder = new ProcessBuilder(command);
+      builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+      final Worker worker = new Worker(builder.start());
+      if (worker.in.read() != BoltWorker.READY) {
+        worker.destroy();
+        throw new IOException("bolt.runner.worker.not.ready");
+      }
+      return worker;
+    }
+
+    void send(String className, Charset charset, String[] arguments) throws IOException {
+      synchronized (out) {
+        out.writeByte(BoltWorker.RUN);
+        out.writeUTF(className);
+        out.writeUTF(charset.name());
+        out.writeInt(arguments.length);
+        for (String argument : arguments) {
+          out.writeUTF(argument != null ? argument : "");
+        }
+        out.flush();
+      }
+    }
+
+    void sendInput(byte[] buffer, int size) throws IOException {
+      synchronized (out) {
+        out.writeByte(BoltWorker.INPUT);
+        out.writeInt(size);
+        out.write(buffer, 0, size);
+        out.flush();
+      }
+    }
+
+    void sendEnd() throws IOException {
+      synchronized (out) {
+        out.writeByte(BoltWorker.END);
+        out.flush();
+      }
+    }
+
+    boolean isAlive() {
+      return process.isAlive();
+    }
+
+    int exitValue() {
+      try {
+        return process.waitFor();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return -1;
+      }
+    }
+
+    /** Close the worker, which ends when its standard input is closed. */
+    void close() {
+      try {
+        out.close();
+      } catch (IOException e) {
+        destroy();
+      }
+    }
+
+    void destroy() {
+      process.destroyForcibly();
+    }
+
+    /**
+     * Retrieve the class path of the worker: the location of this library, and the class path and
+     * module path of this Java virtual machine.
+     *
+     * @return worker class path
+     */
+    private static String classPath() {
+      final Set<String> entries = new LinkedHashSet<>();
+      final String location = location();
+      if (location != null) {
+        entries.add(location);
+      }
+      for (String property : new String[] {"java.class.path", "jdk.module.path"}) {
+        for (String entry : System.getProperty(property, "").split(File.pathSeparator)) {
+          if (!entry.isEmpty()) {
+            entries.add(entry);
+          }
+        }
+      }
+      return String.join(File.pathSeparator, entries);
+    }
+
+    private static String location() {
+      try {
+        final CodeSource source = BoltWorker.class.getProtectionDomain().getCodeSource();
+        final URL url = source != null ? source.getLocation() : null;
+        return url != null ? Paths.get(url.toURI()).toString() : null;
+      } catch (URISyntaxException | RuntimeException e) {
+        return null;
+      }
+    }
+  }
+}
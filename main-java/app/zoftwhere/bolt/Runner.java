@@ -1,17 +1,22 @@
 package app.zoftwhere.bolt;
 
 import app.zoftwhere.bolt.api.RunnerInterface;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerPreProgram;
 import app.zoftwhere.bolt.api.RunnerProgram;
 import app.zoftwhere.bolt.api.RunnerProgramInput;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Bolt Assertion Runner.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 1.0.0
  */
 public class Runner extends AbstractRunner {
@@ -26,6 +31,9 @@ public class Runner extends AbstractRunner {
   /** Default character encoding to use for input and program when none is specified. */
   private final Charset encoding;
 
+  /** Execution settings for programs run with this runner. */
+  private final BoltSetting setting;
+
   /**
    * Constructor for a reusable, immutable, instance (more than one test can be run with it).
    *
@@ -35,18 +43,21 @@ public class Runner extends AbstractRunner {
    */
   public Runner() {
     encoding = DEFAULT_ENCODING;
+    setting = new BoltSetting();
   }
 
   /**
    * Constructor for Runner (private).
    *
-   * <p>Creates an instance with a user-defined default encoding.
+   * <p>Creates an instance with a user-defined default encoding and execution settings.
    *
    * @param encoding default encoding
-   * @since 11.0.0
+   * @param setting execution settings
+   * @since 12.0.0
    */
-  private Runner(Charset encoding) {
+  private Runner(Charset encoding, BoltSetting setting) {
     this.encoding = encoding != null ? encoding : DEFAULT_ENCODING;
+    this.setting = setting;
   }
 
   /**
@@ -66,7 +77,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerInterface encoding(Charset encoding) {
-    return new Runner(encoding);
+    return new Runner(encoding, setting);
   }
 
   /**
@@ -79,6 +90,156 @@ public class Runner extends AbstractRunner {
     return encoding;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface streamExpectation(int window) {
+    return new Runner(encoding, setting.expectationWindow(window));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface spillThreshold(long bytes) {
+    return new Runner(encoding, setting.spillThreshold(bytes));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface preEncodeInput(boolean enabled) {
+    return new Runner(encoding, setting.preEncodeInput(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface virtualThreads(boolean enabled) {
+    return new Runner(encoding, setting.virtualThreads(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface timeLimit(Duration limit) {
+    return new Runner(encoding, setting.timeLimit(limit));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface memoryLimit(long bytes) {
+    return new Runner(encoding, setting.memoryLimit(bytes));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface outputLimit(long bytes) {
+    return new Runner(encoding, setting.outputLimit(bytes));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface abortOnMismatch(boolean enabled) {
+    return new Runner(encoding, setting.abortOnMismatch(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface pipelineComparison(boolean enabled) {
+    return new Runner(encoding, setting.pipelineComparison(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface captureErrorStream(boolean enabled) {
+    return new Runner(encoding, setting.captureErrorStream(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface processCpuLimit(Duration limit) {
+    return new Runner(encoding, setting.processCpuLimit(limit));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface processMemoryLimit(long bytes) {
+    return new Runner(encoding, setting.processMemoryLimit(bytes));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface processFileLimit(long files) {
+    return new Runner(encoding, setting.processFileLimit(files));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface inProcessMain(boolean enabled) {
+    return new Runner(encoding, setting.inProcessMain(enabled));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerInterface charCapture(boolean enabled) {
+    return new Runner(encoding, setting.charCapture(enabled));
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -86,7 +247,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgram run(RunStandard program) {
-    return new BoltProvideProgram(encoding).run(program);
+    return new BoltProvideProgram(encoding, setting).run(program);
   }
 
   /**
@@ -96,7 +257,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgram run(Charset charset, RunStandard program) {
-    return new BoltProvideProgram(encoding).run(charset, program);
+    return new BoltProvideProgram(encoding, setting).run(charset, program);
   }
 
   /**
@@ -106,7 +267,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgram runConsole(RunConsole program) {
-    return new BoltProvideProgram(encoding).runConsole(program);
+    return new BoltProvideProgram(encoding, setting).runConsole(program);
   }
 
   /**
@@ -116,7 +277,107 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgram runConsole(Charset charset, RunConsole program) {
-    return new BoltProvideProgram(encoding).runConsole(charset, program);
+    return new BoltProvideProgram(encoding, setting).runConsole(charset, program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgram runProcess(List<String> command) {
+    return new BoltProvideProgram(encoding, setting).runProcess(command);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgram runProcess(Charset charset, List<String> command) {
+    return new BoltProvideProgram(encoding, setting).runProcess(charset, command);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runMain(String className) {
+    return new BoltProvideProgram(encoding, setting).runMain(className);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runMain(Charset charset, String className) {
+    return new BoltProvideProgram(encoding, setting).runMain(charset, className);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runSystem(RunSystem program) {
+    return new BoltProvideProgram(encoding, setting).runSystem(program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runSystem(Charset charset, RunSystem program) {
+    return new BoltProvideProgram(encoding, setting).runSystem(charset, program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgram runFast(RunFast program) {
+    return new BoltProvideProgram(encoding, setting).runFast(program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgram runFast(Charset charset, RunFast program) {
+    return new BoltProvideProgram(encoding, setting).runFast(charset, program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runFast(RunFastArgued program) {
+    return new BoltProvideProgram(encoding, setting).runFast(program);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerPreProgram runFast(Charset charset, RunFastArgued program) {
+    return new BoltProvideProgram(encoding, setting).runFast(charset, program);
   }
 
   /**
@@ -126,7 +387,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerPreProgram run(RunStandardArgued program) {
-    return new BoltProvideProgram(encoding).run(program);
+    return new BoltProvideProgram(encoding, setting).run(program);
   }
 
   /**
@@ -136,7 +397,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerPreProgram run(Charset charset, RunStandardArgued program) {
-    return new BoltProvideProgram(encoding).run(charset, program);
+    return new BoltProvideProgram(encoding, setting).run(charset, program);
   }
 
   /**
@@ -146,7 +407,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerPreProgram runConsole(RunConsoleArgued program) {
-    return new BoltProvideProgram(encoding).runConsole(program);
+    return new BoltProvideProgram(encoding, setting).runConsole(program);
   }
 
   /**
@@ -156,7 +417,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerPreProgram runConsole(Charset charset, RunConsoleArgued program) {
-    return new BoltProvideProgram(encoding).runConsole(charset, program);
+    return new BoltProvideProgram(encoding, setting).runConsole(charset, program);
   }
 
   /**
@@ -166,7 +427,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput input(String... input) {
-    return new BoltProvideInput(encoding).input(input);
+    return new BoltProvideInput(encoding, setting).input(input);
   }
 
   /**
@@ -176,7 +437,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput input(Charset charset, String... input) {
-    return new BoltProvideInput(encoding).input(charset, input);
+    return new BoltProvideInput(encoding, setting).input(charset, input);
   }
 
   /**
@@ -186,7 +447,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput input(InputStreamSupplier supplier) {
-    return new BoltProvideInput(encoding).input(supplier);
+    return new BoltProvideInput(encoding, setting).input(supplier);
   }
 
   /**
@@ -196,7 +457,27 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput input(InputStreamSupplier supplier, Charset charset) {
-    return new BoltProvideInput(encoding).input(supplier, charset);
+    return new BoltProvideInput(encoding, setting).input(supplier, charset);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgramInput input(RunnerInput input) {
+    return new BoltProvideInput(encoding, setting).input(input);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public RunnerProgramInput input(RunnerInput input, Charset charset) {
+    return new BoltProvideInput(encoding, setting).input(input, charset);
   }
 
   /**
@@ -206,7 +487,7 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput loadInput(String resourceName, Class<?> withClass) {
-    return new BoltProvideInput(encoding).loadInput(resourceName, withClass);
+    return new BoltProvideInput(encoding, setting).loadInput(resourceName, withClass);
   }
 
   /**
@@ -216,6 +497,6 @@ public class Runner extends AbstractRunner {
    */
   @Override
   public RunnerProgramInput loadInput(String resourceName, Class<?> withClass, Charset charset) {
-    return new BoltProvideInput(encoding).loadInput(resourceName, withClass, charset);
+    return new BoltProvideInput(encoding, setting).loadInput(resourceName, withClass, charset);
   }
 }
@@ -0,0 +1,149 @@
+package app.zoftwhere.bolt;
+
+import java.nio.charset.Charset;
+
+/**
+ * Bolt Assertion Runner Case.
+ *
+ * <p>{@code RunnerCase} is an immutable input-expectation pair, for running a program against many
+ * cases with {@code batch(...)}.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public final class RunnerCase {
+
+  private final RunnerInput input;
+
+  /** Expected program output, or null for a resource expectation. */
+  private final String[] expected;
+
+  private final String resourceName;
+
+  private final Class<?> withClass;
+
+  /** Whether the resource is decoded with the default character encoding of the runner. */
+  private final boolean defaultCharset;
+
+  private final Charset charset;
+
+  /**
+   * Constructor for RunnerCase (private).
+   *
+   * @param input program input fixture
+   * @param expected expected program output, or null for a resource expectation
+   * @param resourceName expectation resource name
+   * @param withClass class with which to retrieve the expectation resource
+   * @param defaultCharset whether to decode the resource with the default character encoding
+   * @param charset character encoding of the expectation resource
+   * @since 12.0.0
+   */
+  private RunnerCase(
+      RunnerInput input,
+      String[] expected,
+      String resourceName,
+      Class<?> withClass,
+      boolean defaultCharset,
+      Charset charset) {
+    this.input = input;
+    this.expected = expected;
+    this.resourceName = resourceName;
+    this.withClass = withClass;
+    this.defaultCharset = defaultCharset;
+    this.charset = charset;
+  }
+
+  /**
+   * Create a case with the expected program output specified.
+   *
+   * @param input program input fixture
+   * @param expected expected program output
+   * @return {@code RunnerCase}
+   * @since 12.0.0
+   */
+  public static RunnerCase of(RunnerInput input, String... expected) {
+    String[] expectation = expected == null || expected.length == 0 ? new String[] {""} : expected;
+    return new RunnerCase(input, expectation.clone(), null, null, false, null);
+  }
+
+  /**
+   * Create a case with the expected program output loaded from a resource, encoded with the default
+   * character encoding of the runner.
+   *
+   * @param input program input fixture
+   * @param resourceName resource name for loading expected program output
+   * @param withClass class with which to retrieve the expected program output resource
+   * @return {@code RunnerCase}
+   * @since 12.0.0
+   */
+  public static RunnerCase load(RunnerInput input, String resourceName, Class<?> withClass) {
+    return new RunnerCase(input, null, resourceName, withClass, true, null);
+  }
+
+  /**
+   * Create a case with the expected program output loaded from a resource.
+   *
+   * @param input program input fixture
+   * @param resourceName resource name for loading expected program output
+   * @param withClass class with which to retrieve the expected program output resource
+   * @param charset character encoding of the resource
+   * @return {@code RunnerCase}
+   * @since 12.0.0
+   */
+  public static RunnerCase load(
+      RunnerInput input, String resourceName, Class<?> withClass, Charset charset) {
+    return new RunnerCase(input, null, resourceName, withClass, false, charset);
+  }
+
+  /**
+   * Retrieve the program input fixture.
+   *
+   * @return program input fixture
+   * @since 12.0.0
+   */
+  RunnerInput input() {
+    return input;
+  }
+
+  /**
+   * Retrieve the expected program output.
+   *
+   * @return expected program output, or null for a resource expectation
+   * @since 12.0.0
+   */
+  String[] expected() {
+    return expected;
+  }
+
+  /**
+   * Retrieve the expectation resource name.
+   *
+   * @return expectation resource name
+   * @since 12.0.0
+   */
+  String resourceName() {
+    return resourceName;
+  }
+
+  /**
+   * Retrieve the class with which to retrieve the expectation resource.
+   *
+   * @return class with which to retrieve the expectation resource
+   * @since 12.0.0
+   */
+  Class<?> withClass() {
+    return withClass;
+  }
+
+  /**
+   * Retrieve the character encoding of the expectation resource.
+   *
+   * @param encoding default character encoding
+   * @return character encoding of the expectation resource
+   * @since 12.0.0
+   */
+  Charset charset(Charset encoding) {
+    return defaultCharset ? encoding : charset;
+  }
+}
@@ -0,0 +1,44 @@
+package app.zoftwhere.bolt;
+
+/**
+ * Bolt Assertion Runner Exit Exception.
+ *
+ * <p>{@code RunnerExitException} is the error of a program process, or worker process, that exited
+ * with a non-zero exit value.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public class RunnerExitException extends RunnerException {
+
+  static final long serialVersionUID = 0x1e7d45a08b3fc629L;
+
+  /** Error message for a process that exits with a non-zero exit value. */
+  static final String EXIT_VALUE = "bolt.runner.process.exit.value";
+
+  private final int exitValue;
+
+  /**
+   * Constructor for RunnerExitException.
+   *
+   * <p>Creates a {@code RunnerExitException} with the message "bolt.runner.process.exit.value".
+   *
+   * @param exitValue process exit value
+   * @since 12.0.0
+   */
+  public RunnerExitException(int exitValue) {
+    super(EXIT_VALUE, null);
+    this.exitValue = exitValue;
+  }
+
+  /**
+   * Retrieve the exit value of the process.
+   *
+   * @return process exit value
+   * @since 12.0.0
+   */
+  public int exitValue() {
+    return exitValue;
+  }
+}
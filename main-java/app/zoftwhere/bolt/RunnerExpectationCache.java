@@ -0,0 +1,125 @@
+package app.zoftwhere.bolt;
+
+/**
+ * Bolt Assertion Runner Expectation Cache.
+ *
+ * <p>Expectations loaded with {@code loadExpectation(...)} are decoded once and cached for the
+ * process, keyed on class loader, resource name and character encoding. The cache is bounded by a
+ * byte budget (an estimate of the heap retained by the decoded lines), and evicts the
+ * least-recently-used expectations to stay within it.
+ *
+ * <p>Streamed expectations (see {@link
+ * app.zoftwhere.bolt.api.RunnerSetting#streamExpectation(int)}) bypass the cache.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public final class RunnerExpectationCache {
+
+  /**
+   * Default byte budget (32 MiB).
+   *
+   * @since 12.0.0
+   */
+  public static final long DEFAULT_BUDGET = BoltExpectationCache.DEFAULT_BUDGET;
+
+  private RunnerExpectationCache() {}
+
+  /**
+   * Retrieve the byte budget.
+   *
+   * @return byte budget
+   * @since 12.0.0
+   */
+  public static long budget() {
+    return BoltExpectationCache.INSTANCE.budget();
+  }
+
+  /**
+   * Specify the byte budget, evicting the least-recently-used expectations as needed.
+   *
+   * @param bytes byte budget, or zero (or negative) to disable caching
+   * @since 12.0.0
+   */
+  public static void budget(long bytes) {
+    BoltExpectationCache.INSTANCE.budget(bytes);
+  }
+
+  /**
+   * Retrieve the estimated size of the cached expectations.
+   *
+   * @return estimated size in bytes
+   * @since 12.0.0
+   */
+  public static long size() {
+    return BoltExpectationCache.INSTANCE.size();
+  }
+
+  /**
+   * Retrieve the number of cached expectations.
+   *
+   * @return number of cached expectations
+   * @since 12.0.0
+   */
+  public static int count() {
+    return BoltExpectationCache.INSTANCE.count();
+  }
+
+  /**
+   * Retrieve the number of expectations loaded from the cache.
+   *
+   * @return hit count
+   * @since 12.0.0
+   */
+  public static long hits() {
+    return BoltExpectationCache.INSTANCE.hits();
+  }
+
+  /**
+   * Retrieve the number of expectations decoded from their resource.
+   *
+   * @return miss count
+   * @since 12.0.0
+   */
+  public static long misses() {
+    return BoltExpectationCache.INSTANCE.misses();
+  }
+
+  /**
+   * Retrieve the number of expectations evicted to stay within the budget.
+   *
+   * @return eviction count
+   * @since 12.0.0
+   */
+  public static long evictions() {
+    return BoltExpectationCache.INSTANCE.evictions();
+  }
+
+  /**
+   * Remove all cached expectations, and reset the counters.
+   *
+   * @since 12.0.0
+   */
+  public static void clear() {
+    BoltExpectationCache.INSTANCE.clear();
+  }
+
+  /**
+   * Retrieve a summary of the cache counters, for reporting after a run.
+   *
+   * @return cache counter summary
+   * @since 12.0.0
+   */
+  public static String statistics() {
+    final BoltExpectationCache cache = BoltExpectationCache.INSTANCE;
+    return String.format(
+        "hits=%d, misses=%d, evictions=%d, count=%d, size=%d, budget=%d",
+        cache.hits(),
+        cache.misses(),
+        cache.evictions(),
+        cache.count(),
+        cache.size(),
+        cache.budget());
+  }
+}
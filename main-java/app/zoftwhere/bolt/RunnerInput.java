@@ -0,0 +1,244 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltUtility.arrayHasNull;
+
+import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bolt Assertion Runner Input.
+ *
+ * <p>{@code RunnerInput} is a reusable, immutable, program input fixture. It is built once from
+ * strings, a resource, or a file, and can be specified as input for any number of runs.
+ *
+ * <p>The encoded bytes are cached per character encoding, so a fixture is encoded at most once for
+ * each {@link java.nio.charset.Charset} it is specified with.
+ *
+ * <p>Failures while building a fixture (null arguments, a missing resource, or a read failure) are
+ * retained, and reported as the execution error of every run that specifies it.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public final class RunnerInput {
+
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  /** Input rows, or null for a fixture loaded as bytes. */
+  private final String[] rows;
+
+  /** Encoding of the loaded bytes, or null for a fixture built from strings. */
+  private final Charset charset;
+
+  /** Loaded bytes, or null for a fixture built from strings. */
+  private final byte[] data;
+
+  private final RunnerException error;
+
+  private final ConcurrentMap<Charset, byte[]> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor for RunnerInput (private).
+   *
+   * @param rows input rows, or null for a fixture loaded as bytes
+   * @param charset encoding of the loaded bytes, or null for a fixture built from strings
+   * @param data loaded bytes, or null for a fixture built from strings
+   * @param error fixture error, if any
+   * @since 12.0.0
+   */
+  private RunnerInput(String[] rows, Charset charset, byte[] data, RunnerException error) {
+    this.rows = rows;
+    this.charset = charset;
+    this.data = data;
+    this.error = error;
+    if (data != null) {
+      cache.put(charset, data);
+    }
+  }
+
+  /**
+   * Create an input fixture for the rows specified.
+   *
+   * <p>The rows are copied, and joined with new lines as for {@code input(String...)}.
+   *
+   * @param input program input
+   * @return {@code RunnerInput} fixture
+   * @since 12.0.0
+   */
+  public static RunnerInput of(String... input) {
+    if (input == null) {
+      return failed("bolt.runner.variable.argument.input.null", null);
+    }
+
+    if (arrayHasNull(input)) {
+      return failed("bolt.runner.variable.argument.input.has.null", null);
+    }
+
+    return new RunnerInput(input.clone(), null, null, null);
+  }
+
+  /**
+   * Create an input fixture for a resource, encoded with {@link Runner#DEFAULT_ENCODING}.
+   *
+   * @param resourceName resource name for loading program input
+   * @param withClass class with which to retrieve the program input resource
+   * @return {@code RunnerInput} fixture
+   * @since 12.0.0
+   */
+  public static RunnerInput load(String resourceName, Class<?> withClass) {
+    return load(resourceName, withClass, Runner.DEFAULT_ENCODING);
+  }
+
+  /**
+   * Create an input fixture for a resource.
+   *
+   * <p>The resource is read once, when the fixture is created.
+   *
+   * @param resourceName resource name for loading program input
+   * @param withClass class with which to retrieve the program input resource
+   * @param charset character encoding of the resource
+   * @return {@code RunnerInput} fixture
+   * @since 12.0.0
+   */
+  public static RunnerInput load(String resourceName, Class<?> withClass, Charset charset) {
+    if (charset == null) {
+      return failed("bolt.runner.load.input.charset.null", null);
+    }
+
+    if (resourceName == null) {
+      return failed("bolt.runner.load.input.resource.name.null", null);
+    }
+
+    if (withClass == null) {
+      return failed("bolt.runner.load.input.resource.class.null", null);
+    }
+
+    try (InputStream inputStream = withClass.getResourceAsStream(resourceName)) {
+      if (inputStream == null) {
+        return failed("bolt.runner.load.input.resource.not.found", null);
+      }
+      return new RunnerInput(null, charset, readBytes(inputStream), null);
+    } catch (IOException e) {
+      return failed("bolt.runner.load.input.read", e);
+    }
+  }
+
+  /**
+   * Create an input fixture for a file, encoded with {@link Runner#DEFAULT_ENCODING}.
+   *
+   * @param path path of the file for program input
+   * @return {@code RunnerInput} fixture
+   * @since 12.0.0
+   */
+  public static RunnerInput load(Path path) {
+    return load(path, Runner.DEFAULT_ENCODING);
+  }
+
+  /**
+   * Create an input fixture for a file.
+   *
+   * <p>The file is read once, when the fixture is created.
+   *
+   * @param path path of the file for program input
+   * @param charset character encoding of the file
+   * @return {@code RunnerInput} fixture
+   * @since 12.0.0
+   */
+  public static RunnerInput load(Path path, Charset charset) {
+    if (charset == null) {
+      return failed("bolt.runner.load.input.charset.null", null);
+    }
+
+    if (path == null) {
+      return failed("bolt.runner.load.input.file.null", null);
+    }
+
+    try {
+      return new RunnerInput(null, charset, Files.readAllBytes(path), null);
+    } catch (IOException e) {
+      return failed("bolt.runner.load.input.read", e);
+    }
+  }
+
+  /**
+   * Retrieve the character encoding in which the fixture is served when none is specified.
+   *
+   * @param encoding default character encoding
+   * @return encoding of the loaded bytes, or {@code encoding} for a fixture built from strings
+   * @since 12.0.0
+   */
+  Charset charset(Charset encoding) {
+    return charset != null ? charset : encoding;
+  }
+
+  /**
+   * Retrieve the fixture error, if any.
+   *
+   * @return fixture error, if any, null otherwise
+   * @since 12.0.0
+   */
+  RunnerException error() {
+    return error;
+  }
+
+  /**
+   * Return an {@link java.io.InputStream} supplier for the fixture, encoded as specified.
+   *
+   * <p>The fixture is encoded on first use, and the encoded bytes reused thereafter.
+   *
+   * @param encoding character encoding for {@link java.io.InputStream}
+   * @return {@link java.io.InputStream} supplier over the encoded bytes
+   * @since 12.0.0
+   */
+  InputStreamSupplier supplier(Charset encoding) {
+    return () -> new ByteArrayInputStream(encoded(encoding));
+  }
+
+  /**
+   * Retrieve the fixture bytes, encoded as specified.
+   *
+   * @param encoding character encoding
+   * @return encoded bytes (shared, not to be modified)
+   * @since 12.0.0
+   */
+  byte[] encoded(Charset encoding) {
+    return cache.computeIfAbsent(encoding, this::encode);
+  }
+
+  private byte[] encode(Charset encoding) {
+    if (rows != null) {
+      return BoltArrayInputStream.encode(rows, encoding);
+    }
+
+    try (InputStream inputStream =
+        new BoltInputStream(new ByteArrayInputStream(data), charset, encoding)) {
+      return readBytes(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  private static byte[] readBytes(InputStream inputStream) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    int count;
+    while ((count = inputStream.read(buffer, 0, buffer.length)) != -1) {
+      outputStream.write(buffer, 0, count);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static RunnerInput failed(String message, Throwable cause) {
+    return new RunnerInput(null, null, null, new RunnerException(message, cause));
+  }
+}
@@ -0,0 +1,49 @@
+package app.zoftwhere.bolt;
+
+/**
+ * Bolt Assertion Runner Memory Limit Exception.
+ *
+ * <p>{@code RunnerMemoryLimitException} is the error of a program that used more memory than the
+ * memory limit of the runner.
+ *
+ * <p>The cause holds the stack trace of the program thread when the limit was exceeded, or the
+ * {@link java.lang.OutOfMemoryError} that ended the program.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public class RunnerMemoryLimitException extends RunnerException {
+
+  static final long serialVersionUID = 0x6c2a94e05fb1d873L;
+
+  /** Error message for a program that exceeded its memory limit. */
+  static final String MEMORY_LIMIT_EXCEEDED = "bolt.runner.memory.limit.exceeded";
+
+  private final long limit;
+
+  /**
+   * Constructor for RunnerMemoryLimitException.
+   *
+   * <p>Creates a {@code RunnerMemoryLimitException} with the message
+   * "bolt.runner.memory.limit.exceeded".
+   *
+   * @param limit memory limit in bytes
+   * @param cause error cause
+   * @since 12.0.0
+   */
+  public RunnerMemoryLimitException(long limit, Throwable cause) {
+    super(MEMORY_LIMIT_EXCEEDED, cause);
+    this.limit = limit;
+  }
+
+  /**
+   * Retrieve the memory limit that was exceeded.
+   *
+   * @return memory limit in bytes
+   * @since 12.0.0
+   */
+  public long limit() {
+    return limit;
+  }
+}
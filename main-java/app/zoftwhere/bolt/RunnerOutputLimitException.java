@@ -0,0 +1,48 @@
+package app.zoftwhere.bolt;
+
+/**
+ * Bolt Assertion Runner Output Limit Exception.
+ *
+ * <p>{@code RunnerOutputLimitException} is thrown from the program output stream when a write would
+ * exceed the output limit of the runner. The output written up to the limit is retained.
+ *
+ * <p>It is a runtime exception, so that it is not swallowed by a {@link java.io.PrintStream}, and
+ * ends the program at the offending write.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public class RunnerOutputLimitException extends RunnerException {
+
+  static final long serialVersionUID = 0x5d1f0e3a9c47b214L;
+
+  /** Error message for a program that exceeded its output limit. */
+  static final String OUTPUT_LIMIT_EXCEEDED = "bolt.runner.output.limit.exceeded";
+
+  private final long limit;
+
+  /**
+   * Constructor for RunnerOutputLimitException.
+   *
+   * <p>Creates a {@code RunnerOutputLimitException} with the message
+   * "bolt.runner.output.limit.exceeded".
+   *
+   * @param limit output limit in bytes
+   * @since 12.0.0
+   */
+  public RunnerOutputLimitException(long limit) {
+    super(OUTPUT_LIMIT_EXCEEDED, null);
+    this.limit = limit;
+  }
+
+  /**
+   * Retrieve the output limit that was exceeded.
+   *
+   * @return output limit in bytes
+   * @since 12.0.0
+   */
+  public long limit() {
+    return limit;
+  }
+}
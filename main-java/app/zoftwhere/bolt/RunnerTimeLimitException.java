@@ -0,0 +1,51 @@
+package app.zoftwhere.bolt;
+
+import java.time.Duration;
+
+/**
+ * Bolt Assertion Runner Time Limit Exception.
+ *
+ * <p>{@code RunnerTimeLimitException} is the error of a program that did not complete within the
+ * wall-clock time limit of the runner, or that was stopped by the CPU time limit of its process.
+ *
+ * <p>The cause holds the stack trace of the program thread when the limit was exceeded, or the CPU
+ * time limit error of the process.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public class RunnerTimeLimitException extends RunnerException {
+
+  static final long serialVersionUID = 0x3b8e61d2f70a45c9L;
+
+  /** Error message for a program that exceeded its time limit. */
+  static final String TIME_LIMIT_EXCEEDED = "bolt.runner.time.limit.exceeded";
+
+  private final Duration limit;
+
+  /**
+   * Constructor for RunnerTimeLimitException.
+   *
+   * <p>Creates a {@code RunnerTimeLimitException} with the message
+   * "bolt.runner.time.limit.exceeded".
+   *
+   * @param limit time limit
+   * @param cause error cause
+   * @since 12.0.0
+   */
+  public RunnerTimeLimitException(Duration limit, Throwable cause) {
+    super(TIME_LIMIT_EXCEEDED, cause);
+    this.limit = limit;
+  }
+
+  /**
+   * Retrieve the time limit that was exceeded.
+   *
+   * @return time limit
+   * @since 12.0.0
+   */
+  public Duration limit() {
+    return limit;
+  }
+}
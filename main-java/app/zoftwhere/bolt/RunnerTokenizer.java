@@ -0,0 +1,341 @@
+package app.zoftwhere.bolt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Bolt Assertion Runner Tokenizer.
+ *
+ * <p>{@code RunnerTokenizer} is a buffered byte tokenizer for fast-IO programs, as an alternative
+ * to {@link java.util.Scanner}. Numbers are parsed directly from the input bytes, without regular
+ * expressions, or an allocation per token.
+ *
+ * <p>Tokens are separated by whitespace, which is any byte up to and including the space character.
+ * The input is read as UTF-8 (the runner transcodes program input in other encodings). Unlike
+ * {@link java.util.Scanner}, {@link #hasNext()} skips the whitespace before the next token, and a
+ * token that does not match is consumed by the method that rejects it.
+ *
+ * <p>The tokenizer is not thread-safe.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public final class RunnerTokenizer implements Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Largest mantissa that, with a power of ten up to 10^22, converts to a double exactly. */
+  private static final long EXACT_MANTISSA = 1L << 53;
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private final InputStream inputStream;
+
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+
+  private int position = 0;
+
+  private int limit = 0;
+
+  private boolean ended = false;
+
+  /** Bytes of the current token or line, for the methods that return it as text. */
+  private byte[] token = new byte[64];
+
+  /**
+   * Constructor for RunnerTokenizer (package-private).
+   *
+   * @param inputStream UTF-8 encoded program input
+   * @since 12.0.0
+   */
+  RunnerTokenizer(InputStream inputStream) {
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Check if another token is available, skipping the whitespace before it.
+   *
+   * @return {@code true} if another token is available, {@code false} at the end of input
+   * @since 12.0.0
+   */
+  public boolean hasNext() {
+    return skipWhitespace() != -1;
+  }
+
+  /**
+   * Check if another line is available.
+   *
+   * @return {@code true} if input remains, {@code false} at the end of input
+   * @since 12.0.0
+   */
+  public boolean hasNextLine() {
+    return peek() != -1;
+  }
+
+  /**
+   * Retrieve the next token.
+   *
+   * @return next token
+   * @throws java.util.NoSuchElementException at the end of input
+   * @since 12.0.0
+   */
+  public String next() {
+    requireToken();
+    int length = 0;
+    int b;
+    while ((b = peek()) > ' ') {
+      length = append(length, b);
+      position++;
+    }
+    return new String(token, 0, length, UTF_8);
+  }
+
+  /**
+   * Retrieve the remainder of the current line, and advance to the next line.
+   *
+   * <p>A line ends at a line feed, a carriage return, or a carriage return followed by a line feed.
+   *
+   * @return remainder of the current line, without its line separator
+   * @throws java.util.NoSuchElementException at the end of input
+   * @since 12.0.0
+   */
+  public String nextLine() {
+    if (peek() == -1) {
+      throw new NoSuchElementException("bolt.runner.tokenizer.no.line");
+    }
+
+    int length = 0;
+    int b;
+    while ((b = peek()) != -1 && b != '\n' && b != '\r') {
+      length = append(length, b);
+      position++;
+    }
+    if (b == '\r') {
+      position++;
+      if (peek() == '\n') {
+        position++;
+      }
+    } else if (b == '\n') {
+      position++;
+    }
+    return new String(token, 0, length, UTF_8);
+  }
+
+  /**
+   * Retrieve the next token as an int.
+   *
+   * @return next int
+   * @throws java.util.NoSuchElementException at the end of input
+   * @throws java.util.InputMismatchException if the token is not an int
+   * @since 12.0.0
+   */
+  public int nextInt() {
+    final long value = nextLong();
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new InputMismatchException("bolt.runner.tokenizer.int.range");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Retrieve the next token as a long.
+   *
+   * @return next long
+   * @throws java.util.NoSuchElementException at the end of input
+   * @throws java.util.InputMismatchException if the token is not a long
+   * @since 12.0.0
+   */
+  public long nextLong() {
+    int b = requireToken();
+    final boolean negative = b == '-';
+    if (negative || b == '+') {
+      position++;
+      b = peek();
+    }
+
+    // Accumulated as a negative value, so that Long.MIN_VALUE does not overflow.
+    long value = 0;
+    int digits = 0;
+    while (b >= '0' && b <= '9') {
+      final int digit = b - '0';
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        throw mismatch("bolt.runner.tokenizer.long.range");
+      }
+      value = value * 10 - digit;
+      digits++;
+      position++;
+      b = peek();
+    }
+    if (digits == 0 || b > ' ') {
+      throw mismatch("bolt.runner.tokenizer.long.format");
+    }
+    if (!negative) {
+      if (value == Long.MIN_VALUE) {
+        throw mismatch("bolt.runner.tokenizer.long.range");
+      }
+      return -value;
+    }
+    return value;
+  }
+
+  /**
+   * Retrieve the next token as a double.
+   *
+   * <p>Plain decimals, with digits below 2^53 and at most 22 fraction digits, are parsed directly,
+   * and rounded correctly. Other tokens, such as those with an exponent, are parsed with {@link
+   * java.lang.Double#parseDouble(String)}.
+   *
+   * @return next double
+   * @throws java.util.NoSuchElementException at the end of input
+   * @throws java.util.InputMismatchException if the token is not a double
+   * @since 12.0.0
+   */
+  public double nextDouble() {
+    int b = requireToken();
+    int length = 0;
+    final boolean negative = b == '-';
+    if (negative || b == '+') {
+      length = append(length, b);
+      position++;
+      b = peek();
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int fraction = -1;
+    boolean exact = true;
+    while (b > ' ') {
+      if (b >= '0' && b <= '9') {
+        mantissa = mantissa * 10 + (b - '0');
+        digits++;
+        if (fraction >= 0) {
+          fraction++;
+        }
+        exact &= mantissa < EXACT_MANTISSA;
+      } else if (b == '.' && fraction < 0) {
+        fraction = 0;
+      } else {
+        exact = false;
+      }
+      length = append(length, b);
+      position++;
+      b = peek();
+      if (!exact) {
+        break;
+      }
+    }
+
+    if (exact && digits > 0 && fraction < POWERS_OF_TEN.length) {
+      final double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+      return negative ? -value : value;
+    }
+
+    while ((b = peek()) > ' ') {
+      length = append(length, b);
+      position++;
+    }
+    try {
+      return Double.parseDouble(new String(token, 0, length, UTF_8));
+    } catch (NumberFormatException e) {
+      throw new InputMismatchException("bolt.runner.tokenizer.double.format");
+    }
+  }
+
+  /**
+   * Close the program input.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public void close() {
+    try {
+      inputStream.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Skip whitespace, and require a token.
+   *
+   * @return first byte of the token
+   */
+  private int requireToken() {
+    final int b = skipWhitespace();
+    if (b == -1) {
+      throw new NoSuchElementException("bolt.runner.tokenizer.no.token");
+    }
+    return b;
+  }
+
+  private int skipWhitespace() {
+    int b;
+    while ((b = peek()) != -1 && b <= ' ') {
+      position++;
+    }
+    return b;
+  }
+
+  /**
+   * Consume the remainder of a token that does not match, and return the mismatch.
+   *
+   * @param message error message
+   * @return input mismatch exception
+   */
+  private InputMismatchException mismatch(String message) {
+    while (peek() > ' ') {
+      position++;
+    }
+    return new InputMismatchException(message);
+  }
+
+  private int append(int length, int b) {
+    if (length == token.length) {
+      final byte[] grown = new byte[length * 2];
+      System.arraycopy(token, 0, grown, 0, length);
+      token = grown;
+    }
+    token[length] = (byte) b;
+    return length + 1;
+  }
+
+  /**
+   * Retrieve the next byte, without consuming it.
+   *
+   * @return next byte, or -1 at the end of input
+   */
+  private int peek() {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position] & 0xff;
+  }
+
+  private boolean fill() {
+    if (ended) {
+      return false;
+    }
+    try {
+      int size;
+      do {
+        size = inputStream.read(buffer, 0, buffer.length);
+      } while (size == 0);
+      position = 0;
+      limit = Math.max(size, 0);
+      ended = size < 0;
+      return size > 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
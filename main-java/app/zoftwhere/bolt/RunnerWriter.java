@@ -0,0 +1,456 @@
+package app.zoftwhere.bolt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Bolt Assertion Runner Writer.
+ *
+ * <p>{@code RunnerWriter} is an unsynchronized buffered writer for fast-IO programs, as an
+ * alternative to {@link java.io.PrintStream}. Numbers are printed directly into the buffer, without
+ * an allocation per value, and the buffer is encoded in bulk.
+ *
+ * <p>As with {@link java.io.PrintStream}, the print methods do not throw {@link
+ * java.io.IOException}; an I/O error is recorded, and reported by {@link #checkError()}. Runtime
+ * exceptions from the program output, such as {@link
+ * app.zoftwhere.bolt.RunnerOutputLimitException}, are not suppressed. Unmappable characters are
+ * replaced.
+ *
+ * <p>The writer is not thread-safe.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public final class RunnerWriter extends Writer {
+
+  private static final int CHAR_BUFFER_SIZE = 1 << 13;
+
+  private static final int BYTE_BUFFER_SIZE = 1 << 16;
+
+  private static final char[] DIGITS = "0123456789".toCharArray();
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final OutputStream outputStream;
+
+  private final CharsetEncoder encoder;
+
+  private final char[] chars = new char[CHAR_BUFFER_SIZE];
+
+  private final CharBuffer charBuffer = CharBuffer.wrap(chars);
+
+  private final byte[] bytes = new byte[BYTE_BUFFER_SIZE];
+
+  private final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+  private int count = 0;
+
+  private boolean closed = false;
+
+  private boolean error = false;
+
+  /**
+   * Constructor for RunnerWriter (package-private).
+   *
+   * @param outputStream program output
+   * @param charset character encoding of program output
+   * @since 12.0.0
+   */
+  RunnerWriter(OutputStream outputStream, Charset charset) {
+    this.outputStream = outputStream;
+    this.encoder =
+        charset
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  /**
+   * Print a string, or "null".
+   *
+   * @param s string to print
+   * @since 12.0.0
+   */
+  public void print(String s) {
+    final String text = s != null ? s : "null";
+    write(text, 0, text.length());
+  }
+
+  /**
+   * Print the string value of an object.
+   *
+   * @param obj object to print
+   * @since 12.0.0
+   */
+  public void print(Object obj) {
+    print(String.valueOf(obj));
+  }
+
+  /**
+   * Print a character array.
+   *
+   * @param s characters to print
+   * @since 12.0.0
+   */
+  public void print(char[] s) {
+    write(s, 0, s.length);
+  }
+
+  /**
+   * Print a character.
+   *
+   * @param c character to print
+   * @since 12.0.0
+   */
+  public void print(char c) {
+    write(c);
+  }
+
+  /**
+   * Print a boolean.
+   *
+   * @param b boolean to print
+   * @since 12.0.0
+   */
+  public void print(boolean b) {
+    print(b ? "true" : "false");
+  }
+
+  /**
+   * Print an int.
+   *
+   * @param i int to print
+   * @since 12.0.0
+   */
+  public void print(int i) {
+    print((long) i);
+  }
+
+  /**
+   * Print a long, without allocation.
+   *
+   * @param l long to print
+   * @since 12.0.0
+   */
+  public void print(long l) {
+    // A long has at most 20 characters, including the sign.
+    if (CHAR_BUFFER_SIZE - count < 20) {
+      drain(false);
+    }
+
+    // Digits are produced from a negative value, so that Long.MIN_VALUE does not overflow.
+    long value = l < 0 ? l : -l;
+    int end = count + (l < 0 ? 1 : 0) + length(value);
+    final int last = end;
+    do {
+      chars[--end] = DIGITS[(int) -(value % 10)];
+      value /= 10;
+    } while (value != 0);
+    if (l < 0) {
+      chars[--end] = '-';
+    }
+    count = last;
+  }
+
+  /**
+   * Print a double, as {@link java.lang.String#valueOf(double)}.
+   *
+   * @param d double to print
+   * @since 12.0.0
+   */
+  public void print(double d) {
+    print(String.valueOf(d));
+  }
+
+  /**
+   * Print a line separator.
+   *
+   * @since 12.0.0
+   */
+  public void println() {
+    print(LINE_SEPARATOR);
+  }
+
+  /**
+   * Print a string, or "null", and a line separator.
+   *
+   * @param s string to print
+   * @since 12.0.0
+   */
+  public void println(String s) {
+    print(s);
+    println();
+  }
+
+  /**
+   * Print the string value of an object, and a line separator.
+   *
+   * @param obj object to print
+   * @since 12.0.0
+   */
+  public void println(Object obj) {
+    print(obj);
+    println();
+  }
+
+  /**
+   * Print a character array, and a line separator.
+   *
+   * @param s characters to print
+   * @since 12.0.0
+   */
+  public void println(char[] s) {
+    print(s);
+    println();
+  }
+
+  /**
+   * Print a character, and a line separator.
+   *
+   * @param c character to print
+   * @since 12.0.0
+   */
+  public void println(char c) {
+    print(c);
+    println();
+  }
+
+  /**
+   * Print a boolean, and a line separator.
+   *
+   * @param b boolean to print
+   * @since 12.0.0
+   */
+  public void println(boolean b) {
+    print(b);
+    println();
+  }
+
+  /**
+   * Print an int, and a line separator.
+   *
+   * @param i int to print
+   * @since 12.0.0
+   */
+  public void println(int i) {
+    print(i);
+    println();
+  }
+
+  /**
+   * Print a long, and a line separator.
+   *
+   * @param l long to print
+   * @since 12.0.0
+   */
+  public void println(long l) {
+    print(l);
+    println();
+  }
+
+  /**
+   * Print a double, and a line separator.
+   *
+   * @param d double to print
+   * @since 12.0.0
+   */
+  public void println(double d) {
+    print(d);
+    println();
+  }
+
+  /**
+   * Print a formatted string, as {@link java.lang.String#format(String, Object...)}.
+   *
+   * @param format format string
+   * @param args format arguments
+   * @return this writer
+   * @since 12.0.0
+   */
+  public RunnerWriter printf(String format, Object... args) {
+    print(String.format(format, args));
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(int c) {
+    if (count == CHAR_BUFFER_SIZE) {
+      drain(false);
+    }
+    chars[count++] = (char) c;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    while (len > 0) {
+      if (count == CHAR_BUFFER_SIZE) {
+        drain(false);
+      }
+      final int size = Math.min(len, CHAR_BUFFER_SIZE - count);
+      System.arraycopy(cbuf, off, chars, count, size);
+      count += size;
+      off += size;
+      len -= size;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(String str, int off, int len) {
+    while (len > 0) {
+      if (count == CHAR_BUFFER_SIZE) {
+        drain(false);
+      }
+      final int size = Math.min(len, CHAR_BUFFER_SIZE - count);
+      str.getChars(off, off + size, chars, count);
+      count += size;
+      off += size;
+      len -= size;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerWriter append(CharSequence csq) {
+    print(String.valueOf(csq));
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerWriter append(CharSequence csq, int start, int end) {
+    print(String.valueOf(csq != null ? csq.subSequence(start, end) : "null".substring(start, end)));
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerWriter append(char c) {
+    write(c);
+    return this;
+  }
+
+  /**
+   * Flush the buffered output to the program output.
+   *
+   * <p>A trailing high surrogate remains buffered, until its low surrogate is written. Flushing a
+   * closed writer records an error, as with {@link java.io.PrintStream}.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public void flush() {
+    drain(false);
+    if (closed) {
+      return;
+    }
+    try {
+      outputStream.flush();
+    } catch (IOException e) {
+      error = true;
+    }
+  }
+
+  /**
+   * Flush the buffered output, and close the program output.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    try {
+      drain(true);
+      outputStream.close();
+    } catch (IOException e) {
+      error = true;
+    } finally {
+      closed = true;
+    }
+  }
+
+  /**
+   * Flush the writer, and check its error state.
+   *
+   * @return {@code true} if an I/O error occurred, {@code false} otherwise
+   * @since 12.0.0
+   */
+  public boolean checkError() {
+    flush();
+    return error;
+  }
+
+  /**
+   * Encode the buffered characters, and write the encoded bytes to the program output.
+   *
+   * @param endOfInput {@code true} to encode the remaining characters, including a trailing high
+   *     surrogate
+   */
+  private void drain(boolean endOfInput) {
+    if (closed) {
+      count = 0;
+      error = true;
+      return;
+    }
+
+    charBuffer.limit(count).position(0);
+    while (encoder.encode(charBuffer, byteBuffer, endOfInput).isOverflow()) {
+      writeBytes();
+    }
+    if (endOfInput) {
+      CoderResult result;
+      while ((result = encoder.flush(byteBuffer)).isOverflow()) {
+        writeBytes();
+      }
+      if (result.isUnderflow()) {
+        encoder.reset();
+      }
+    }
+    writeBytes();
+
+    final int remaining = charBuffer.remaining();
+    System.arraycopy(chars, charBuffer.position(), chars, 0, remaining);
+    count = remaining;
+    charBuffer.clear();
+  }
+
+  private void writeBytes() {
+    if (byteBuffer.position() == 0) {
+      return;
+    }
+    try {
+      outputStream.write(bytes, 0, byteBuffer.position());
+    } catch (IOException e) {
+      error = true;
+    } finally {
+      byteBuffer.clear();
+    }
+  }
+
+  /**
+   * Number of digits of a zero or negative value.
+   *
+   * @param value zero or negative value
+   * @return number of digits
+   */
+  private static int length(long value) {
+    int length = 1;
+    while (value <= -10) {
+      value /= 10;
+      length++;
+    }
+    return length;
+  }
+}
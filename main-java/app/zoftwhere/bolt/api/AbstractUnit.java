@@ -1,15 +1,24 @@
 package app.zoftwhere.bolt.api;
 
+import app.zoftwhere.bolt.RunnerCase;
+import app.zoftwhere.bolt.RunnerInput;
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerInterface.RunnerResultConsumer;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Bolt Assertion Runner Abstract Unit class.
@@ -17,7 +26,7 @@ import java.util.Optional;
  * <p>This is a package-private abstract class for domain-specific language composition.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 abstract class AbstractUnit {
@@ -34,6 +43,39 @@ abstract class AbstractUnit {
     T encoding(Charset encoding);
   }
 
+  interface Setting<T> {
+
+    T streamExpectation(int window);
+
+    T spillThreshold(long bytes);
+
+    T preEncodeInput(boolean enabled);
+
+    T virtualThreads(boolean enabled);
+
+    T timeLimit(Duration limit);
+
+    T memoryLimit(long bytes);
+
+    T outputLimit(long bytes);
+
+    T abortOnMismatch(boolean enabled);
+
+    T pipelineComparison(boolean enabled);
+
+    T captureErrorStream(boolean enabled);
+
+    T processCpuLimit(Duration limit);
+
+    T processMemoryLimit(long bytes);
+
+    T processFileLimit(long files);
+
+    T inProcessMain(boolean enabled);
+
+    T charCapture(boolean enabled);
+  }
+
   interface RunNoArguments<T> {
 
     T run(RunStandard program);
@@ -56,6 +98,98 @@ abstract class AbstractUnit {
     T runConsole(Charset charset, RunConsoleArgued program);
   }
 
+  interface RunFastNoArguments<T> {
+
+    T runFast(RunFast program);
+
+    T runFast(Charset charset, RunFast program);
+  }
+
+  interface RunFastWithArguments<T> {
+
+    T runFast(RunFastArgued program);
+
+    T runFast(Charset charset, RunFastArgued program);
+  }
+
+  interface RunMain<T> {
+
+    T runMain(String className);
+
+    T runMain(Charset charset, String className);
+  }
+
+  interface RunSystemStreams<T> {
+
+    T runSystem(RunSystem program);
+
+    T runSystem(Charset charset, RunSystem program);
+  }
+
+  interface RunProcess<T> {
+
+    T runProcess(List<String> command);
+
+    T runProcess(Charset charset, List<String> command);
+  }
+
+  interface RunNoArgumentsAsync<T> {
+
+    T runAsync(RunStandard program, Executor executor);
+
+    T runAsync(Charset charset, RunStandard program, Executor executor);
+
+    T runConsoleAsync(RunConsole program, Executor executor);
+
+    T runConsoleAsync(Charset charset, RunConsole program, Executor executor);
+  }
+
+  interface RunWithArgumentsAsync<T> {
+
+    T runAsync(RunStandardArgued program, Executor executor);
+
+    T runAsync(Charset charset, RunStandardArgued program, Executor executor);
+
+    T runConsoleAsync(RunConsoleArgued program, Executor executor);
+
+    T runConsoleAsync(Charset charset, RunConsoleArgued program, Executor executor);
+  }
+
+  interface RunFastNoArgumentsAsync<T> {
+
+    T runFastAsync(RunFast program, Executor executor);
+
+    T runFastAsync(Charset charset, RunFast program, Executor executor);
+  }
+
+  interface RunFastWithArgumentsAsync<T> {
+
+    T runFastAsync(RunFastArgued program, Executor executor);
+
+    T runFastAsync(Charset charset, RunFastArgued program, Executor executor);
+  }
+
+  interface RunMainAsync<T> {
+
+    T runMainAsync(String className, Executor executor);
+
+    T runMainAsync(Charset charset, String className, Executor executor);
+  }
+
+  interface RunSystemStreamsAsync<T> {
+
+    T runSystemAsync(RunSystem program, Executor executor);
+
+    T runSystemAsync(Charset charset, RunSystem program, Executor executor);
+  }
+
+  interface RunProcessAsync<T> {
+
+    T runProcessAsync(List<String> command, Executor executor);
+
+    T runProcessAsync(Charset charset, List<String> command, Executor executor);
+  }
+
   interface Arguments<T> {
 
     T argument(String... arguments);
@@ -71,11 +205,36 @@ abstract class AbstractUnit {
 
     T input(InputStreamSupplier supplier, Charset charset);
 
+    T input(RunnerInput input);
+
+    T input(RunnerInput input, Charset charset);
+
     T loadInput(String resourceName, Class<?> withClass);
 
     T loadInput(String resourceName, Class<?> withClass, Charset charset);
   }
 
+  interface Batch<T> {
+
+    T batch(List<RunnerCase> cases);
+
+    T batch(List<RunnerCase> cases, ExecutorService executor);
+
+    T batch(List<RunnerCase> cases, ExecutorService executor, boolean failFast);
+  }
+
+  interface Benchmark<T> {
+
+    T benchmark(RunnerCase runnerCase);
+
+    T benchmark(RunnerCase runnerCase, int warmup, int iterations);
+  }
+
+  interface Verify<T> {
+
+    T verify(RunnerCase runnerCase);
+  }
+
   interface Comparison<T, C> {
 
     T comparator(Comparator<C> comparator);
@@ -103,6 +262,20 @@ abstract class AbstractUnit {
     T loadExpectation(String resourceName, Class<?> withClass, Charset charset);
   }
 
+  interface ExpectedAsync<T> {
+
+    T expectedAsync(Executor executor, String... expected);
+
+    T expectedAsync(InputStreamSupplier supplier, Executor executor);
+
+    T expectedAsync(InputStreamSupplier supplier, Charset charset, Executor executor);
+
+    T loadExpectationAsync(String resourceName, Class<?> withClass, Executor executor);
+
+    T loadExpectationAsync(
+        String resourceName, Class<?> withClass, Charset charset, Executor executor);
+  }
+
   interface Assertions<T extends Result> {
 
     void assertSuccess();
@@ -111,6 +284,14 @@ abstract class AbstractUnit {
 
     void assertError();
 
+    void assertTimeLimitExceeded();
+
+    void assertMemoryLimitExceeded();
+
+    void assertOutputLimitExceeded();
+
+    void assertWithin(Duration limit);
+
     void assertCheck(RunnerResultConsumer consumer);
 
     void onOffence(RunnerResultConsumer consumer);
@@ -126,12 +307,28 @@ abstract class AbstractUnit {
 
     boolean isError();
 
+    boolean isTimeLimitExceeded();
+
+    boolean isMemoryLimitExceeded();
+
+    boolean isOutputLimitExceeded();
+
     String[] output();
 
     String[] expected();
 
+    int expectedOffset();
+
     Duration executionDuration();
 
+    Optional<Duration> cpuTime();
+
+    Optional<Duration> userTime();
+
+    OptionalLong allocatedBytes();
+
+    OptionalLong peakMemory();
+
     int offendingIndex();
 
     Optional<String> message();
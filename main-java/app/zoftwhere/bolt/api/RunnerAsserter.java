@@ -2,12 +2,13 @@ package app.zoftwhere.bolt.api;
 
 import app.zoftwhere.bolt.RunnerException;
 import app.zoftwhere.bolt.api.RunnerInterface.RunnerResultConsumer;
+import java.time.Duration;
 
 /**
  * Runner asserter interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 public interface RunnerAsserter extends AbstractUnit.Assertions<RunnerResult> {
@@ -15,7 +16,8 @@ public interface RunnerAsserter extends AbstractUnit.Assertions<RunnerResult> {
   /**
    * Asserts that execution result is for a success state.
    *
-   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for failure state or error state.
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for failure state, error state,
+   * time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state.
    *
    * @since 1.0.0
    */
@@ -25,7 +27,8 @@ public interface RunnerAsserter extends AbstractUnit.Assertions<RunnerResult> {
   /**
    * Asserts that execution result is for a failure state.
    *
-   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state or error state.
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state, error state,
+   * time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state.
    *
    * @since 4.0.0
    */
@@ -35,13 +38,62 @@ public interface RunnerAsserter extends AbstractUnit.Assertions<RunnerResult> {
   /**
    * Asserts that execution result is for an error state.
    *
-   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state or failure state.
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state, failure state,
+   * time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state.
    *
    * @since 8.0.0
    */
   @Override
   void assertError();
 
+  /**
+   * Asserts that execution result is for a time-limit-exceeded state.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state, failure state, error
+   * state, memory-limit-exceeded state or output-limit-exceeded state.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  void assertTimeLimitExceeded();
+
+  /**
+   * Asserts that execution result is for a memory-limit-exceeded state.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state, failure state, error
+   * state, time-limit-exceeded state or output-limit-exceeded state.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  void assertMemoryLimitExceeded();
+
+  /**
+   * Asserts that execution result is for an output-limit-exceeded state.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for success state, failure state, error
+   * state, time-limit-exceeded state or memory-limit-exceeded state.
+   *
+   * @since 12.0.0
+   */
+  @Override
+  void assertOutputLimitExceeded();
+
+  /**
+   * Asserts that the program completed within the duration specified.
+   *
+   * <p>Only the execution duration is asserted; the program output is not.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for time-limit-exceeded state,
+   * memory-limit-exceeded state, output-limit-exceeded state, or if the execution duration exceeds
+   * the duration specified.
+   *
+   * @param limit maximum execution duration
+   * @since 12.0.0
+   */
+  @Override
+  void assertWithin(Duration limit);
+
   /**
    * Asserts execution behaviour with custom consumer.
    *
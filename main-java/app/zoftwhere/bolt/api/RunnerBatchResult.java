@@ -0,0 +1,63 @@
+package app.zoftwhere.bolt.api;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runner batch execution result interface.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public interface RunnerBatchResult {
+
+  /**
+   * Check if success state.
+   *
+   * <p>The batch result will be in a success state if every case is in a success state.
+   *
+   * @return {@code true} for success state, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isSuccess();
+
+  /**
+   * Retrieve the execution results, one per case, in case order.
+   *
+   * <p>Cases that were skipped after a fail-fast cancellation are in an error state, with the
+   * message "bolt.runner.batch.cancelled".
+   *
+   * @return unmodifiable list of execution results
+   * @since 12.0.0
+   */
+  List<RunnerResult> results();
+
+  /**
+   * Retrieve the first offending execution result, in case order.
+   *
+   * <p>Cancelled cases are only reported if no case failed or erred.
+   *
+   * @return first result not in a success state, if any
+   * @since 12.0.0
+   */
+  Optional<RunnerResult> offence();
+
+  /**
+   * Retrieve the batch error, if any.
+   *
+   * @return {@code Optional<Exception>} for batch error
+   * @since 12.0.0
+   */
+  Optional<Exception> error();
+
+  /**
+   * Assert that the batch is in a success state.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for the first offending result, or the
+   * batch error.
+   *
+   * @since 12.0.0
+   */
+  void assertSuccess();
+}
@@ -0,0 +1,130 @@
+package app.zoftwhere.bolt.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runner benchmark result interface.
+ *
+ * <p>Statistics are calculated over the measured iterations only. Warmup iterations are executed,
+ * but not measured.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public interface RunnerBenchmarkResult {
+
+  /**
+   * Check if success state.
+   *
+   * <p>The benchmark result will be in a success state if every iteration executed without error,
+   * and the result of the last iteration is in a success state.
+   *
+   * @return {@code true} for success state, {@code false} otherwise
+   * @since 12.0.0
+   */
+  boolean isSuccess();
+
+  /**
+   * Retrieve the execution result of the last iteration.
+   *
+   * <p>If an iteration erred, the benchmark is stopped, and the result of that iteration is
+   * returned.
+   *
+   * @return execution result of the last iteration
+   * @since 12.0.0
+   */
+  RunnerResult result();
+
+  /**
+   * Retrieve the benchmark error, if any.
+   *
+   * @return {@code Optional<Exception>} for benchmark error
+   * @since 12.0.0
+   */
+  Optional<Exception> error();
+
+  /**
+   * Retrieve the number of warmup iterations executed.
+   *
+   * @return number of warmup iterations
+   * @since 12.0.0
+   */
+  int warmup();
+
+  /**
+   * Retrieve the measured execution durations, in iteration order.
+   *
+   * @return unmodifiable list of measured execution durations
+   * @since 12.0.0
+   */
+  List<Duration> samples();
+
+  /**
+   * Retrieve the minimum measured execution duration.
+   *
+   * @return minimum duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration min();
+
+  /**
+   * Retrieve the maximum measured execution duration.
+   *
+   * @return maximum duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration max();
+
+  /**
+   * Retrieve the mean measured execution duration.
+   *
+   * @return mean duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration mean();
+
+  /**
+   * Retrieve the median measured execution duration.
+   *
+   * @return median duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration median();
+
+  /**
+   * Retrieve the 90th percentile (nearest rank) of the measured execution durations.
+   *
+   * @return 90th percentile duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration p90();
+
+  /**
+   * Retrieve the 99th percentile (nearest rank) of the measured execution durations.
+   *
+   * @return 99th percentile duration, or {@link java.time.Duration#ZERO} without samples
+   * @since 12.0.0
+   */
+  Duration p99();
+
+  /**
+   * Retrieve the sample standard deviation of the measured execution durations.
+   *
+   * @return standard deviation, or {@link java.time.Duration#ZERO} with fewer than two samples
+   * @since 12.0.0
+   */
+  Duration standardDeviation();
+
+  /**
+   * Assert that the benchmark is in a success state.
+   *
+   * <p>Throws {@link app.zoftwhere.bolt.RunnerException} for the benchmark error, or the offending
+   * result of the last iteration.
+   *
+   * @since 12.0.0
+   */
+  void assertSuccess();
+}
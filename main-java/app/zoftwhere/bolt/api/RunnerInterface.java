@@ -1,5 +1,7 @@
 package app.zoftwhere.bolt.api;
 
+import app.zoftwhere.bolt.RunnerTokenizer;
+import app.zoftwhere.bolt.RunnerWriter;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -10,10 +12,11 @@ import java.util.Scanner;
  * Runner instance interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
-public interface RunnerInterface extends RunnerProvideProgram, RunnerProvideInput {
+public interface RunnerInterface
+    extends RunnerProvideProgram, RunnerProvideInput, RunnerEncoding, RunnerSetting {
 
   /**
    * Retrieve Runner character encoding.
@@ -137,4 +140,59 @@ public interface RunnerInterface extends RunnerProvideProgram, RunnerProvideInpu
     @Override
     void call(String[] arguments, Scanner scanner, PrintStream out) throws Exception;
   }
+
+  /**
+   * {@link app.zoftwhere.bolt.api.RunnerInterface.RunSystem} provides a functional interface for
+   * program calls that use {@link java.lang.System#in} and {@link java.lang.System#out}, such as a
+   * main method.
+   *
+   * @since 12.0.0
+   */
+  @FunctionalInterface
+  interface RunSystem extends AbstractUnit.ThrowingConsumer<String[]> {
+
+    /**
+     * @param arguments program argument array
+     * @throws Exception on program error
+     */
+    @Override
+    void accept(String[] arguments) throws Exception;
+  }
+
+  /**
+   * {@link app.zoftwhere.bolt.api.RunnerInterface.RunFast} provides a functional interface for
+   * creating fast-IO program calls.
+   *
+   * @since 12.0.0
+   */
+  @FunctionalInterface
+  interface RunFast extends AbstractUnit.CallerNoArguments<RunnerTokenizer, RunnerWriter> {
+
+    /**
+     * @param in program {@link app.zoftwhere.bolt.RunnerTokenizer}
+     * @param out program {@link app.zoftwhere.bolt.RunnerWriter}
+     * @throws Exception on program error
+     */
+    @Override
+    void call(RunnerTokenizer in, RunnerWriter out) throws Exception;
+  }
+
+  /**
+   * {@link app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued} provides a functional interface
+   * for creating fast-IO program calls.
+   *
+   * @since 12.0.0
+   */
+  @FunctionalInterface
+  interface RunFastArgued extends AbstractUnit.CallerWithArguments<RunnerTokenizer, RunnerWriter> {
+
+    /**
+     * @param arguments program argument array
+     * @param in program {@link app.zoftwhere.bolt.RunnerTokenizer}
+     * @param out program {@link app.zoftwhere.bolt.RunnerWriter}
+     * @throws Exception on program error
+     */
+    @Override
+    void call(String[] arguments, RunnerTokenizer in, RunnerWriter out) throws Exception;
+  }
 }
@@ -1,17 +1,29 @@
 package app.zoftwhere.bolt.api;
 
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Runner program loader interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
-public interface RunnerLoader extends AbstractUnit.RunWithArguments<RunnerProgramOutput> {
+public interface RunnerLoader
+    extends AbstractUnit.RunWithArguments<RunnerProgramOutput>,
+        AbstractUnit.RunFastWithArguments<RunnerProgramOutput>,
+        AbstractUnit.RunMain<RunnerProgramOutput>,
+        AbstractUnit.RunSystemStreams<RunnerProgramOutput>,
+        AbstractUnit.RunWithArgumentsAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunFastWithArgumentsAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunMainAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunSystemStreamsAsync<CompletableFuture<RunnerProgramOutput>> {
 
   /**
    * Specify the scanner-printer program with arguments.
@@ -54,4 +66,288 @@ public interface RunnerLoader extends AbstractUnit.RunWithArguments<RunnerProgra
    */
   @Override
   RunnerProgramOutput runConsole(Charset charset, RunConsoleArgued program);
+
+  /**
+   * Specify the fast-IO program with arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param program fast-IO program with arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runFast(RunFastArgued program);
+
+  /**
+   * Specify the fast-IO program with arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program with arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runFast(Charset charset, RunFastArgued program);
+
+  /**
+   * Specify the main class program with arguments, run out of process on a pool of warm worker Java
+   * virtual machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runMain(String className);
+
+  /**
+   * Specify the main class program with arguments, run out of process on a pool of warm worker Java
+   * virtual machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param charset character encoding of the program standard input and standard output
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runMain(Charset charset, String className);
+
+  /**
+   * Specify the system-stream program with arguments, such as a main method that uses {@link
+   * java.lang.System#in} and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runSystem(RunSystem program);
+
+  /**
+   * Specify the system-stream program with arguments, such as a main method that uses {@link
+   * java.lang.System#in} and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @param charset character encoding of program {@link java.lang.System#out}
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runSystem(Charset charset, RunSystem program);
+
+  /**
+   * Specify the scanner-printer program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #run(RunStandardArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program scanner-printer program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runAsync(RunStandardArgued program, Executor executor);
+
+  /**
+   * Specify the scanner-printer program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #run(Charset, RunStandardArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.io.PrintStream}
+   * @param program scanner-printer program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runAsync(
+      Charset charset, RunStandardArgued program, Executor executor);
+
+  /**
+   * Specify the input-output-stream program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runConsole(RunConsoleArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program input-output-stream program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      RunConsoleArgued program, Executor executor);
+
+  /**
+   * Specify the input-output-stream program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runConsole(Charset, RunConsoleArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.io.OutputStream}
+   * @param program input-output-stream program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      Charset charset, RunConsoleArgued program, Executor executor);
+
+  /**
+   * Specify the fast-IO program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runFast(RunFastArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program fast-IO program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runFastAsync(RunFastArgued program, Executor executor);
+
+  /**
+   * Specify the fast-IO program with arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runFast(Charset, RunFastArgued)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program with arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runFastAsync(
+      Charset charset, RunFastArgued program, Executor executor);
+
+  /**
+   * Specify the main class program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runMain(String)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param className fully qualified name of the main class
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runMainAsync(String className, Executor executor);
+
+  /**
+   * Specify the main class program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runMain(Charset, String)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of the program standard input and standard output
+   * @param className fully qualified name of the main class
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runMainAsync(
+      Charset charset, String className, Executor executor);
+
+  /**
+   * Specify the system-stream program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runSystem(RunSystem)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program system-stream program
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runSystemAsync(RunSystem program, Executor executor);
+
+  /**
+   * Specify the system-stream program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runSystem(Charset, RunSystem)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.lang.System#out}
+   * @param program system-stream program
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runSystemAsync(
+      Charset charset, RunSystem program, Executor executor);
 }
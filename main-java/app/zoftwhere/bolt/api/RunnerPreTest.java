@@ -4,15 +4,20 @@ import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Runner pre-test interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
-public interface RunnerPreTest extends AbstractUnit.Expected<RunnerAsserter>, AbstractUnit.Output {
+public interface RunnerPreTest
+    extends AbstractUnit.Expected<RunnerAsserter>,
+        AbstractUnit.ExpectedAsync<CompletableFuture<RunnerAsserter>>,
+        AbstractUnit.Output {
 
   /**
    * Retrieve the actual program output.
@@ -121,4 +126,106 @@ public interface RunnerPreTest extends AbstractUnit.Expected<RunnerAsserter>, Ab
    */
   @Override
   RunnerAsserter loadExpectation(String resourceName, Class<?> withClass, Charset charset);
+
+  /**
+   * Specify the expected program output, and compare it on the executor.
+   *
+   * <p>The comparison of {@link #expected(String...)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded
+   * with an exception, instead of completing exceptionally, if the executor is null or rejects the
+   * task.
+   *
+   * @param executor {@link java.util.concurrent.Executor} with which to compare the program output
+   * @param expected variable argument for expected program line output
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(Executor executor, String... expected);
+
+  /**
+   * Specify the expected program output, and load and compare it on the executor.
+   *
+   * <p>The loading and comparison of {@link #expected(InputStreamSupplier)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded
+   * with an exception, instead of completing exceptionally, if the executor is null or rejects the
+   * task.
+   *
+   * @param supplier {@link java.io.InputStream} supplier for expected program output
+   * @param executor {@link java.util.concurrent.Executor} with which to compare the program output
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(InputStreamSupplier supplier, Executor executor);
+
+  /**
+   * Specify the expected program output, and load and compare it on the executor.
+   *
+   * <p>The loading and comparison of {@link #expected(InputStreamSupplier, Charset)} is run on the
+   * executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded
+   * with an exception, instead of completing exceptionally, if the executor is null or rejects the
+   * task.
+   *
+   * @param supplier {@link java.io.InputStream} supplier for expected program output
+   * @param charset character encoding of supplied {@link java.io.InputStream}
+   * @param executor {@link java.util.concurrent.Executor} with which to compare the program output
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(
+      InputStreamSupplier supplier, Charset charset, Executor executor);
+
+  /**
+   * Specify the resource to load as expected program output, and load and compare it on the
+   * executor.
+   *
+   * <p>The loading and comparison of {@link #loadExpectation(String, Class)} is run on the
+   * executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded
+   * with an exception, instead of completing exceptionally, if the executor is null or rejects the
+   * task.
+   *
+   * @param resourceName resource name for loading expected program output
+   * @param withClass {@link java.lang.Class} with which to retrieve the expected program output
+   * @param executor {@link java.util.concurrent.Executor} with which to compare the program output
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Executor executor);
+
+  /**
+   * Specify the resource to load as expected program output, and load and compare it on the
+   * executor.
+   *
+   * <p>The loading and comparison of {@link #loadExpectation(String, Class, Charset)} is run on the
+   * executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerAsserter} loaded
+   * with an exception, instead of completing exceptionally, if the executor is null or rejects the
+   * task.
+   *
+   * @param resourceName resource name for loading expected program output
+   * @param withClass {@link java.lang.Class} with which to retrieve the expected program output
+   * @param charset character encoding of resource
+   * @param executor {@link java.util.concurrent.Executor} with which to compare the program output
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerAsserter}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Charset charset, Executor executor);
 }
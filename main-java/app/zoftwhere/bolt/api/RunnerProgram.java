@@ -1,16 +1,24 @@
 package app.zoftwhere.bolt.api;
 
+import app.zoftwhere.bolt.RunnerCase;
+import app.zoftwhere.bolt.RunnerInput;
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Runner program interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
-public interface RunnerProgram extends AbstractUnit.Input<RunnerProgramOutput> {
+public interface RunnerProgram
+    extends AbstractUnit.Input<RunnerProgramOutput>,
+        AbstractUnit.Batch<RunnerBatchResult>,
+        AbstractUnit.Benchmark<RunnerBenchmarkResult>,
+        AbstractUnit.Verify<RunnerAsserter> {
 
   /**
    * Specify the input.
@@ -43,6 +51,33 @@ public interface RunnerProgram extends AbstractUnit.Input<RunnerProgramOutput> {
   @Override
   RunnerProgramOutput input(InputStreamSupplier supplier, Charset charset);
 
+  /**
+   * Specify the input.
+   *
+   * <p>The fixture is served in the character encoding of its loaded bytes, or in the default
+   * encoding for a fixture built from strings.
+   *
+   * @param input {@link app.zoftwhere.bolt.RunnerInput} fixture for program input
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput input(RunnerInput input);
+
+  /**
+   * Specify the input.
+   *
+   * <p>The fixture is encoded (or transcoded) with the {@link java.nio.charset.Charset} provided
+   * once, and the encoded bytes reused for subsequent runs.
+   *
+   * @param input {@link app.zoftwhere.bolt.RunnerInput} fixture for program input
+   * @param charset character encoding of program input {@link java.io.InputStream}
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput input(RunnerInput input, Charset charset);
+
   /**
    * Specify the input.
    *
@@ -65,4 +100,90 @@ public interface RunnerProgram extends AbstractUnit.Input<RunnerProgramOutput> {
    */
   @Override
   RunnerProgramOutput loadInput(String resourceName, Class<?> withClass, Charset charset);
+
+  /**
+   * Run the program for every case, in parallel on the common {@link
+   * java.util.concurrent.ForkJoinPool} (or on virtual threads, if specified by the runner setting).
+   *
+   * @param cases program input-expectation cases
+   * @return {@link app.zoftwhere.bolt.api.RunnerBatchResult} with one result per case
+   * @since 12.0.0
+   */
+  @Override
+  RunnerBatchResult batch(List<RunnerCase> cases);
+
+  /**
+   * Run the program for every case, in parallel on the {@link java.util.concurrent.ExecutorService}
+   * provided.
+   *
+   * @param cases program input-expectation cases
+   * @param executor executor service on which to run the cases
+   * @return {@link app.zoftwhere.bolt.api.RunnerBatchResult} with one result per case
+   * @since 12.0.0
+   */
+  @Override
+  RunnerBatchResult batch(List<RunnerCase> cases, ExecutorService executor);
+
+  /**
+   * Run the program for every case, in parallel on the {@link java.util.concurrent.ExecutorService}
+   * provided.
+   *
+   * <p>The program is called concurrently, and must be thread-safe. Results are collected in case
+   * order, regardless of completion order.
+   *
+   * <p>With fail-fast, cases that have not started once a case fails or errs are skipped, and
+   * reported with the error message "bolt.runner.batch.cancelled". Cases already running are
+   * completed.
+   *
+   * @param cases program input-expectation cases
+   * @param executor executor service on which to run the cases
+   * @param failFast {@code true} to skip remaining cases after the first offence
+   * @return {@link app.zoftwhere.bolt.api.RunnerBatchResult} with one result per case
+   * @since 12.0.0
+   */
+  @Override
+  RunnerBatchResult batch(List<RunnerCase> cases, ExecutorService executor, boolean failFast);
+
+  /**
+   * Benchmark the program for the case, with 5 warmup iterations and 20 measured iterations.
+   *
+   * @param runnerCase program input-expectation case
+   * @return {@link app.zoftwhere.bolt.api.RunnerBenchmarkResult}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerBenchmarkResult benchmark(RunnerCase runnerCase);
+
+  /**
+   * Benchmark the program for the case.
+   *
+   * <p>The program is run sequentially on the calling thread, for the warmup iterations and then
+   * the measured iterations. Each measured iteration is timed with {@link System#nanoTime()} around
+   * program execution only, excluding input encoding and output comparison. The output of the last
+   * iteration is compared with the expectation of the case.
+   *
+   * <p>The benchmark is stopped at the first iteration that errs.
+   *
+   * @param runnerCase program input-expectation case
+   * @param warmup number of unmeasured warmup iterations (zero or more)
+   * @param iterations number of measured iterations (one or more)
+   * @return {@link app.zoftwhere.bolt.api.RunnerBenchmarkResult}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerBenchmarkResult benchmark(RunnerCase runnerCase, int warmup, int iterations);
+
+  /**
+   * Run the program for the case, with the expectation attached before execution.
+   *
+   * <p>If specified by the runner setting, the program is aborted at the first output line that
+   * mismatches the expectation.
+   *
+   * @param runnerCase program input-expectation case
+   * @return {@link app.zoftwhere.bolt.api.RunnerAsserter}
+   * @see app.zoftwhere.bolt.api.RunnerSetting#abortOnMismatch(boolean)
+   * @since 12.0.0
+   */
+  @Override
+  RunnerAsserter verify(RunnerCase runnerCase);
 }
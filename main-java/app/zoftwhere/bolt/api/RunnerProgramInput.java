@@ -1,18 +1,33 @@
 package app.zoftwhere.bolt.api;
 
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Runner program execution input interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 public interface RunnerProgramInput
-    extends AbstractUnit.Arguments<RunnerLoader>, AbstractUnit.RunNoArguments<RunnerProgramOutput> {
+    extends AbstractUnit.Arguments<RunnerLoader>,
+        AbstractUnit.RunNoArguments<RunnerProgramOutput>,
+        AbstractUnit.RunProcess<RunnerProgramOutput>,
+        AbstractUnit.RunFastNoArguments<RunnerProgramOutput>,
+        AbstractUnit.RunMain<RunnerProgramOutput>,
+        AbstractUnit.RunSystemStreams<RunnerProgramOutput>,
+        AbstractUnit.RunNoArgumentsAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunProcessAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunFastNoArgumentsAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunMainAsync<CompletableFuture<RunnerProgramOutput>>,
+        AbstractUnit.RunSystemStreamsAsync<CompletableFuture<RunnerProgramOutput>> {
 
   /**
    * Specify the program arguments.
@@ -65,4 +80,358 @@ public interface RunnerProgramInput
    */
   @Override
   RunnerProgramOutput runConsole(Charset charset, RunConsole program);
+
+  /**
+   * Specify the fast-IO program without arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param program fast-IO program without arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runFast(RunFast program);
+
+  /**
+   * Specify the fast-IO program without arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program without arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runFast(Charset charset, RunFast program);
+
+  /**
+   * Specify the process program, such as a native binary, a script, or a separate Java virtual
+   * machine.
+   *
+   * <p>The program input is written to the standard input of the process, and the program output is
+   * read from its standard output. The process must exit with a zero exit value for the execution
+   * to succeed. The standard error of the process is inherited, unless specified to be captured
+   * (see {@link app.zoftwhere.bolt.api.RunnerSetting#captureErrorStream(boolean)}).
+   *
+   * @param command process command, and its arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runProcess(List<String> command);
+
+  /**
+   * Specify the process program, such as a native binary, a script, or a separate Java virtual
+   * machine.
+   *
+   * <p>The program input is written to the standard input of the process, and the program output is
+   * read from its standard output. The process must exit with a zero exit value for the execution
+   * to succeed. The standard error of the process is inherited, unless specified to be captured
+   * (see {@link app.zoftwhere.bolt.api.RunnerSetting#captureErrorStream(boolean)}).
+   *
+   * @param charset character encoding of process standard input and standard output
+   * @param command process command, and its arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runProcess(Charset charset, List<String> command);
+
+  /**
+   * Specify the main class program, run out of process on a pool of warm worker Java virtual
+   * machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runMain(String className);
+
+  /**
+   * Specify the main class program, run out of process on a pool of warm worker Java virtual
+   * machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param charset character encoding of the program standard input and standard output
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runMain(Charset charset, String className);
+
+  /**
+   * Specify the system-stream program, such as a main method that uses {@link java.lang.System#in}
+   * and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runSystem(RunSystem program);
+
+  /**
+   * Specify the system-stream program, such as a main method that uses {@link java.lang.System#in}
+   * and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @param charset character encoding of program {@link java.lang.System#out}
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramOutput runSystem(Charset charset, RunSystem program);
+
+  /**
+   * Specify the scanner-printer program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #run(RunStandard)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program scanner-printer program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runAsync(RunStandard program, Executor executor);
+
+  /**
+   * Specify the scanner-printer program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #run(Charset, RunStandard)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.io.PrintStream}
+   * @param program scanner-printer program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runAsync(
+      Charset charset, RunStandard program, Executor executor);
+
+  /**
+   * Specify the input-output-stream program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runConsole(RunConsole)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program input-output-stream program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runConsoleAsync(RunConsole program, Executor executor);
+
+  /**
+   * Specify the input-output-stream program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runConsole(Charset, RunConsole)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.io.OutputStream}
+   * @param program input-output-stream program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runConsoleAsync(
+      Charset charset, RunConsole program, Executor executor);
+
+  /**
+   * Specify the process program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runProcess(List)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param command process command, and its arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runProcessAsync(List<String> command, Executor executor);
+
+  /**
+   * Specify the process program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runProcess(Charset, List)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of process standard input and standard output
+   * @param command process command, and its arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runProcessAsync(
+      Charset charset, List<String> command, Executor executor);
+
+  /**
+   * Specify the fast-IO program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runFast(RunFast)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program fast-IO program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runFastAsync(RunFast program, Executor executor);
+
+  /**
+   * Specify the fast-IO program without arguments, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runFast(Charset, RunFast)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program without arguments
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runFastAsync(
+      Charset charset, RunFast program, Executor executor);
+
+  /**
+   * Specify the main class program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runMain(String)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param className fully qualified name of the main class
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runMainAsync(String className, Executor executor);
+
+  /**
+   * Specify the main class program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runMain(Charset, String)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of the program standard input and standard output
+   * @param className fully qualified name of the main class
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runMainAsync(
+      Charset charset, String className, Executor executor);
+
+  /**
+   * Specify the system-stream program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runSystem(RunSystem)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param program system-stream program
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runSystemAsync(RunSystem program, Executor executor);
+
+  /**
+   * Specify the system-stream program, and execute it on the executor.
+   *
+   * <p>The execution of {@link #runSystem(Charset, RunSystem)} is run on the executor.
+   *
+   * <p>The returned future completes with a {@link app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * loaded with an exception, instead of completing exceptionally, if the executor is null or
+   * rejects the task.
+   *
+   * @param charset character encoding of program {@link java.lang.System#out}
+   * @param program system-stream program
+   * @param executor {@link java.util.concurrent.Executor} with which to execute the program
+   * @return {@link java.util.concurrent.CompletableFuture} of the {@link
+   *     app.zoftwhere.bolt.api.RunnerProgramOutput}
+   * @since 12.0.0
+   */
+  @Override
+  CompletableFuture<RunnerProgramOutput> runSystemAsync(
+      Charset charset, RunSystem program, Executor executor);
 }
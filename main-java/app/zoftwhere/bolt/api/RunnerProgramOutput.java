@@ -5,12 +5,14 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Runner program execution output interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 public interface RunnerProgramOutput
@@ -61,4 +63,27 @@ public interface RunnerProgramOutput
   /** {@inheritDoc} */
   @Override
   RunnerAsserter loadExpectation(String resourceName, Class<?> withClass, Charset charset);
+
+  /** {@inheritDoc} */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(Executor executor, String... expected);
+
+  /** {@inheritDoc} */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(InputStreamSupplier supplier, Executor executor);
+
+  /** {@inheritDoc} */
+  @Override
+  CompletableFuture<RunnerAsserter> expectedAsync(
+      InputStreamSupplier supplier, Charset charset, Executor executor);
+
+  /** {@inheritDoc} */
+  @Override
+  CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Executor executor);
+
+  /** {@inheritDoc} */
+  @Override
+  CompletableFuture<RunnerAsserter> loadExpectationAsync(
+      String resourceName, Class<?> withClass, Charset charset, Executor executor);
 }
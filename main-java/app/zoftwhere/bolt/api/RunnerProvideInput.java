@@ -1,5 +1,6 @@
 package app.zoftwhere.bolt.api;
 
+import app.zoftwhere.bolt.RunnerInput;
 import app.zoftwhere.bolt.api.RunnerInterface.InputStreamSupplier;
 import java.nio.charset.Charset;
 
@@ -9,7 +10,7 @@ import java.nio.charset.Charset;
  * <p>This interface that forms the basis for Runner#input() and Runner#loadInput().
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 public interface RunnerProvideInput extends AbstractUnit.Input<RunnerProgramInput> {
@@ -59,6 +60,33 @@ public interface RunnerProvideInput extends AbstractUnit.Input<RunnerProgramInpu
   @Override
   RunnerProgramInput input(InputStreamSupplier supplier, Charset charset);
 
+  /**
+   * Specify the input.
+   *
+   * <p>The fixture is served in the character encoding of its loaded bytes, or in the default
+   * encoding for a fixture built from strings.
+   *
+   * @param input {@link app.zoftwhere.bolt.RunnerInput} fixture for program input
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramInput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramInput input(RunnerInput input);
+
+  /**
+   * Specify the input.
+   *
+   * <p>The fixture is encoded (or transcoded) with the {@link java.nio.charset.Charset} provided
+   * once, and the encoded bytes reused for subsequent runs.
+   *
+   * @param input {@link app.zoftwhere.bolt.RunnerInput} fixture for program input
+   * @param charset character encoding of program input {@link java.io.InputStream}
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgramInput}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgramInput input(RunnerInput input, Charset charset);
+
   /**
    * Specify the input.
    *
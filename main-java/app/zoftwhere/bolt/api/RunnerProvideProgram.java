@@ -2,9 +2,13 @@ package app.zoftwhere.bolt.api;
 
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsole;
 import app.zoftwhere.bolt.api.RunnerInterface.RunConsoleArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
 import app.zoftwhere.bolt.api.RunnerInterface.RunStandardArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import java.nio.charset.Charset;
+import java.util.List;
 
 /**
  * Runner accept program interface.
@@ -12,12 +16,17 @@ import java.nio.charset.Charset;
  * <p>This interface that forms the basis for Runner#run() and Runner#runConsole().
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 6.0.0
  */
 public interface RunnerProvideProgram
     extends AbstractUnit.RunNoArguments<RunnerProgram>,
-        AbstractUnit.RunWithArguments<RunnerPreProgram> {
+        AbstractUnit.RunWithArguments<RunnerPreProgram>,
+        AbstractUnit.RunProcess<RunnerProgram>,
+        AbstractUnit.RunFastNoArguments<RunnerProgram>,
+        AbstractUnit.RunFastWithArguments<RunnerPreProgram>,
+        AbstractUnit.RunMain<RunnerPreProgram>,
+        AbstractUnit.RunSystemStreams<RunnerPreProgram> {
 
   /**
    * Specify the scanner-printer program without arguments.
@@ -61,6 +70,35 @@ public interface RunnerProvideProgram
   @Override
   RunnerProgram runConsole(Charset charset, RunConsole program);
 
+  /**
+   * Specify the fast-IO program without arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param program fast-IO program without arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgram runFast(RunFast program);
+
+  /**
+   * Specify the fast-IO program without arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program without arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgram runFast(Charset charset, RunFast program);
+
   /**
    * Specify the scanner-printer program with arguments.
    *
@@ -102,4 +140,130 @@ public interface RunnerProvideProgram
    */
   @Override
   RunnerPreProgram runConsole(Charset charset, RunConsoleArgued program);
+
+  /**
+   * Specify the fast-IO program with arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param program fast-IO program with arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runFast(RunFastArgued program);
+
+  /**
+   * Specify the fast-IO program with arguments.
+   *
+   * <p>The program reads its input with a {@link app.zoftwhere.bolt.RunnerTokenizer}, and writes
+   * its output with a {@link app.zoftwhere.bolt.RunnerWriter}, as faster alternatives to {@link
+   * java.util.Scanner} and {@link java.io.PrintStream}.
+   *
+   * @param charset character encoding of program {@link app.zoftwhere.bolt.RunnerWriter}
+   * @param program fast-IO program with arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runFast(Charset charset, RunFastArgued program);
+
+  /**
+   * Specify the process program, such as a native binary, a script, or a separate Java virtual
+   * machine.
+   *
+   * <p>The program input is written to the standard input of the process, and the program output is
+   * read from its standard output. The process must exit with a zero exit value for the execution
+   * to succeed. The standard error of the process is inherited, unless specified to be captured
+   * (see {@link app.zoftwhere.bolt.api.RunnerSetting#captureErrorStream(boolean)}).
+   *
+   * @param command process command, and its arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgram runProcess(List<String> command);
+
+  /**
+   * Specify the process program, such as a native binary, a script, or a separate Java virtual
+   * machine.
+   *
+   * <p>The program input is written to the standard input of the process, and the program output is
+   * read from its standard output. The process must exit with a zero exit value for the execution
+   * to succeed. The standard error of the process is inherited, unless specified to be captured
+   * (see {@link app.zoftwhere.bolt.api.RunnerSetting#captureErrorStream(boolean)}).
+   *
+   * @param charset character encoding of process standard input and standard output
+   * @param command process command, and its arguments
+   * @return {@link app.zoftwhere.bolt.api.RunnerProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerProgram runProcess(Charset charset, List<String> command);
+
+  /**
+   * Specify the main class program, run out of process on a pool of warm worker Java virtual
+   * machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runMain(String className);
+
+  /**
+   * Specify the main class program, run out of process on a pool of warm worker Java virtual
+   * machines.
+   *
+   * <p>Each run loads the main class in a new class loader, so that static state does not leak from
+   * one run to the next, and a call to {@link java.lang.System#exit(int)} ends the worker, not the
+   * runner. The main class must be on the class path of the runner. The program must complete, or
+   * exit with a zero exit value, for the execution to succeed.
+   *
+   * @param charset character encoding of the program standard input and standard output
+   * @param className fully qualified name of the main class
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runMain(Charset charset, String className);
+
+  /**
+   * Specify the system-stream program with arguments, such as a main method that uses {@link
+   * java.lang.System#in} and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runSystem(RunSystem program);
+
+  /**
+   * Specify the system-stream program with arguments, such as a main method that uses {@link
+   * java.lang.System#in} and {@link java.lang.System#out}.
+   *
+   * <p>The standard input and standard output are routed to the program input and output by thread,
+   * for the thread that runs the program and the threads it starts, so that such programs may run
+   * concurrently. Threads of the runner, and threads started before the run, are not routed.
+   *
+   * @param program system-stream program
+   * @param charset character encoding of program {@link java.lang.System#out}
+   * @return {@link app.zoftwhere.bolt.api.RunnerPreProgram}
+   * @since 12.0.0
+   */
+  @Override
+  RunnerPreProgram runSystem(Charset charset, RunSystem program);
 }
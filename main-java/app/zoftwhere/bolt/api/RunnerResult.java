@@ -2,12 +2,13 @@ package app.zoftwhere.bolt.api;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Runner execution result interface.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 8.0.0
  */
 public interface RunnerResult extends AbstractUnit.Result {
@@ -18,7 +19,8 @@ public interface RunnerResult extends AbstractUnit.Result {
    * <p>The execution result will be in a success state if the runner was able to execute the
    * program, and the program output matched the expected program output.
    *
-   * @return {@code true} for success state, {@code false} for failure state or error state
+   * @return {@code true} for success state, {@code false} for failure state, error state,
+   *     time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state
    * @since 8.0.0
    */
   @Override
@@ -30,7 +32,8 @@ public interface RunnerResult extends AbstractUnit.Result {
    * <p>The execution result will be in a failure state if the runner was able to execute the
    * program, but the program output does not match the expected program output.
    *
-   * @return {@code true} for failure state, {@code false} for success state or error state
+   * @return {@code true} for failure state, {@code false} for success state, error state,
+   *     time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state
    * @since 8.0.0
    */
   @Override
@@ -42,12 +45,58 @@ public interface RunnerResult extends AbstractUnit.Result {
    * <p>The execution result will be in an error state if the runner was unable to execute the
    * program, or the program threw an exception during execution.
    *
-   * @return {@code true} for error state, {@code false} for success state or failure state
+   * @return {@code true} for error state, {@code false} for success state, failure state,
+   *     time-limit-exceeded state, memory-limit-exceeded state or output-limit-exceeded state
    * @since 8.0.0
    */
   @Override
   boolean isError();
 
+  /**
+   * Check if time-limit-exceeded state.
+   *
+   * <p>The execution result will be in a time-limit-exceeded state if the program did not complete
+   * within the time limit of the runner. The execution error is then a {@link
+   * app.zoftwhere.bolt.RunnerTimeLimitException}, with the stack trace of the program thread as its
+   * cause.
+   *
+   * @return {@code true} for time-limit-exceeded state, {@code false} otherwise
+   * @see app.zoftwhere.bolt.api.RunnerSetting#timeLimit(java.time.Duration)
+   * @since 12.0.0
+   */
+  @Override
+  boolean isTimeLimitExceeded();
+
+  /**
+   * Check if memory-limit-exceeded state.
+   *
+   * <p>The execution result will be in a memory-limit-exceeded state if the program used more
+   * memory than the memory limit of the runner. The execution error is then a {@link
+   * app.zoftwhere.bolt.RunnerMemoryLimitException}, with the stack trace of the program thread as
+   * its cause.
+   *
+   * @return {@code true} for memory-limit-exceeded state, {@code false} otherwise
+   * @see app.zoftwhere.bolt.api.RunnerSetting#memoryLimit(long)
+   * @since 12.0.0
+   */
+  @Override
+  boolean isMemoryLimitExceeded();
+
+  /**
+   * Check if output-limit-exceeded state.
+   *
+   * <p>The execution result will be in an output-limit-exceeded state if the program wrote more
+   * output than the output limit of the runner. The program output is then the head retained up to
+   * the limit, and the execution error is the first {@link
+   * app.zoftwhere.bolt.RunnerOutputLimitException} thrown.
+   *
+   * @return {@code true} for output-limit-exceeded state, {@code false} otherwise
+   * @see app.zoftwhere.bolt.api.RunnerSetting#outputLimit(long)
+   * @since 12.0.0
+   */
+  @Override
+  boolean isOutputLimitExceeded();
+
   /**
    * Retrieve (actual) program output.
    *
@@ -66,6 +115,19 @@ public interface RunnerResult extends AbstractUnit.Result {
   @Override
   String[] expected();
 
+  /**
+   * Retrieve the index of the first expected line returned by {@link #expected()}.
+   *
+   * <p>The offset is zero unless the expectation was streamed, in which case {@link #expected()}
+   * only holds the lines retained around the offending line.
+   *
+   * @return zero-based index of the first retained expected line
+   * @see app.zoftwhere.bolt.api.RunnerSetting#streamExpectation(int)
+   * @since 12.0.0
+   */
+  @Override
+  int expectedOffset();
+
   /**
    * Retrieve execution duration.
    *
@@ -76,6 +138,62 @@ public interface RunnerResult extends AbstractUnit.Result {
   @Override
   Duration executionDuration();
 
+  /**
+   * Retrieve the CPU time used by the thread that executed the program.
+   *
+   * <p>The CPU time is measured around program execution only, and is less sensitive to load on the
+   * host than the execution duration. It is unavailable if the runtime does not support thread CPU
+   * time measurement (or it is disabled), or if the program did not complete.
+   *
+   * <p>For a process program on Linux, it is the CPU time of the process instead, as last sampled
+   * from {@code /proc} before the process exited.
+   *
+   * @return {@link java.util.Optional} {@link java.time.Duration} of CPU time, if available
+   * @since 12.0.0
+   */
+  @Override
+  Optional<Duration> cpuTime();
+
+  /**
+   * Retrieve the user-mode CPU time used by the thread that executed the program.
+   *
+   * <p>The user time is unavailable under the same conditions as {@link #cpuTime()}.
+   *
+   * @return {@link java.util.Optional} {@link java.time.Duration} of user time, if available
+   * @since 12.0.0
+   */
+  @Override
+  Optional<Duration> userTime();
+
+  /**
+   * Retrieve the number of bytes allocated by the thread that executed the program.
+   *
+   * <p>Only allocations on the executing thread are counted. The figure is unavailable if the
+   * runtime does not provide {@code com.sun.management.ThreadMXBean} (or thread allocated memory
+   * measurement is disabled), or if the program did not complete.
+   *
+   * @return {@link java.util.OptionalLong} of allocated bytes, if available
+   * @since 12.0.0
+   */
+  @Override
+  OptionalLong allocatedBytes();
+
+  /**
+   * Retrieve the peak memory used by the program, as sampled for the memory limit.
+   *
+   * <p>Memory used is the growth in heap usage since the program started, capped at the bytes
+   * allocated by the program thread. It is only sampled when the runner has a memory limit.
+   *
+   * <p>For a process program on Linux, it is the peak resident memory of the process instead, as
+   * last sampled from {@code /proc} before the process exited.
+   *
+   * @return {@link java.util.OptionalLong} of peak memory in bytes, if sampled
+   * @see app.zoftwhere.bolt.api.RunnerSetting#memoryLimit(long)
+   * @since 12.0.0
+   */
+  @Override
+  OptionalLong peakMemory();
+
   /**
    * Retrieve offending index for output comparison.
    *
@@ -0,0 +1,294 @@
+package app.zoftwhere.bolt.api;
+
+import java.time.Duration;
+
+/**
+ * Runner setting interface.
+ *
+ * <p>Settings apply to every program run from the returned {@link
+ * app.zoftwhere.bolt.api.RunnerInterface}.
+ *
+ * @author Osmund
+ * @version 12.0.0
+ * @since 12.0.0
+ */
+public interface RunnerSetting extends AbstractUnit.Setting<RunnerInterface> {
+
+  /**
+   * Specifies that expectations loaded from an {@link java.io.InputStream} or resource are compared
+   * while streaming.
+   *
+   * <p>Streamed expectations are compared line by line with the program output, and loading stops
+   * at the first mismatch. Only the offending line, and up to {@code window} expected lines on
+   * either side of it, are retained for the execution result.
+   *
+   * <p>A streamed comparison reports a data mismatch for the first offending line, even if the line
+   * counts also differ.
+   *
+   * @param window number of expected lines to retain on either side of the offending line, or a
+   *     negative value to load and compare the full expectation (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @see app.zoftwhere.bolt.api.RunnerResult#expectedOffset()
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface streamExpectation(int window);
+
+  /**
+   * Specifies the number of program output bytes to capture in memory.
+   *
+   * <p>Once a program writes more than {@code bytes} bytes, its output is moved to a temporary
+   * file, which is memory-mapped for decoding and deleted after the run.
+   *
+   * @param bytes number of bytes to capture in memory, or a negative value to always capture in
+   *     memory (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface spillThreshold(long bytes);
+
+  /**
+   * Specifies whether {@link java.lang.String} array input is encoded once, when it is specified.
+   *
+   * <p>Pre-encoded input is reused by every run of the same {@link
+   * app.zoftwhere.bolt.api.RunnerProgramInput}, instead of being encoded row by row for each run.
+   * Changes to the input array after it is specified are not seen by pre-encoded input.
+   *
+   * @param enabled {@code true} to encode input once, or {@code false} to encode it for each run
+   *     (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface preEncodeInput(boolean enabled);
+
+  /**
+   * Specifies whether programs are executed on virtual threads.
+   *
+   * <p>Each program execution is dispatched onto a virtual thread when the runtime supports them
+   * (Java 21 or later), and onto a bounded pool of platform threads otherwise. The calling thread
+   * waits for the program to complete. Programs run from a dispatched thread (or any virtual
+   * thread) execute on that thread.
+   *
+   * <p>Batches run without an {@link java.util.concurrent.ExecutorService} are run on the same
+   * threads, instead of the common {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @param enabled {@code true} to execute programs on virtual threads, or {@code false} to execute
+   *     programs on the calling thread (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface virtualThreads(boolean enabled);
+
+  /**
+   * Specifies the wall-clock time limit for program execution.
+   *
+   * <p>With a time limit, the program is executed on a separate thread, managed by a watchdog. When
+   * the limit expires, the watchdog captures the stack trace of the program thread, interrupts it,
+   * and waits briefly for it to stop before abandoning it. The program output captured up to that
+   * point is kept.
+   *
+   * <p>The execution result is then in a time-limit-exceeded state, with a {@link
+   * app.zoftwhere.bolt.RunnerTimeLimitException} as error, and the stack trace of the program
+   * thread as its cause.
+   *
+   * @param limit wall-clock time limit, or null (or a zero or negative duration) for no limit
+   *     (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface timeLimit(Duration limit);
+
+  /**
+   * Specifies the memory limit for program execution.
+   *
+   * <p>With a memory limit, the program is executed on a separate thread, managed by a watchdog (as
+   * for {@link #timeLimit(java.time.Duration)}). The watchdog samples the memory used by the
+   * program every few milliseconds: the growth in heap usage since the program started, capped at
+   * the bytes allocated by the program thread. A sample over the limit is confirmed after a full
+   * garbage collection, before the program is interrupted and abandoned.
+   *
+   * <p>The execution result is then in a memory-limit-exceeded state, with a {@link
+   * app.zoftwhere.bolt.RunnerMemoryLimitException} as error, and the stack trace of the program
+   * thread as its cause. The peak memory sampled is reported by {@link
+   * app.zoftwhere.bolt.api.RunnerResult#peakMemory()}.
+   *
+   * <p>Heap usage is shared by the Java virtual machine, so programs running concurrently may
+   * affect each other's figures. An abandoned program cannot be stopped, but can no longer read its
+   * input or write its output.
+   *
+   * @param bytes memory limit in bytes, or a negative value for no limit (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface memoryLimit(long bytes);
+
+  /**
+   * Specifies the output limit for program execution.
+   *
+   * <p>With an output limit, only the head of the program output up to the limit is captured. A
+   * write beyond the limit throws {@link app.zoftwhere.bolt.RunnerOutputLimitException}, which ends
+   * the program at the offending write (it is a runtime exception, so that a {@link
+   * java.io.PrintStream} does not swallow it).
+   *
+   * <p>The execution result is then in an output-limit-exceeded state, with the retained head as
+   * program output, and the first {@link app.zoftwhere.bolt.RunnerOutputLimitException} as error.
+   * The state holds even if the program caught the exception.
+   *
+   * @param bytes output limit in bytes, or a negative value for no limit (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface outputLimit(long bytes);
+
+  /**
+   * Specifies whether to abort the program at the first output line that mismatches the
+   * expectation.
+   *
+   * <p>This applies to runs of which the expectation is known before execution, namely {@link
+   * app.zoftwhere.bolt.api.RunnerProgram#verify(app.zoftwhere.bolt.RunnerCase)} and the batch
+   * methods. Each line is compared as soon as the program terminates it. At the first mismatch, or
+   * at the first line beyond the expectation, the write throws {@link
+   * app.zoftwhere.bolt.RunnerException} with the message "bolt.runner.output.mismatch", which ends
+   * the program.
+   *
+   * <p>The execution result is then in a failure state, with the output captured up to the abort.
+   * The offending index and message follow the streamed comparison: the first mismatching line is
+   * reported as "bolt.runner.asserter.output.data.mismatch", and a line beyond the expectation as
+   * "bolt.runner.asserter.output.length.mismatch". A program that completes without a mismatch is
+   * compared after execution, as usual.
+   *
+   * @param enabled {@code true} to abort on mismatch, {@code false} to compare after execution
+   *     (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface abortOnMismatch(boolean enabled);
+
+  /**
+   * Specifies whether to decode and compare the program output on a consumer thread, during
+   * execution.
+   *
+   * <p>This applies to runs of which the expectation is known before execution, namely {@link
+   * app.zoftwhere.bolt.api.RunnerProgram#verify(app.zoftwhere.bolt.RunnerCase)} and the batch
+   * methods. Output bytes are handed to the consumer thread in chunks, through a bounded ring
+   * buffer, so that for large outputs the cost of decoding and comparison is hidden behind
+   * execution time.
+   *
+   * <p>The execution result is the same as for the comparison after execution. If the program errs,
+   * or the pipeline cannot complete, the output is compared after execution instead. An abort on
+   * mismatch (see {@link #abortOnMismatch(boolean)}) takes precedence.
+   *
+   * @param enabled {@code true} to pipeline the comparison, {@code false} to compare after
+   *     execution (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface pipelineComparison(boolean enabled);
+
+  /**
+   * Specifies whether the standard error of a process program is captured with its standard output.
+   *
+   * <p>This applies to programs specified with {@code runProcess}. By default, the standard error
+   * of the process is inherited, so that it is written to the standard error of the runner.
+   *
+   * @param enabled {@code true} to capture the standard error, {@code false} to inherit it
+   *     (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface captureErrorStream(boolean enabled);
+
+  /**
+   * Specifies the CPU time limit for process programs.
+   *
+   * <p>This applies to programs specified with {@code runProcess}, on Linux. The limit is applied
+   * with {@code ulimit -t} in a {@code /bin/sh} wrapper, which then executes the process. A process
+   * that is stopped by the limit is reported as a time limit exceeded.
+   *
+   * @param limit CPU time limit, rounded up to whole seconds, or null (or a zero or negative
+   *     duration) for no limit (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface processCpuLimit(Duration limit);
+
+  /**
+   * Specifies the address space limit for process programs.
+   *
+   * <p>This applies to programs specified with {@code runProcess}, on Linux. The limit is applied
+   * with {@code ulimit -v} in a {@code /bin/sh} wrapper, which then executes the process.
+   * Allocations beyond the limit fail in the process, which typically exits with a non-zero exit
+   * value.
+   *
+   * @param bytes address space limit in bytes, rounded up to whole kibibytes, negative for no limit
+   *     (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface processMemoryLimit(long bytes);
+
+  /**
+   * Specifies the open file limit for process programs.
+   *
+   * <p>This applies to programs specified with {@code runProcess}, on Linux. The limit is applied
+   * with {@code ulimit -n} in a {@code /bin/sh} wrapper, which then executes the process.
+   *
+   * @param files open file limit, negative for no limit (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface processFileLimit(long files);
+
+  /**
+   * Specifies whether main class programs run in process, in an isolating class loader.
+   *
+   * <p>This applies to programs specified with {@code runMain}. Each run defines the classes of the
+   * program afresh, in a child-first class loader, from class bytes cached across runs, so that
+   * static state does not leak from one run to the next. The standard input and standard output are
+   * routed to the run by thread, so in-process runs may be concurrent. A call to {@link
+   * java.lang.System#exit(int)} ends the runner, so such programs must run on worker Java virtual
+   * machines (default).
+   *
+   * @param enabled {@code true} to run main class programs in process, {@code false} to run them on
+   *     worker Java virtual machines (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface inProcessMain(boolean enabled);
+
+  /**
+   * Specifies whether scanner-printer program output is captured as characters.
+   *
+   * <p>By default, the {@link java.io.PrintStream} of a scanner-printer program encodes its output
+   * in the output character encoding, and the runner decodes the bytes again to split the lines.
+   * With character capture, the print stream appends to a character buffer, and the lines are split
+   * from it directly. The output is still checked to be encodable in the output character encoding;
+   * if it is not, or the program writes raw bytes, the output is encoded, and decoded, as by
+   * default.
+   *
+   * <p>Character capture applies to UTF, US-ASCII and ISO-8859-1 output character encodings, and to
+   * runs without a time limit, memory limit, output limit or spill threshold, and with neither
+   * {@link #abortOnMismatch(boolean)} nor {@link #pipelineComparison(boolean)} enabled; other runs
+   * capture bytes as by default.
+   *
+   * @param enabled {@code true} to capture scanner-printer program output as characters, {@code
+   *     false} to capture it as encoded bytes (default)
+   * @return {@link app.zoftwhere.bolt.api.RunnerInterface} with specified setting
+   * @since 12.0.0
+   */
+  @Override
+  RunnerInterface charCapture(boolean enabled);
+}
@@ -1,4 +1,6 @@
 module zoftwhere.bolt.assertion {
+    requires java.management;
+
     exports app.zoftwhere.bolt;
     exports app.zoftwhere.bolt.api;
 }
\ No newline at end of file
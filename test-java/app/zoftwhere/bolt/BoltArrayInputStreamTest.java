@@ -8,6 +8,7 @@ import static java.nio.charset.StandardCharsets.UTF_16BE;
 import static java.nio.charset.StandardCharsets.UTF_16LE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -39,6 +40,51 @@ class BoltArrayInputStreamTest {
     }
   }
 
+  @Test
+  void testBulkRead() throws Exception {
+    final var input = new String[] {"", "Hello", "", "World", "\ud801\udc10", ""};
+    final var charsetArray = new Charset[] {US_ASCII, UTF_8, UTF_16LE, UTF_16};
+
+    for (final var charset : charsetArray) {
+      final var expected = buildExpected(input, charset);
+      assertArrayEquals(expected, BoltArrayInputStream.encode(input, charset));
+
+      for (var size = 1; size <= expected.length + 1; size++) {
+        try (final var inputStream = new BoltArrayInputStream(input, charset)) {
+          final var output = new ByteArrayOutputStream();
+          final var data = new byte[size];
+          var count = inputStream.read(data, 0, size);
+          while (count != -1) {
+            output.write(data, 0, count);
+            count = inputStream.read(data, 0, size);
+          }
+          assertEquals(0, inputStream.read(data, 0, 0));
+          assertArrayEquals(expected, output.toByteArray());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testSkipAvailable() throws Exception {
+    final var input = new String[] {"ab", "", "cd"};
+    final var expected = buildExpected(input, UTF_8);
+
+    try (final var inputStream = new BoltArrayInputStream(input, UTF_8)) {
+      assertEquals(2, inputStream.available());
+      assertEquals(3, inputStream.skip(3));
+      assertEquals(1, inputStream.available());
+      assertEquals(expected[3], inputStream.read());
+      assertEquals(expected.length - 5, inputStream.skip(expected.length - 5));
+      assertEquals(expected[expected.length - 1], inputStream.read());
+      assertEquals(0, inputStream.available());
+      assertEquals(0, inputStream.skip(10));
+      assertEquals(-1, inputStream.read());
+    }
+
+    assertArrayEquals(new byte[0], BoltArrayInputStream.encode(new String[0], UTF_16));
+  }
+
   private byte[] buildActual(String[] input, Charset charset) throws Exception {
     try (final var inputStream = new BoltArrayInputStream(input, charset)) {
       final var output = new ByteArrayOutputStream();
@@ -0,0 +1,133 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.zoftwhere.bolt.api.RunnerBatchResult;
+import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoltBatchResultTest {
+
+  private static final RunStandard SQUARE =
+      (scanner, out) -> {
+        final var value = scanner.nextInt();
+        Thread.sleep(value % 3);
+        out.print(value * value);
+      };
+
+  @Test
+  void testOrder() {
+    final var cases = new ArrayList<RunnerCase>();
+    for (var i = 0; i < 200; i++) {
+      cases.add(RunnerCase.of(RunnerInput.of(Integer.toString(i)), Integer.toString(i * i)));
+    }
+
+    final var batch = newRunner().run(SQUARE).batch(cases);
+    batch.assertSuccess();
+    assertTrue(batch.isSuccess());
+    assertEquals(200, batch.results().size());
+    for (var i = 0; i < 200; i++) {
+      assertEquals(Integer.toString(i * i), batch.results().get(i).output()[0]);
+    }
+    assertFalse(batch.offence().isPresent());
+    assertFalse(batch.error().isPresent());
+  }
+
+  @Test
+  void testOffence() {
+    final var cases =
+        List.of(
+            RunnerCase.of(RunnerInput.of("2"), "4"),
+            RunnerCase.of(RunnerInput.of("3"), "10"),
+            RunnerCase.load(RunnerInput.of("1"), "RunnerTestUTF16.txt", Runner.class, UTF_16),
+            RunnerCase.load(RunnerInput.of("1"), "RunnerTestUTF16.txt", Runner.class, null),
+            RunnerCase.load(RunnerInput.of("1"), "RunnerTestUTF16.txt", Runner.class),
+            RunnerCase.of(RunnerInput.of("x"), "x"));
+
+    final var executor = Executors.newFixedThreadPool(2);
+    final var batch = newRunner().run(SQUARE).batch(cases, executor);
+    executor.shutdown();
+    final var results = batch.results();
+    assertFalse(batch.isSuccess());
+    assertTrue(results.get(0).isSuccess());
+    assertTrue(results.get(1).isFailure());
+    assertEquals("bolt.runner.asserter.output.data.mismatch", results.get(1).message().get());
+    assertTrue(results.get(2).isFailure());
+    assertEquals(
+        "bolt.runner.load.expectation.charset.null",
+        results.get(3).error().orElseThrow().getMessage());
+    assertTrue(results.get(4).isFailure());
+    assertTrue(results.get(5).isError());
+    assertEquals(results.get(1), batch.offence().orElseThrow());
+
+    final var exception = assertThrows(RunnerException.class, batch::assertSuccess);
+    assertEquals("bolt.runner.asserter.output.data.mismatch", exception.getMessage());
+  }
+
+  @Test
+  void testFailFast() {
+    final var executor = Executors.newSingleThreadExecutor();
+    final var started = new AtomicInteger();
+    try {
+      final var cases = new ArrayList<RunnerCase>();
+      for (var i = 0; i < 10; i++) {
+        cases.add(RunnerCase.of(RunnerInput.of(Integer.toString(i)), i == 3 ? "-" : "ok"));
+      }
+
+      final var batch =
+          newRunner()
+              .run(
+                  (scanner, out) -> {
+                    started.incrementAndGet();
+                    out.print("ok");
+                  })
+              .batch(cases, executor, true);
+
+      assertEquals(4, started.get());
+      assertTrue(batch.results().get(3).isFailure());
+      assertEquals(batch.results().get(3), batch.offence().orElseThrow());
+      for (var i = 4; i < 10; i++) {
+        final var error = batch.results().get(i).error().orElseThrow();
+        assertEquals("bolt.runner.batch.cancelled", error.getMessage());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testError() {
+    final var program = newRunner().run(SQUARE);
+    assertBatchError("bolt.runner.batch.cases.null", program.batch(null));
+    assertBatchError("bolt.runner.batch.executor.null", program.batch(List.of(), null, false));
+
+    final var executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    assertBatchError(
+        "bolt.runner.batch.rejected",
+        program.batch(List.of(RunnerCase.of(RunnerInput.of("1"), "1")), executor));
+
+    final var batch = program.batch(Arrays.asList(RunnerCase.of(RunnerInput.of("1"), "1"), null));
+    assertEquals(
+        "bolt.runner.batch.case.null", batch.results().get(1).error().orElseThrow().getMessage());
+    final var exception = assertThrows(RunnerException.class, batch::assertSuccess);
+    assertEquals("bolt.runner.asserter.error.found", exception.getMessage());
+  }
+
+  private void assertBatchError(String message, RunnerBatchResult batch) {
+    assertFalse(batch.isSuccess());
+    assertEquals(message, batch.error().orElseThrow().getMessage());
+    final var exception = assertThrows(RunnerException.class, batch::assertSuccess);
+    assertEquals(message, exception.getMessage());
+  }
+}
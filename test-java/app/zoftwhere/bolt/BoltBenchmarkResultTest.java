@@ -0,0 +1,135 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.zoftwhere.bolt.api.RunnerBenchmarkResult;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoltBenchmarkResultTest {
+
+  @Test
+  void testStatistics() {
+    final var samples = new long[100];
+    for (var i = 0; i < samples.length; i++) {
+      samples[i] = (i * 37) % 100 + 1;
+    }
+    final var result = new BoltResult(new String[] {""}, new String[] {""}, Duration.ZERO);
+    final var benchmark = new BoltBenchmarkResult(result, null, 3, samples);
+
+    assertTrue(benchmark.isSuccess());
+    assertEquals(3, benchmark.warmup());
+    assertEquals(100, benchmark.samples().size());
+    assertEquals(Duration.ofNanos(1), benchmark.samples().get(0));
+    assertEquals(Duration.ofNanos(38), benchmark.samples().get(1));
+    assertEquals(Duration.ofNanos(1), benchmark.min());
+    assertEquals(Duration.ofNanos(100), benchmark.max());
+    assertEquals(Duration.ofNanos(51), benchmark.mean());
+    assertEquals(Duration.ofNanos(50), benchmark.median());
+    assertEquals(Duration.ofNanos(90), benchmark.p90());
+    assertEquals(Duration.ofNanos(99), benchmark.p99());
+    assertEquals(Duration.ofNanos(29), benchmark.standardDeviation());
+  }
+
+  @Test
+  void testEmpty() {
+    final var result = new BoltResult(new String[] {""}, new String[] {""}, Duration.ZERO);
+    final var benchmark = new BoltBenchmarkResult(result, null, 0, new long[0]);
+    assertEquals(Duration.ZERO, benchmark.min());
+    assertEquals(Duration.ZERO, benchmark.max());
+    assertEquals(Duration.ZERO, benchmark.mean());
+    assertEquals(Duration.ZERO, benchmark.median());
+    assertEquals(Duration.ZERO, benchmark.p90());
+    assertEquals(Duration.ZERO, benchmark.p99());
+    assertEquals(Duration.ZERO, benchmark.standardDeviation());
+
+    final var single = new BoltBenchmarkResult(result, null, 0, new long[] {7});
+    assertEquals(Duration.ofNanos(7), single.median());
+    assertEquals(Duration.ofNanos(7), single.p99());
+    assertEquals(Duration.ZERO, single.standardDeviation());
+  }
+
+  @Test
+  void testBenchmark() {
+    final var count = new AtomicInteger();
+    final var program =
+        newRunner()
+            .run(
+                (scanner, out) -> {
+                  count.incrementAndGet();
+                  out.print(scanner.nextInt() * 2);
+                });
+
+    final var benchmark = program.benchmark(RunnerCase.of(RunnerInput.of("21"), "42"), 2, 7);
+    benchmark.assertSuccess();
+    assertEquals(9, count.get());
+    assertEquals(2, benchmark.warmup());
+    assertEquals(7, benchmark.samples().size());
+    assertTrue(benchmark.min().compareTo(benchmark.max()) <= 0);
+    assertTrue(benchmark.min().compareTo(benchmark.median()) <= 0);
+    assertTrue(benchmark.p90().compareTo(benchmark.p99()) <= 0);
+    assertEquals("42", benchmark.result().output()[0]);
+
+    count.set(0);
+    assertEquals(20, program.benchmark(RunnerCase.of(RunnerInput.of("1"), "2")).samples().size());
+    assertEquals(25, count.get());
+
+    final var failure = program.benchmark(RunnerCase.of(RunnerInput.of("1"), "3"), 0, 3);
+    assertFalse(failure.isSuccess());
+    assertEquals(3, failure.samples().size());
+    assertTrue(failure.result().isFailure());
+    final var exception = assertThrows(RunnerException.class, failure::assertSuccess);
+    assertEquals("bolt.runner.asserter.output.data.mismatch", exception.getMessage());
+  }
+
+  @Test
+  void testProgramError() {
+    final var count = new AtomicInteger();
+    final var program =
+        newRunner()
+            .run(
+                (scanner, out) -> {
+                  if (count.incrementAndGet() == 4) {
+                    throw new IllegalStateException("bolt.benchmark.test");
+                  }
+                });
+
+    final var benchmark = program.benchmark(RunnerCase.of(RunnerInput.of()), 1, 10);
+    assertEquals(4, count.get());
+    assertEquals(2, benchmark.samples().size());
+    assertTrue(benchmark.result().isError());
+    assertFalse(benchmark.error().isPresent());
+    final var exception = assertThrows(RunnerException.class, benchmark::assertSuccess);
+    assertEquals("bolt.runner.asserter.error.found", exception.getMessage());
+
+    count.set(0);
+    final var warmup = program.benchmark(RunnerCase.of(RunnerInput.of()), 5, 10);
+    assertEquals(4, warmup.warmup());
+    assertEquals(0, warmup.samples().size());
+    assertTrue(warmup.result().isError());
+  }
+
+  @Test
+  void testError() {
+    final var program = newRunner().run((scanner, out) -> {});
+    final var runnerCase = RunnerCase.of(RunnerInput.of());
+    assertBenchmarkError("bolt.runner.benchmark.case.null", program.benchmark(null));
+    assertBenchmarkError(
+        "bolt.runner.benchmark.warmup.negative", program.benchmark(runnerCase, -1, 1));
+    assertBenchmarkError(
+        "bolt.runner.benchmark.iterations.invalid", program.benchmark(runnerCase, 0, 0));
+  }
+
+  private void assertBenchmarkError(String message, RunnerBenchmarkResult benchmark) {
+    assertFalse(benchmark.isSuccess());
+    assertEquals(message, benchmark.error().orElseThrow().getMessage());
+    assertEquals(message, benchmark.result().error().orElseThrow().getMessage());
+    final var exception = assertThrows(RunnerException.class, benchmark::assertSuccess);
+    assertEquals(message, exception.getMessage());
+  }
+}
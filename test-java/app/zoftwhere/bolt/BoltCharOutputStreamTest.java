@@ -0,0 +1,151 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.zoftwhere.bolt.api.RunnerInterface;
+import app.zoftwhere.bolt.api.RunnerInterface.RunStandard;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BoltCharOutputStreamTest {
+
+  @Test
+  void testPrint() throws IOException {
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      final var capture = new BoltCharOutputStream(outputStream, UTF_8);
+      try (var out = capture.newPrintStream()) {
+        out.print(1);
+        out.print(2L);
+        out.print(' ');
+        out.print(true);
+        out.print(1.5f);
+        out.print(2.5);
+        out.print((String) null);
+        out.print((Object) null);
+        out.print(new char[] {'x'});
+        out.println();
+        out.printf("%s-%d%n", "a", 7);
+        out.append("bc").append("xdex", 1, 3).append('f');
+        out.println("γ\r");
+        out.println(new char[] {'\n'});
+      }
+      assertEquals(0, outputStream.size());
+      assertArrayEquals(
+          new String[] {"12 true1.52.5nullnullx", "a-7", "bcdefγ", "", "", ""}, capture.output());
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testClosed() throws IOException {
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      final var capture = new BoltCharOutputStream(outputStream, UTF_8);
+      final var out = capture.newPrintStream();
+      out.print("open");
+      assertFalse(out.checkError());
+      out.close();
+      out.print("closed");
+      assertTrue(out.checkError());
+      assertArrayEquals(new String[] {"open"}, capture.output());
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testDemote() throws IOException {
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      final var capture = new BoltCharOutputStream(outputStream, UTF_16);
+      try (var out = capture.newPrintStream()) {
+        out.println("α");
+        out.write("β".getBytes(UTF_16BE));
+        out.println("γ");
+      }
+      assertTrue(outputStream.size() > 0);
+      assertArrayEquals(new String[] {"α", "βγ", ""}, capture.output());
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testEquivalence() {
+    assertEquivalent(UTF_8, (scanner, out) -> out.print(""));
+    assertEquivalent(UTF_8, (scanner, out) -> out.print("a\r\nb\rc\n\nd e\n"));
+    assertEquivalent(UTF_8, (scanner, out) -> out.printf("%d %s%n", 5, "😀"));
+    assertEquivalent(UTF_16, (scanner, out) -> out.println("😀 β"));
+    assertEquivalent(UTF_16LE, (scanner, out) -> out.println(scanner.nextLine() + "δ"));
+
+    // Unmappable characters, and unpaired surrogates, are replaced as with byte capture.
+    assertEquivalent(US_ASCII, (scanner, out) -> out.println("aβc"));
+    assertEquivalent(ISO_8859_1, (scanner, out) -> out.println("é€"));
+    assertEquivalent(UTF_8, (scanner, out) -> out.println("x\uD83Dy"));
+    assertEquivalent(
+        UTF_8,
+        (scanner, out) -> {
+          out.print('\uD83D');
+          out.print('\uDE00');
+        });
+
+    // Raw bytes, and unsupported encodings, fall back to byte capture.
+    assertEquivalent(
+        UTF_8,
+        (scanner, out) -> {
+          out.print("a");
+          out.write('\n');
+          out.print("b");
+        });
+    assertEquivalent(Charset.forName("windows-1252"), (scanner, out) -> out.println("é€Ā"));
+  }
+
+  @Test
+  void testSettings() {
+    final var program = (RunStandard) (scanner, out) -> out.print("a\nb");
+    final var expected = new String[] {"a", "b"};
+    assertArrayEquals(expected, output(newRunner().charCapture(true), UTF_8, program));
+    assertArrayEquals(
+        expected,
+        output(newRunner().charCapture(true).timeLimit(Duration.ofSeconds(10)), UTF_8, program));
+    assertArrayEquals(
+        expected, output(newRunner().charCapture(true).outputLimit(1024), UTF_8, program));
+    assertArrayEquals(
+        expected, output(newRunner().charCapture(true).spillThreshold(1), UTF_8, program));
+
+    assertTrue(new BoltSetting().charCapture(true).isCharCaptured(UTF_8));
+    assertFalse(new BoltSetting().isCharCaptured(UTF_8));
+    assertFalse(new BoltSetting().charCapture(true).outputLimit(1).isCharCaptured(UTF_8));
+    assertFalse(new BoltSetting().charCapture(true).spillThreshold(1).isCharCaptured(UTF_8));
+    assertFalse(
+        new BoltSetting().charCapture(true).timeLimit(Duration.ofSeconds(1)).isCharCaptured(UTF_8));
+    assertFalse(
+        new BoltSetting().charCapture(true).isCharCaptured(Charset.forName("windows-1252")));
+  }
+
+  private static void assertEquivalent(Charset charset, RunStandard program) {
+    final var bytes = output(newRunner(), charset, program);
+    final var chars = output(newRunner().charCapture(true), charset, program);
+    assertArrayEquals(bytes, chars);
+  }
+
+  private static String[] output(RunnerInterface runner, Charset charset, RunStandard program) {
+    final var result = runner.run(charset, program).input(charset, "in").expected().result();
+    assertFalse(result.isError());
+    return result.output();
+  }
+}
@@ -0,0 +1,191 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoltClassLoaderTest {
+
+  @Test
+  void testIsolation() {
+    final var program = newRunner().inProcessMain(true).runMain(Counter.class.getName()).argument();
+    for (var i = 0; i < 3; i++) {
+      program.input().expected("1", "").assertSuccess();
+    }
+    assertEquals(0, Counter.count);
+  }
+
+  @Test
+  void testInProcess() {
+    newRunner()
+        .inProcessMain(true)
+        .runMain(Pid.class.getName())
+        .argument()
+        .input()
+        .expected(Long.toString(ProcessHandle.current().pid()))
+        .assertSuccess();
+  }
+
+  @Test
+  void testInputAndArguments() {
+    newRunner()
+        .inProcessMain(true)
+        .input("α", "β")
+        .runMain(UTF_16LE, Echo.class.getName())
+        .expected("α", "β")
+        .assertSuccess();
+
+    newRunner()
+        .inProcessMain(true)
+        .runMain(Arguments.class.getName())
+        .argument("x", "y")
+        .input()
+        .expected("[x, y]", "")
+        .assertSuccess();
+  }
+
+  @Test
+  void testStandardStreams() {
+    final var in = System.in;
+    final var out = System.out;
+    newRunner().inProcessMain(true).input("1").runMain(Echo.class.getName()).expected("1");
+    assertSame(in, System.in);
+    assertSame(out, System.out);
+  }
+
+  @Test
+  void testError() {
+    final var result =
+        newRunner()
+            .inProcessMain(true)
+            .runMain(Fail.class.getName())
+            .argument()
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isError());
+    assertEquals(IllegalStateException.class, result.error().orElseThrow().getClass());
+
+    final var missing =
+        newRunner().inProcessMain(true).input().runMain("bolt.Missing").expected().result();
+    assertEquals(BoltClassLoader.MAIN_NOT_FOUND, missing.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testProgramError() {
+    for (var type : new Class<?>[] {Overflow.class, BadInit.class}) {
+      final var result =
+          newRunner()
+              .inProcessMain(true)
+              .runMain(type.getName())
+              .argument()
+              .input()
+              .expected()
+              .result();
+      assertTrue(result.isError());
+      final var error = result.error().orElseThrow();
+      assertEquals(RunnerException.class, error.getClass());
+      assertEquals("bolt.runner.isolation.program.error", error.getMessage());
+      assertTrue(error.getCause() instanceof Error);
+    }
+  }
+
+  @Test
+  void testLoadClass() throws ClassNotFoundException {
+    final var parent = BoltClassLoaderTest.class.getClassLoader();
+    final var cache = BoltClassLoader.Cache.of(parent);
+    final var first = new BoltClassLoader(parent, cache);
+    final var second = new BoltClassLoader(parent, cache);
+
+    final var counter = first.loadClass(Counter.class.getName());
+    assertSame(first, counter.getClassLoader());
+    assertNotSame(Counter.class, counter);
+    assertNotSame(counter, second.loadClass(Counter.class.getName()));
+    assertSame(counter, first.loadClass(Counter.class.getName()));
+
+    assertSame(String.class, first.loadClass(String.class.getName()));
+    assertSame(RunnerException.class, first.loadClass(RunnerException.class.getName()));
+    assertNotSame(Test.class, first.loadClass(Test.class.getName()));
+  }
+
+  @Test
+  void testCache() {
+    final var parent = BoltClassLoaderTest.class.getClassLoader();
+    final var cache = BoltClassLoader.Cache.of(parent);
+    assertSame(cache, BoltClassLoader.Cache.of(parent));
+
+    final var bytes = cache.lookup(parent, Counter.class.getName());
+    assertSame(bytes, cache.lookup(parent, Counter.class.getName()));
+    assertNull(cache.lookup(parent, String.class.getName()));
+    assertNull(cache.lookup(parent, Runner.class.getName()));
+    assertNull(cache.lookup(parent, "bolt.Missing"));
+  }
+
+  /** Main class that echoes its input. */
+  public static final class Echo {
+
+    public static void main(String[] args) throws IOException {
+      System.in.transferTo(System.out);
+    }
+  }
+
+  /** Main class that prints its arguments. */
+  public static final class Arguments {
+
+    public static void main(String[] args) {
+      System.out.println(Arrays.toString(args));
+    }
+  }
+
+  /** Main class that counts its runs in static state. */
+  public static final class Counter {
+
+    static int count = 0;
+
+    public static void main(String[] args) {
+      System.out.println(++count);
+    }
+  }
+
+  /** Main class that prints its process identifier. */
+  public static final class Pid {
+
+    public static void main(String[] args) {
+      System.out.print(ProcessHandle.current().pid());
+    }
+  }
+
+  /** Main class that overflows its stack. */
+  public static final class Overflow {
+
+    public static void main(String[] args) {
+      main(args);
+    }
+  }
+
+  /** Main class that fails to initialize. */
+  public static final class BadInit {
+
+    static final int VALUE = Integer.parseInt("x");
+
+    public static void main(String[] args) {
+      System.out.print(VALUE);
+    }
+  }
+
+  /** Main class that throws an exception. */
+  public static final class Fail {
+
+    public static void main(String[] args) {
+      throw new IllegalStateException("fail");
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class BoltDispatcherTest {
+
+  @Test
+  void testVirtual() {
+    assertEquals(Runtime.version().feature() >= 21, BoltDispatcher.isVirtual());
+    assertFalse(BoltDispatcher.isDispatched());
+  }
+
+  @Test
+  void testExecute() {
+    final var caller = Thread.currentThread();
+    final var thread = new AtomicReference<Thread>();
+    final var dispatched = new AtomicReference<Boolean>();
+
+    newRunner()
+        .virtualThreads(true)
+        .input("1")
+        .run(
+            (scanner, out) -> {
+              thread.set(Thread.currentThread());
+              dispatched.set(BoltDispatcher.isDispatched());
+              out.print(scanner.nextInt() + 1);
+            })
+        .expected("2")
+        .assertSuccess();
+
+    assertNotSame(caller, thread.get());
+    assertTrue(dispatched.get());
+
+    newRunner()
+        .input("1")
+        .run((scanner, out) -> thread.set(Thread.currentThread()))
+        .expected("")
+        .assertSuccess();
+    assertSame(caller, thread.get());
+  }
+
+  @Test
+  void testError() {
+    final var result =
+        newRunner()
+            .virtualThreads(true)
+            .run(
+                (scanner, out) -> {
+                  throw new IllegalStateException("bolt.dispatcher.test");
+                })
+            .input()
+            .expected()
+            .result();
+
+    assertTrue(result.isError());
+    assertEquals("bolt.dispatcher.test", result.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testInterrupted() {
+    Thread.currentThread().interrupt();
+    try {
+      final var result =
+          newRunner()
+              .virtualThreads(true)
+              .run((scanner, out) -> Thread.sleep(1000))
+              .input()
+              .expected()
+              .result();
+
+      assertTrue(Thread.currentThread().isInterrupted());
+      assertEquals("bolt.runner.dispatch.interrupted", result.error().orElseThrow().getMessage());
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  void testBatch() {
+    final var cases = new ArrayList<RunnerCase>();
+    for (var i = 0; i < 4 * BoltDispatcher.POOL_SIZE; i++) {
+      cases.add(RunnerCase.of(RunnerInput.of(Integer.toString(i)), Integer.toString(i)));
+    }
+
+    final var program =
+        newRunner()
+            .virtualThreads(true)
+            .run(
+                (scanner, out) -> {
+                  Thread.sleep(5);
+                  out.print(scanner.nextInt());
+                });
+    assertTimeoutPreemptively(Duration.ofSeconds(30), () -> program.batch(cases).assertSuccess());
+  }
+}
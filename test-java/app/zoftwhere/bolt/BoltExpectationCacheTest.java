@@ -0,0 +1,131 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BoltExpectationCacheTest {
+
+  private final ClassLoader loader = BoltExpectationCacheTest.class.getClassLoader();
+
+  @Test
+  void testLeastRecentlyUsed() {
+    final var cache = new BoltExpectationCache(3 * (16 + 48 + 2));
+    final var a = new String[] {"a"};
+    final var b = new String[] {"b"};
+    final var c = new String[] {"c"};
+    final var d = new String[] {"d"};
+
+    cache.put(loader, "a", UTF_8, a);
+    cache.put(loader, "b", UTF_8, b);
+    cache.put(loader, "c", UTF_8, c);
+    assertEquals(3, cache.count());
+    assertEquals(3 * (16 + 48 + 2), cache.size());
+
+    assertSame(a, cache.get(loader, "a", UTF_8));
+    cache.put(loader, "d", UTF_8, d);
+    assertNull(cache.get(loader, "b", UTF_8));
+    assertSame(a, cache.get(loader, "a", UTF_8));
+    assertSame(c, cache.get(loader, "c", UTF_8));
+    assertSame(d, cache.get(loader, "d", UTF_8));
+    assertNull(cache.get(loader, "d", UTF_16));
+    assertNull(cache.get(null, "d", UTF_8));
+
+    assertEquals(4, cache.hits());
+    assertEquals(3, cache.misses());
+    assertEquals(1, cache.evictions());
+
+    cache.budget(2 * (16 + 48 + 2));
+    assertEquals(2, cache.count());
+    assertNull(cache.get(loader, "a", UTF_8));
+
+    cache.put(loader, "x", UTF_8, new String[] {"x".repeat(100)});
+    assertNull(cache.get(loader, "x", UTF_8));
+    assertEquals(2, cache.count());
+
+    cache.budget(-1);
+    assertEquals(0, cache.budget());
+    assertEquals(0, cache.count());
+    assertEquals(0, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.hits());
+    assertEquals(0, cache.misses());
+    assertEquals(0, cache.evictions());
+  }
+
+  @Test
+  void testReplace() {
+    final var cache = new BoltExpectationCache(1000);
+    cache.put(loader, "a", UTF_8, new String[] {"1", "2"});
+    cache.put(loader, "a", UTF_8, new String[] {"1"});
+    assertEquals(1, cache.count());
+    assertEquals(16 + 48 + 2, cache.size());
+  }
+
+  @Test
+  void testCollectedLoader() throws InterruptedException {
+    final var cache = new BoltExpectationCache(1000);
+    cache.put(null, "a", UTF_8, new String[] {"a"});
+    cache.put(new URLClassLoader(new URL[0], null), "a", UTF_8, new String[] {"a"});
+    assertEquals(2, cache.count());
+
+    final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (cache.count() > 1 && System.nanoTime() < deadline) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(1, cache.count());
+    assertEquals(16 + 48 + 2, cache.size());
+    assertNotNull(cache.get(null, "a", UTF_8));
+  }
+
+  @Test
+  void testLoadExpectation() {
+    final var budget = RunnerExpectationCache.budget();
+    RunnerExpectationCache.clear();
+    try {
+      for (var i = 0; i < 3; i++) {
+        newRunner()
+            .input("1", "2", "3", "4", "5", "6", "7", "8")
+            .runConsole(UTF_16, (input, output) -> input.transferTo(output))
+            .loadExpectation("RunnerTestUTF16.txt", Runner.class, UTF_16)
+            .assertSuccess();
+      }
+      newRunner()
+          .input("1")
+          .runConsole(UTF_16, (input, output) -> input.transferTo(output))
+          .loadExpectation("RunnerTestUTF16.txt", Runner.class, UTF_16)
+          .assertFailure();
+      assertEquals(3, RunnerExpectationCache.hits());
+      assertEquals(1, RunnerExpectationCache.misses());
+      assertEquals(1, RunnerExpectationCache.count());
+
+      newRunner()
+          .streamExpectation(0)
+          .input("1")
+          .runConsole(UTF_16, (input, output) -> input.transferTo(output))
+          .loadExpectation("RunnerTestUTF16.txt", Runner.class, UTF_16)
+          .assertFailure();
+      assertEquals(4, RunnerExpectationCache.hits() + RunnerExpectationCache.misses());
+
+      RunnerExpectationCache.budget(0);
+      assertEquals(0, RunnerExpectationCache.count());
+      assertEquals(
+          "hits=3, misses=1, evictions=1, count=0, size=0, budget=0",
+          RunnerExpectationCache.statistics());
+    } finally {
+      RunnerExpectationCache.budget(budget);
+      RunnerExpectationCache.clear();
+    }
+  }
+}
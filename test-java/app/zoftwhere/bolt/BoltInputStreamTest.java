@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -70,6 +71,44 @@ class BoltInputStreamTest {
     assertArrayEquals(expected, array);
   }
 
+  @Test
+  void testBlockBoundary() throws IOException {
+    final var builder = new StringBuilder();
+    for (var i = 0; builder.length() < 50_000; i++) {
+      builder.append(i % 7 == 0 ? "\ud801\udc10" : Integer.toString(i)).append("\r\n");
+    }
+    final var string = builder.toString();
+    final var codec = List.of(UTF_8, UTF_16LE, UTF_16BE, UTF_16);
+
+    for (final var from : codec) {
+      for (final var to : codec) {
+        final var input = forString(string, from, to);
+        final var output = new ByteArrayOutputStream();
+        final var data = new byte[1000];
+        output.write(input.read());
+        int count;
+        while ((count = input.read(data, 0, data.length)) != -1) {
+          output.write(data, 0, count);
+        }
+        assertEquals(0, input.read(data, 0, 0));
+
+        assertArrayEquals(string.getBytes(to), output.toByteArray(), from + " to " + to);
+      }
+    }
+  }
+
+  @Test
+  void testReplacement() throws IOException {
+    final var malformed = new byte[] {'A', (byte) 0xc3, 'B', (byte) 0xff, '\n'};
+    final var array = new BoltInputStream(new ByteArrayInputStream(malformed), UTF_8, UTF_16LE);
+    final var expected = new String(malformed, UTF_8).getBytes(UTF_16LE);
+    assertArrayEquals(expected, array.readAllBytes());
+
+    final var unmappable = "Unicode(\u00e9\ud801\udc10)";
+    final var input = forString(unmappable, UTF_8, US_ASCII);
+    assertArrayEquals(unmappable.getBytes(US_ASCII), input.readAllBytes());
+  }
+
   @Test
   void testRun() {
     final var codec = List.of(US_ASCII, UTF_8, UTF_16LE, UTF_16BE, UTF_16);
@@ -0,0 +1,196 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoltLineMatcherTest {
+
+  @Test
+  void testMatch() throws IOException {
+    final var matcher =
+        new BoltLineMatcher(new String[] {"one", "two", "", "four"}, UTF_8, null, true);
+    final var capture = new ByteArrayOutputStream();
+    final var outputStream = matcher.wrap(capture);
+    for (var b : "one\r\ntwo\r\r\nfour".getBytes(UTF_8)) {
+      outputStream.write(b);
+    }
+
+    assertFalse(matcher.isMismatch());
+    assertEquals(-1, matcher.offendingIndex());
+    assertEquals("one\r\ntwo\r\r\nfour", capture.toString(UTF_8));
+  }
+
+  @Test
+  void testDataMismatch() throws IOException {
+    final var matcher = new BoltLineMatcher(new String[] {"α", "β", "γ"}, UTF_16LE, null, true);
+    final var capture = new ByteArrayOutputStream();
+    final var outputStream = matcher.wrap(capture);
+    outputStream.write("α\nβ".getBytes(UTF_16LE));
+    assertFalse(matcher.isMismatch());
+
+    final var data = "\u2028δ\n".getBytes(UTF_16LE);
+    final var exception =
+        assertThrows(RunnerException.class, () -> outputStream.write(data, 0, data.length));
+    assertEquals("bolt.runner.output.mismatch", exception.getMessage());
+    assertTrue(matcher.isMismatch());
+    assertEquals(2, matcher.offendingIndex());
+    assertEquals("α\nβ\u2028δ\n", capture.toString(UTF_16LE));
+
+    assertThrows(RunnerException.class, () -> outputStream.write('!'));
+  }
+
+  @Test
+  void testOffendingIndex() {
+    final var matcher = new BoltLineMatcher(new String[] {"1", "2", "3"}, UTF_8, null, true);
+    final var outputStream = matcher.wrap(new ByteArrayOutputStream());
+    assertThrows(RunnerException.class, () -> outputStream.write("1\n3\n".getBytes(UTF_8)));
+    assertEquals(1, matcher.offendingIndex());
+    assertEquals("bolt.runner.asserter.output.data.mismatch", matcher.message());
+  }
+
+  @Test
+  void testComparator() throws IOException {
+    final var matcher =
+        new BoltLineMatcher(new String[] {"ONE", "TWO"}, UTF_8, String::compareToIgnoreCase, true);
+    matcher.wrap(new ByteArrayOutputStream()).write("one\ntwo".getBytes(UTF_8));
+    assertFalse(matcher.isMismatch());
+  }
+
+  @Test
+  void testCollect() {
+    assertCollect("a\nx\nc", "a", "b", "c");
+    assertCollect("a\nx\nc\n", "a", "b", "c");
+    assertCollect("a\nb", "a", "b", "c");
+    assertCollect("a\nb\nc\nd", "a", "b", "c");
+    assertCollect("a\r\nb\rc\u2029", "a", "b", "c", "");
+    assertCollect("", "");
+    assertCollect("x", "");
+  }
+
+  @Test
+  void testVerify() {
+    final var lines = new AtomicInteger();
+    final var program =
+        newRunner()
+            .abortOnMismatch(true)
+            .run(
+                (scanner, out) -> {
+                  final var n = scanner.nextInt();
+                  for (var i = 0; i < n; i++) {
+                    lines.incrementAndGet();
+                    out.println(i == 2 ? -1 : i);
+                  }
+                });
+
+    final var asserter =
+        program.verify(RunnerCase.of(RunnerInput.of("1000000"), "0", "1", "2", "3"));
+    final var result = asserter.result();
+    assertTrue(result.isFailure());
+    assertEquals(2, result.offendingIndex());
+    assertEquals("bolt.runner.asserter.output.data.mismatch", result.message().orElseThrow());
+    assertArrayEquals(new String[] {"0", "1", "2", "3"}, result.expected());
+    assertEquals("-1", result.output()[2]);
+    assertEquals(3, lines.get());
+
+    final var exception = assertThrows(RunnerException.class, asserter::assertSuccess);
+    assertEquals("bolt.runner.asserter.output.data.mismatch", exception.getMessage());
+  }
+
+  @Test
+  void testVerifyLength() {
+    final var program =
+        newRunner()
+            .abortOnMismatch(true)
+            .timeLimit(Duration.ofSeconds(10))
+            .runConsole(
+                (inputStream, outputStream) -> {
+                  try {
+                    while (true) {
+                      outputStream.write('\n');
+                    }
+                  } catch (RunnerException ignore) {
+                  }
+                });
+
+    final var result = program.verify(RunnerCase.of(RunnerInput.of(), "", "")).result();
+    assertTrue(result.isFailure());
+    assertEquals(-1, result.offendingIndex());
+    assertEquals("bolt.runner.asserter.output.length.mismatch", result.message().orElseThrow());
+  }
+
+  @Test
+  void testVerifyPostHoc() {
+    final var program =
+        newRunner().abortOnMismatch(true).run((scanner, out) -> out.print(scanner.nextLine()));
+
+    program.verify(RunnerCase.of(RunnerInput.of("x"), "x")).assertSuccess();
+    program.verify(RunnerCase.of(RunnerInput.of("x"), "y")).assertFailure();
+    program
+        .verify(RunnerCase.load(RunnerInput.of("x"), "RunnerTestUTF16.txt", Runner.class, UTF_16))
+        .assertFailure();
+
+    final var error = program.verify(RunnerCase.of(RunnerInput.of("x"), "x", null)).result();
+    assertEquals(
+        "bolt.runner.variable.argument.expected.has.null",
+        error.error().orElseThrow().getMessage());
+
+    final var nullCase = program.verify(null).result();
+    assertEquals("bolt.runner.verify.case.null", nullCase.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testBatch() {
+    final var cases =
+        List.of(
+            RunnerCase.of(RunnerInput.of("1"), "1", "2"),
+            RunnerCase.of(RunnerInput.of("2"), "1", "3"));
+    final var batch =
+        newRunner()
+            .abortOnMismatch(true)
+            .run(
+                (scanner, out) -> {
+                  final var n = scanner.nextInt();
+                  out.println(n);
+                  out.print(n * 2);
+                })
+            .batch(cases);
+
+    assertTrue(batch.results().get(0).isSuccess());
+    assertTrue(batch.results().get(1).isFailure());
+    assertEquals(0, batch.results().get(1).offendingIndex());
+  }
+
+  private void assertCollect(String text, String... expected) {
+    final var data = text.getBytes(UTF_8);
+    final var matcher = new BoltLineMatcher(expected, UTF_8, null, false);
+    for (var b : data) {
+      matcher.accept(new byte[] {b}, 0, 1);
+    }
+    matcher.finish();
+    assertTrue(matcher.isComplete());
+    assertFalse(matcher.isMismatch());
+
+    final var output = BoltReader.readArray(() -> new BoltReader(data, UTF_8));
+    final var result = BoltResult.newBoltResult(output, expected, Duration.ZERO, null, null);
+    assertArrayEquals(output, matcher.output());
+    assertEquals(result.offendingIndex(), matcher.offendingIndex());
+    assertEquals(result.message().orElse(null), matcher.message());
+
+    matcher.discard();
+    assertFalse(matcher.isComplete());
+  }
+}
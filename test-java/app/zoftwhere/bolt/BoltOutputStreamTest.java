@@ -0,0 +1,217 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class BoltOutputStreamTest {
+
+  @Test
+  void testMemoryCapture() throws IOException {
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      outputStream.write("Hello".getBytes(UTF_8));
+      outputStream.write(' ');
+      outputStream.write("World!".getBytes(UTF_8), 0, 6);
+      outputStream.close();
+
+      assertFalse(outputStream.isSpilled());
+      assertEquals(12, outputStream.size());
+      assertArrayEquals(
+          "Hello World!".getBytes(UTF_8), outputStream.newInputStream().readAllBytes());
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testSegmentCapture() throws IOException {
+    final var expected = new byte[3_000_000];
+    for (var i = 0; i < expected.length; i++) {
+      expected[i] = (byte) (i * 31);
+    }
+
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      outputStream.write(expected[0]);
+      outputStream.write(expected, 1, 999);
+      outputStream.write(expected, 1000, expected.length - 1000);
+
+      assertFalse(outputStream.isSpilled());
+      assertEquals(expected.length, outputStream.size());
+
+      final var inputStream = outputStream.newInputStream();
+      assertEquals(expected.length, inputStream.available());
+      assertEquals(expected[0] & 0xff, inputStream.read());
+      assertEquals(expected.length - 1, inputStream.available());
+
+      final var actual = new byte[expected.length];
+      actual[0] = expected[0];
+      var offset = 1;
+      while (offset < actual.length) {
+        offset += inputStream.read(actual, offset, Math.min(5000, actual.length - offset));
+      }
+      assertArrayEquals(expected, actual);
+      assertEquals(0, inputStream.available());
+      assertEquals(-1, inputStream.read());
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testEmptyCapture() throws IOException {
+    final var outputStream = new BoltOutputStream(Long.MAX_VALUE);
+    try {
+      final var inputStream = outputStream.newInputStream();
+      assertEquals(0, inputStream.available());
+      assertEquals(-1, inputStream.read());
+      assertEquals(-1, inputStream.read(new byte[4], 0, 4));
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testSpillCapture() throws IOException {
+    final var outputStream = new BoltOutputStream(16);
+    try {
+      try (final var out = new PrintStream(outputStream, false, UTF_8)) {
+        for (var i = 0; i < 100_000; i++) {
+          out.print(i);
+          out.print("\r\n");
+        }
+      }
+
+      assertTrue(outputStream.isSpilled());
+      assertNull(outputStream.failure());
+
+      final var lines = BoltReader.readArray(() -> readBack(outputStream));
+      assertEquals(100_001, lines.length);
+      for (var i = 0; i < 100_000; i++) {
+        assertEquals(Integer.toString(i), lines[i]);
+      }
+      assertEquals("", lines[100_000]);
+    } finally {
+      outputStream.release();
+    }
+
+    assertFalse(outputStream.isSpilled());
+  }
+
+  @Test
+  void testSpillBoundary() throws IOException {
+    final var data = "0123456789".getBytes(UTF_8);
+    final var outputStream = new BoltOutputStream(10);
+    try {
+      outputStream.write(data);
+      assertFalse(outputStream.isSpilled());
+      outputStream.write('!');
+      assertTrue(outputStream.isSpilled());
+
+      final var actual = outputStream.newInputStream().readAllBytes();
+      assertArrayEquals("0123456789!".getBytes(UTF_8), actual);
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testLimit() throws IOException {
+    final var outputStream = new BoltOutputStream(4, 10);
+    try {
+      outputStream.write("012345".getBytes(UTF_8));
+      assertNull(outputStream.exceededLimit());
+
+      final var first =
+          assertThrows(
+              RunnerOutputLimitException.class, () -> outputStream.write("6789!".getBytes(UTF_8)));
+      final var second =
+          assertThrows(RunnerOutputLimitException.class, () -> outputStream.write('?'));
+      assertNotSame(first, second);
+      assertSame(first, outputStream.exceededLimit());
+      assertEquals(10, first.limit());
+      assertEquals(10, outputStream.size());
+
+      final var actual = outputStream.newInputStream().readAllBytes();
+      assertArrayEquals("0123456789".getBytes(UTF_8), actual);
+    } finally {
+      outputStream.release();
+    }
+  }
+
+  @Test
+  void testRunnerLimit() {
+    final var asserter =
+        newRunner()
+            .outputLimit(16)
+            .run(
+                (scanner, out) -> {
+                  while (true) {
+                    out.print("0123456789");
+                  }
+                })
+            .input()
+            .expected();
+
+    final var result = asserter.result();
+    assertTrue(result.isOutputLimitExceeded());
+    assertFalse(result.isError());
+    assertFalse(result.isFailure());
+    assertArrayEquals(new String[] {"0123456789012345"}, result.output());
+    assertEquals("bolt.runner.output.limit.exceeded", result.error().orElseThrow().getMessage());
+
+    asserter.assertOutputLimitExceeded();
+    assertRunnerException("bolt.runner.asserter.output.limit.exceeded", asserter::assertSuccess);
+    assertRunnerException("bolt.runner.asserter.output.limit.exceeded", asserter::assertError);
+    assertRunnerException(
+        "bolt.runner.asserter.output.limit.exceeded", asserter::assertTimeLimitExceeded);
+  }
+
+  @Test
+  void testRunnerLimitCaught() {
+    final var program = newRunner().outputLimit(4).timeLimit(Duration.ofSeconds(10)).input();
+
+    program
+        .runConsole(
+            (inputStream, outputStream) -> {
+              try {
+                outputStream.write("12345".getBytes(UTF_8));
+              } catch (RunnerOutputLimitException ignore) {
+              }
+            })
+        .expected("1234")
+        .assertOutputLimitExceeded();
+
+    final var within =
+        program.runConsole((inputStream, outputStream) -> outputStream.write('1')).expected("1");
+    within.assertSuccess();
+    assertRunnerException("bolt.runner.asserter.success.found", within::assertOutputLimitExceeded);
+  }
+
+  private void assertRunnerException(String message, Executable executable) {
+    final var exception = assertThrows(RunnerException.class, executable);
+    assertEquals(message, exception.getMessage());
+  }
+
+  private BoltReader readBack(BoltOutputStream outputStream) {
+    try {
+      return new BoltReader(outputStream.newInputStream(), UTF_8);
+    } catch (IOException e) {
+      throw new RunnerException("bolt.runner.test.read.back", e);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BoltPipelineTest {
+
+  @Test
+  void testPipeline() throws IOException {
+    final var count = 200_000;
+    final var expected = new String[count + 1];
+    for (var i = 0; i < count; i++) {
+      expected[i] = "λ" + i;
+    }
+    expected[count] = "";
+
+    final var matcher = new BoltLineMatcher(expected, UTF_8, null, false);
+    final var pipeline = new BoltPipeline(matcher);
+    final var capture = new ByteArrayOutputStream();
+    try (final var out = new PrintStream(pipeline.wrap(capture), false, UTF_8)) {
+      for (var i = 0; i < count; i++) {
+        out.print("λ" + i + "\r\n");
+      }
+    }
+
+    assertTrue(pipeline.finish());
+    assertTrue(matcher.isComplete());
+    assertNull(matcher.message());
+    assertArrayEquals(expected, matcher.output());
+    assertEquals(
+        BoltReader.readArray(() -> new BoltReader(capture.toByteArray(), UTF_8)).length, count + 1);
+  }
+
+  @Test
+  void testVerify() {
+    final var program =
+        newRunner()
+            .pipelineComparison(true)
+            .run(
+                (scanner, out) -> {
+                  final var n = scanner.nextInt();
+                  for (var i = 0; i < n; i++) {
+                    out.println(i == 2 ? -1 : i);
+                  }
+                });
+
+    final var success = program.verify(RunnerCase.of(RunnerInput.of("3"), "0", "1", "-1", ""));
+    success.assertSuccess();
+
+    final var result = program.verify(RunnerCase.of(RunnerInput.of("4"), "0", "1", "2", "3", ""));
+    final var expected =
+        newRunner()
+            .run(
+                (scanner, out) -> {
+                  final var n = scanner.nextInt();
+                  for (var i = 0; i < n; i++) {
+                    out.println(i == 2 ? -1 : i);
+                  }
+                })
+            .verify(RunnerCase.of(RunnerInput.of("4"), "0", "1", "2", "3", ""));
+    assertTrue(result.result().isFailure());
+    assertEquals(2, result.result().offendingIndex());
+    assertEquals(expected.result().offendingIndex(), result.result().offendingIndex());
+    assertEquals(expected.result().message(), result.result().message());
+    assertArrayEquals(expected.result().output(), result.result().output());
+
+    final var length = program.verify(RunnerCase.of(RunnerInput.of("2"), "0", "1")).result();
+    assertEquals(-1, length.offendingIndex());
+    assertEquals("bolt.runner.asserter.output.length.mismatch", length.message().orElseThrow());
+  }
+
+  @Test
+  void testFallback() {
+    final var program =
+        newRunner()
+            .pipelineComparison(true)
+            .outputLimit(4)
+            .run(
+                (scanner, out) -> {
+                  out.print(scanner.nextLine());
+                  out.flush();
+                  if (out.checkError()) {
+                    throw new IllegalStateException();
+                  }
+                });
+
+    final var error = program.verify(RunnerCase.of(RunnerInput.of("x"), "x")).result();
+    assertTrue(error.isSuccess());
+
+    final var limited = program.verify(RunnerCase.of(RunnerInput.of("12345"), "12345")).result();
+    assertTrue(limited.isOutputLimitExceeded());
+    assertArrayEquals(new String[] {"1234"}, limited.output());
+
+    final var cases =
+        List.of(
+            RunnerCase.of(RunnerInput.of("1"), "1"),
+            RunnerCase.load(RunnerInput.of("1"), "RunnerTestUTF16.txt", Runner.class));
+    final var batch = program.batch(cases);
+    assertTrue(batch.results().get(0).isSuccess());
+    assertTrue(batch.results().get(1).isFailure());
+  }
+}
@@ -0,0 +1,238 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+class BoltProcessTest {
+
+  @Test
+  void testProgramFirst() {
+    final var program = newRunner().runProcess(command("echo"));
+    program.input("1", "2").expected("1", "2").assertSuccess();
+    program.input("3").expected("4").assertFailure();
+  }
+
+  @Test
+  void testInputFirst() {
+    final var asserter = newRunner().input("α", "β").runProcess(command("echo")).expected("α", "β");
+    asserter.assertSuccess();
+  }
+
+  @Test
+  void testCharset() {
+    final var asserter =
+        newRunner()
+            .input("γδ")
+            .runProcess(UTF_16LE, command("length", UTF_16LE.name()))
+            .expected("2");
+    asserter.assertSuccess();
+  }
+
+  @Test
+  void testLargeOutput() {
+    final var count = 100_000;
+    final var expected = new String[count + 1];
+    for (var i = 0; i < count; i++) {
+      expected[i] = Integer.toString(i);
+    }
+    expected[count] = "";
+
+    newRunner()
+        .input(Integer.toString(count))
+        .runProcess(command("count"))
+        .expected(expected)
+        .assertSuccess();
+  }
+
+  @Test
+  void testExitValue() {
+    final var result = newRunner().runProcess(command("exit")).input().expected("").result();
+    assertTrue(result.isError());
+    final var error = (RunnerExitException) result.error().orElseThrow();
+    assertEquals("bolt.runner.process.exit.value", error.getMessage());
+    assertEquals(3, error.exitValue());
+  }
+
+  @Test
+  void testErrorStream() {
+    final var inherited = newRunner().runProcess(command("error")).input().expected("out", "");
+    inherited.assertSuccess();
+
+    final var captured =
+        newRunner().captureErrorStream(true).runProcess(command("error")).input().output();
+    assertArrayEquals(new String[] {"err", "out", ""}, captured);
+  }
+
+  @Test
+  void testOutputLimit() {
+    final var result =
+        newRunner().outputLimit(1000).runProcess(command("flood")).input().expected().result();
+    assertTrue(result.isOutputLimitExceeded());
+  }
+
+  @Test
+  void testTimeLimit() {
+    final var result =
+        newRunner()
+            .timeLimit(Duration.ofMillis(500))
+            .runProcess(command("sleep"))
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isTimeLimitExceeded());
+  }
+
+  @Test
+  void testAbortOnMismatch() {
+    final var result =
+        newRunner()
+            .abortOnMismatch(true)
+            .runProcess(command("flood"))
+            .verify(RunnerCase.of(RunnerInput.of(), "x", "y"))
+            .result();
+    assertTrue(result.isFailure());
+    assertEquals(1, result.offendingIndex());
+  }
+
+  @Test
+  void testCommand() {
+    final var nullCommand = newRunner().runProcess(null).input().expected().result();
+    assertEquals("bolt.runner.program.null", nullCommand.error().orElseThrow().getMessage());
+
+    final var empty = newRunner().runProcess(List.of()).input().expected().result();
+    assertEquals("bolt.runner.process.command.invalid", empty.error().orElseThrow().getMessage());
+
+    final var missing =
+        newRunner().runProcess(List.of("bolt-missing-binary")).input().expected().result();
+    assertEquals("bolt.runner.process.start", missing.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testCommandCopy() {
+    final var command = new ArrayList<>(command("echo"));
+    final var program = newRunner().runProcess(command);
+    command.set(command.size() - 1, "exit");
+    program.input("1").expected("1").assertSuccess();
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  void testLimits() {
+    final var script = List.of("/bin/sh", "-c", "ulimit -S -t; ulimit -H -t; ulimit -v; ulimit -n");
+    newRunner()
+        .processCpuLimit(Duration.ofMillis(1500))
+        .processMemoryLimit(64L << 20)
+        .processFileLimit(32)
+        .runProcess(script)
+        .input()
+        .expected("2", "3", "65536", "32", "")
+        .assertSuccess();
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  void testCpuLimit() {
+    final var result =
+        newRunner()
+            .processCpuLimit(Duration.ofSeconds(1))
+            .runProcess(command("spin"))
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isTimeLimitExceeded());
+    final var error = (RunnerTimeLimitException) result.error().orElseThrow();
+    assertEquals(Duration.ofSeconds(1), error.limit());
+    final var cause = error.getCause();
+    assertEquals(BoltProcess.CPU_LIMIT_EXCEEDED, cause.getMessage());
+    assertTrue(result.cpuTime().orElseThrow().compareTo(Duration.ofMillis(500)) > 0);
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  void testUsage() {
+    final var result = newRunner().input("1000").runProcess(command("count")).expected().result();
+    assertTrue(result.cpuTime().orElseThrow().compareTo(Duration.ZERO) > 0);
+    assertTrue(result.userTime().isPresent());
+    assertTrue(result.peakMemory().orElseThrow() > 0);
+    assertTrue(result.allocatedBytes().isEmpty());
+  }
+
+  private static List<String> command(String... arguments) {
+    final var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    final var command = new ArrayList<String>();
+    command.add(java);
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(Child.class.getName());
+    command.addAll(List.of(arguments));
+    return command;
+  }
+
+  /** Child process program for the process tests. */
+  static final class Child {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+      switch (args[0]) {
+        case "echo":
+          System.in.transferTo(System.out);
+          System.out.flush();
+          break;
+        case "length":
+          final var charset = Charset.forName(args[1]);
+          final var length = new String(System.in.readAllBytes(), charset).length();
+          System.out.write(Integer.toString(length).getBytes(charset));
+          System.out.flush();
+          break;
+        case "count":
+          final var count = Integer.parseInt(new String(System.in.readAllBytes()).trim());
+          final var builder = new StringBuilder();
+          for (var i = 0; i < count; i++) {
+            builder.append(i).append('\n');
+          }
+          System.out.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+          System.out.flush();
+          break;
+        case "exit":
+          System.exit(3);
+          break;
+        case "error":
+          System.err.println("err");
+          System.err.flush();
+          System.out.println("out");
+          System.out.flush();
+          break;
+        case "flood":
+          while (!System.out.checkError()) {
+            System.out.println("x");
+          }
+          break;
+        case "spin":
+          var value = 0L;
+          while (value != -1) {
+            value = value * 31 + System.nanoTime();
+          }
+          System.out.println(value);
+          break;
+        case "sleep":
+          Thread.sleep(60_000);
+          break;
+        default:
+          System.exit(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package app.zoftwhere.bolt;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bolt Reader Benchmark class.
+ *
+ * <p>This is a test-only class for measuring the throughput of {@link BoltReader#readArray} against
+ * a character-at-a-time line splitter.
+ *
+ * <p>Compile with {@code mvn test-compile}, then run {@code org.openjdk.jmh.Main} with the test
+ * class path.
+ *
+ * @author Osmund
+ * @since 12.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoltReaderBenchmark {
+
+  @Param({"UTF-8", "UTF-16"})
+  public String charsetName;
+
+  @Param({"16", "256"})
+  public int lineLength;
+
+  private Charset charset;
+
+  private byte[] data;
+
+  /** Public constructor for JMH. */
+  public BoltReaderBenchmark() {}
+
+  /** Build an 8 MiB (approximately) fixture with mixed line terminators. */
+  @Setup
+  public void setup() {
+    charset = Charset.forName(charsetName);
+    final var terminators = new String[] {"\n", "\r\n", "\r", "\u2028"};
+    final var builder = new StringBuilder();
+    var line = 0;
+    while (builder.length() < (8 << 20)) {
+      for (var i = 0; i < lineLength; i++) {
+        builder.append((char) ('a' + (line + i) % 26));
+      }
+      builder.append(terminators[line % terminators.length]);
+      line++;
+    }
+    data = builder.toString().getBytes(charset);
+  }
+
+  @Benchmark
+  public String[] boltReader() {
+    return BoltReader.readArray(() -> new BoltReader(data, charset));
+  }
+
+  @Benchmark
+  public String[] characterReader() throws IOException {
+    try (final var reader = new InputStreamReader(new ByteArrayInputStream(data), charset)) {
+      return new CharacterReader(reader).array();
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  /** Character-at-a-time line splitter (the BoltReader algorithm prior to version 12.0.0). */
+  private static class CharacterReader {
+
+    private final Reader reader;
+
+    private boolean lastLineEmpty = true;
+
+    private boolean skipLF = false;
+
+    CharacterReader(Reader reader) {
+      this.reader = reader;
+    }
+
+    String[] array() throws IOException {
+      final List<String> list = new ArrayList<>(0);
+      while (lastLineEmpty || reader.ready()) {
+        list.add(readLine());
+      }
+      return list.toArray(new String[] {});
+    }
+
+    String readLine() throws IOException {
+      final var builder = new StringBuilder(80);
+      lastLineEmpty = false;
+
+      while (true) {
+        final var v = reader.read();
+        if (v == -1) {
+          break;
+        }
+
+        final var c = (char) v;
+        if (c == '\n' && skipLF) {
+          skipLF = false;
+          continue;
+        }
+        skipLF = false;
+
+        if (c == '\n' || c == '\f' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+          lastLineEmpty = true;
+          break;
+        }
+
+        if (c == '\r') {
+          skipLF = true;
+          lastLineEmpty = true;
+          break;
+        }
+
+        builder.append(c);
+      }
+
+      return builder.toString();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package app.zoftwhere.bolt;
 
 import static app.zoftwhere.bolt.BoltTestHelper.assertClass;
+import static app.zoftwhere.bolt.BoltTestHelper.escapeString;
 import static java.nio.charset.StandardCharsets.UTF_16;
 import static java.nio.charset.StandardCharsets.UTF_16BE;
 import static java.nio.charset.StandardCharsets.UTF_16LE;
@@ -345,6 +346,29 @@ class BoltReaderTest {
     assertFalse(reader.hasNext());
   }
 
+  @Test
+  void testBlockBoundary() {
+    final var first = "a".repeat(8191);
+    final var second = "b".repeat(20000);
+    final var string = first + "\r\n" + second + "\r" + "\r\n";
+    final var array = BoltReader.readArray(() -> forString(string, UTF_8));
+    final var expected = new String[] {first, second, "", ""};
+    assertArrayEquals(expected, array);
+  }
+
+  @Test
+  void testBlockBoundaryTerminators() {
+    final var terminators = new String[] {"\n", "\r", "\r\n", "\f", "\u0085", "\u2028", "\u2029"};
+    for (var offset = 8189; offset <= 8193; offset++) {
+      for (final var terminator : terminators) {
+        final var first = "x".repeat(offset);
+        final var string = first + terminator + "y" + terminator;
+        final var list = BoltReader.readList(() -> forString(string, UTF_16));
+        assertArrayEquals(new String[] {first, "y", ""}, list.toArray(), escapeString(terminator));
+      }
+    }
+  }
+
   private BoltReader forString(String string, Charset charset) {
     final var input = new ByteArrayInputStream(string.getBytes(charset));
     return new BoltReader(input, charset);
@@ -11,6 +11,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
@@ -529,4 +533,75 @@ class BoltResultTest {
     assertArrayEquals(copy1, new String[] {"changed0", "changed1", "index2"});
     assertArrayEquals(copy2, new String[] {"changed0", "index1", "changed2"});
   }
+
+  @Test
+  void testStreamExpectationSuccess() {
+    final var setting = new BoltSetting().expectationWindow(1);
+    final var output = array("a", "b", "c", "d");
+    final var programOutput = new BoltProgramOutput(encoding, setting, output, instant, null);
+    final var result = programOutput.expected(() -> forString("a\nb\nc\nd")).result();
+
+    assertTrue(result.isSuccess());
+    assertEquals(-1, result.offendingIndex());
+    assertEquals(2, result.expectedOffset());
+    assertArrayEquals(array("c", "d"), result.expected());
+  }
+
+  @Test
+  void testStreamExpectationDataMismatch() {
+    final var setting = new BoltSetting().expectationWindow(1);
+    final var output = array("a", "b", "c", "d", "e");
+    final var filler = "\n-".repeat(1 << 16);
+    final var expected = "a\nb\nX\nd" + filler;
+    final InputStream failure =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("bolt.runner.test.stream.read.too.far");
+          }
+        };
+    final var programOutput = new BoltProgramOutput(encoding, setting, output, instant, null);
+    final var result =
+        programOutput
+            .expected(() -> new SequenceInputStream(forString(expected), failure))
+            .result();
+
+    assertTrue(result.isFailure());
+    assertEquals("bolt.runner.asserter.output.data.mismatch", result.message().orElse(null));
+    assertEquals(2, result.offendingIndex());
+    assertEquals(1, result.expectedOffset());
+    assertArrayEquals(array("b", "X", "d"), result.expected());
+    assertArrayEquals(output, result.output());
+  }
+
+  @Test
+  void testStreamExpectationLengthMismatch() {
+    final var setting = new BoltSetting().expectationWindow(0);
+    final var programOutput = new BoltProgramOutput(encoding, setting, array("a"), instant, null);
+
+    final var longer = programOutput.expected(() -> forString("a\nb\nc")).result();
+    assertTrue(longer.isFailure());
+    assertEquals("bolt.runner.asserter.output.length.mismatch", longer.message().orElse(null));
+    assertEquals(-1, longer.offendingIndex());
+    assertEquals(1, longer.expectedOffset());
+    assertArrayEquals(array("b"), longer.expected());
+
+    final var shorter = programOutput.comparator(String::compareTo).expected(() -> forString(""));
+    assertEquals(0, shorter.result().offendingIndex());
+    shorter.assertFailure();
+  }
+
+  @Test
+  void testStreamExpectationDefault() {
+    final var programOutput = new BoltProgramOutput(encoding, array("a", "b"), instant, null);
+    final var result = programOutput.expected(() -> forString("a\nb")).result();
+
+    assertTrue(result.isSuccess());
+    assertEquals(0, result.expectedOffset());
+    assertArrayEquals(array("a", "b"), result.expected());
+  }
+
+  private InputStream forString(String string) {
+    return new ByteArrayInputStream(string.getBytes(encoding));
+  }
 }
@@ -0,0 +1,169 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class BoltSystemStreamsTest {
+
+  @Test
+  void testProgramFirst() {
+    final var program = newRunner().runSystem(BoltSystemStreamsTest::hello).argument();
+    program.input("World").expected("Hello World!", "").assertSuccess();
+    program.input("Bolt").expected("Hello Bolt!", "").assertSuccess();
+  }
+
+  @Test
+  void testInputFirst() {
+    newRunner()
+        .input("α")
+        .runSystem(UTF_16LE, arguments -> System.out.print(new Scanner(System.in, UTF_16LE).next()))
+        .expected("α")
+        .assertSuccess();
+
+    newRunner()
+        .input()
+        .argument("x", "y")
+        .runSystem(arguments -> System.out.print(String.join(",", arguments)))
+        .expected("x,y")
+        .assertSuccess();
+  }
+
+  @Test
+  void testConcurrent() throws ExecutionException, InterruptedException {
+    final var program = newRunner().runSystem(BoltSystemStreamsTest::slowEcho).argument();
+    final var executor = Executors.newFixedThreadPool(16);
+    try {
+      final var futures = new ArrayList<Future<Boolean>>();
+      for (var i = 0; i < 200; i++) {
+        final var value = Integer.toString(i);
+        futures.add(
+            executor.submit(
+                () -> program.input(value).expected(value, value).result().isSuccess()));
+      }
+      for (var future : futures) {
+        assertTrue(future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testChildThread() {
+    newRunner()
+        .runSystem(
+            arguments -> {
+              final var thread = new Thread(() -> System.out.print("child"));
+              thread.start();
+              thread.join();
+            })
+        .argument()
+        .input()
+        .expected("child")
+        .assertSuccess();
+  }
+
+  @Test
+  void testFallback() {
+    final var original = System.out;
+    final var capture = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(capture, true));
+    try {
+      newRunner()
+          .runSystem(arguments -> System.out.print("routed"))
+          .argument()
+          .input()
+          .expected("routed")
+          .assertSuccess();
+      System.out.print("fallback");
+      System.out.flush();
+    } finally {
+      System.setOut(original);
+    }
+    assertEquals("fallback", capture.toString());
+  }
+
+  @Test
+  void testOutlivingThread() throws InterruptedException {
+    final var original = System.out;
+    final var capture = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(capture, true));
+    final var release = new CountDownLatch(1);
+    final var child = new AtomicReference<Thread>();
+    try {
+      newRunner()
+          .runSystem(
+              arguments -> {
+                final var thread =
+                    new Thread(
+                        () -> {
+                          try {
+                            release.await();
+                          } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                          }
+                          System.out.print("late");
+                        });
+                child.set(thread);
+                thread.start();
+                System.out.print("routed");
+              })
+          .argument()
+          .input()
+          .expected("routed")
+          .assertSuccess();
+      release.countDown();
+      child.get().join();
+      System.out.flush();
+    } finally {
+      System.setOut(original);
+    }
+    assertEquals("late", capture.toString());
+  }
+
+  @Test
+  void testError() {
+    final var result =
+        newRunner()
+            .runSystem(
+                arguments -> {
+                  throw new IllegalStateException("fail");
+                })
+            .argument()
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isError());
+    assertEquals("fail", result.error().orElseThrow().getMessage());
+
+    final var nullProgram = newRunner().input().runSystem(null).expected().result();
+    assertEquals("bolt.runner.program.null", nullProgram.error().orElseThrow().getMessage());
+  }
+
+  private static void hello(String[] arguments) {
+    try (var scanner = new Scanner(System.in)) {
+      System.out.printf("Hello %s!%n", scanner.nextLine());
+    }
+  }
+
+  private static void slowEcho(String[] arguments) throws InterruptedException {
+    final var scanner = new Scanner(System.in);
+    final var value = scanner.nextLine();
+    System.out.println(value);
+    Thread.sleep(1);
+    System.out.print(value);
+  }
+}
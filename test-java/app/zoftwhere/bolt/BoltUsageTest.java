@@ -0,0 +1,84 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+class BoltUsageTest {
+
+  @Test
+  void testUsage() {
+    final var result =
+        newRunner()
+            .input("3")
+            .run(
+                (scanner, out) -> {
+                  final var blocks = new byte[scanner.nextInt()][];
+                  for (var i = 0; i < blocks.length; i++) {
+                    blocks[i] = new byte[4 << 20];
+                  }
+                  out.print(blocks.length);
+                })
+            .comparator(Comparator.naturalOrder())
+            .expected("3")
+            .result();
+
+    assertTrue(result.isSuccess());
+    assertTrue(result.cpuTime().isPresent());
+    assertTrue(result.userTime().isPresent());
+    assertTrue(result.allocatedBytes().orElseThrow() >= 12 << 20);
+  }
+
+  @Test
+  void testDispatched() {
+    final var result =
+        newRunner()
+            .virtualThreads(true)
+            .timeLimit(Duration.ofSeconds(10))
+            .run(
+                (scanner, out) -> {
+                  throw new IllegalStateException();
+                })
+            .input()
+            .expected()
+            .result();
+
+    assertTrue(result.isError());
+    assertTrue(result.cpuTime().isPresent());
+    assertTrue(result.allocatedBytes().isPresent());
+  }
+
+  @Test
+  void testUnavailable() {
+    final var result = newRunner().input((String) null).run((scanner, out) -> {}).expected();
+    assertFalse(result.result().cpuTime().isPresent());
+    assertFalse(result.result().userTime().isPresent());
+    assertFalse(result.result().allocatedBytes().isPresent());
+
+    final var usage = BoltUsage.UNAVAILABLE;
+    assertEquals(usage, BoltUsage.meter().usage());
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  void testSampleProcess() {
+    final var pid = ProcessHandle.current().pid();
+    final var usage = BoltUsage.sampleProcess(pid, null);
+    assertTrue(usage.cpuTime().orElseThrow().compareTo(Duration.ZERO) > 0);
+    assertTrue(usage.userTime().isPresent());
+    assertTrue(usage.peakMemory().orElseThrow() > 0);
+    assertFalse(usage.allocatedBytes().isPresent());
+
+    assertSame(usage, BoltUsage.sampleProcess(-1, usage));
+    assertNull(BoltUsage.sampleProcess(-1, null));
+  }
+}
@@ -0,0 +1,219 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class BoltWatchdogTest {
+
+  @Test
+  void testWithinLimit() {
+    final var caller = Thread.currentThread();
+    final var thread = new AtomicReference<Thread>();
+    final var asserter =
+        newRunner()
+            .timeLimit(Duration.ofSeconds(10))
+            .input("1")
+            .run(
+                (scanner, out) -> {
+                  thread.set(Thread.currentThread());
+                  out.print(scanner.nextInt() + 1);
+                })
+            .expected("2");
+
+    asserter.assertSuccess();
+    asserter.assertWithin(Duration.ofSeconds(10));
+    assertFalse(asserter.result().isTimeLimitExceeded());
+    assertNotSame(caller, thread.get());
+    assertTrue(thread.get().isDaemon());
+
+    assertRunnerException("bolt.runner.asserter.duration.null", () -> asserter.assertWithin(null));
+    assertRunnerException(
+        "bolt.runner.asserter.duration.exceeded", () -> asserter.assertWithin(Duration.ZERO));
+    assertRunnerException("bolt.runner.asserter.success.found", asserter::assertTimeLimitExceeded);
+  }
+
+  @Test
+  void testInterrupt() {
+    final var asserter =
+        newRunner()
+            .timeLimit(Duration.ofMillis(100))
+            .run(
+                (scanner, out) -> {
+                  out.println("partial");
+                  out.flush();
+                  Thread.sleep(30_000);
+                })
+            .input()
+            .expected("partial", "");
+
+    final var result = asserter.result();
+    assertTrue(result.isTimeLimitExceeded());
+    assertFalse(result.isSuccess());
+    assertFalse(result.isFailure());
+    assertFalse(result.isError());
+    assertEquals("partial", result.output()[0]);
+
+    final var error = (RunnerTimeLimitException) result.error().orElseThrow();
+    assertEquals("bolt.runner.time.limit.exceeded", error.getMessage());
+    assertEquals(Duration.ofMillis(100), error.limit());
+    assertEquals("bolt.runner.watchdog.thread.dump", error.getCause().getMessage());
+    assertTrue(
+        Arrays.stream(error.getCause().getStackTrace())
+            .anyMatch(element -> "sleep".equals(element.getMethodName())));
+
+    asserter.assertTimeLimitExceeded();
+    assertRunnerException("bolt.runner.asserter.time.limit.exceeded", asserter::assertSuccess);
+    assertRunnerException("bolt.runner.asserter.time.limit.exceeded", asserter::assertFailure);
+    assertRunnerException("bolt.runner.asserter.time.limit.exceeded", asserter::assertError);
+    assertRunnerException(
+        "bolt.runner.asserter.time.limit.exceeded",
+        () -> asserter.assertWithin(Duration.ofDays(1)));
+  }
+
+  @Test
+  void testAbandon() throws InterruptedException {
+    final var refused = new CountDownLatch(1);
+    final var result =
+        newRunner()
+            .timeLimit(Duration.ofMillis(50))
+            .virtualThreads(true)
+            .runConsole(
+                (inputStream, outputStream) -> {
+                  var interrupted = false;
+                  try {
+                    while (true) {
+                      interrupted |= Thread.interrupted();
+                      if (interrupted) {
+                        outputStream.write('!');
+                      }
+                    }
+                  } catch (IOException e) {
+                    refused.countDown();
+                    throw e;
+                  }
+                })
+            .input()
+            .expected()
+            .result();
+
+    assertTrue(result.isTimeLimitExceeded());
+    assertTrue(result.output()[0].startsWith("!"));
+    assertTrue(refused.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testMemoryLimit() {
+    final var asserter =
+        newRunner()
+            .memoryLimit(32L << 20)
+            .run(
+                (scanner, out) -> {
+                  final var blocks = new ArrayList<byte[]>();
+                  while (!Thread.currentThread().isInterrupted()) {
+                    blocks.add(new byte[8 << 20]);
+                    Thread.sleep(2);
+                  }
+                })
+            .input()
+            .expected();
+
+    final var result = asserter.result();
+    assertTrue(result.isMemoryLimitExceeded());
+    assertFalse(result.isTimeLimitExceeded());
+    assertFalse(result.isSuccess());
+    assertFalse(result.isError());
+    assertTrue(result.peakMemory().orElseThrow() > (32L << 20));
+
+    final var error = (RunnerMemoryLimitException) result.error().orElseThrow();
+    assertEquals("bolt.runner.memory.limit.exceeded", error.getMessage());
+    assertEquals(32L << 20, error.limit());
+    assertEquals("bolt.runner.watchdog.thread.dump", error.getCause().getMessage());
+
+    asserter.assertMemoryLimitExceeded();
+    assertRunnerException("bolt.runner.asserter.memory.limit.exceeded", asserter::assertSuccess);
+    assertRunnerException(
+        "bolt.runner.asserter.memory.limit.exceeded", asserter::assertTimeLimitExceeded);
+    assertRunnerException(
+        "bolt.runner.asserter.memory.limit.exceeded",
+        () -> asserter.assertWithin(Duration.ofDays(1)));
+  }
+
+  @Test
+  void testWithinMemoryLimit() {
+    final var asserter =
+        newRunner()
+            .memoryLimit(1L << 40)
+            .timeLimit(Duration.ofSeconds(10))
+            .input("1")
+            .run((scanner, out) -> out.print(new byte[1 << 20].length + scanner.nextInt()))
+            .expected(Integer.toString((1 << 20) + 1));
+
+    asserter.assertSuccess();
+    assertFalse(asserter.result().isMemoryLimitExceeded());
+    assertTrue(asserter.result().peakMemory().isPresent());
+    assertRunnerException(
+        "bolt.runner.asserter.success.found", asserter::assertMemoryLimitExceeded);
+
+    final var unlimited =
+        newRunner().input("1").run((scanner, out) -> out.print("1")).expected("1");
+    assertFalse(unlimited.result().peakMemory().isPresent());
+  }
+
+  @Test
+  void testStates() {
+    final var program = newRunner().timeLimit(Duration.ofMillis(-1)).input("1");
+    final var failure = program.run((scanner, out) -> out.print("2")).expected("3");
+    assertRunnerException(
+        "bolt.runner.asserter.output.data.mismatch", failure::assertTimeLimitExceeded);
+
+    final var error =
+        program
+            .run(
+                (scanner, out) -> {
+                  throw new IllegalStateException();
+                })
+            .expected("3");
+    assertTrue(error.result().isError());
+    assertRunnerException("bolt.runner.asserter.error.found", error::assertTimeLimitExceeded);
+    error.assertWithin(Duration.ofDays(1));
+
+    // A program error with a limit message is not a limit-exceeded state.
+    for (var message :
+        new String[] {
+          "bolt.runner.time.limit.exceeded",
+          "bolt.runner.memory.limit.exceeded",
+          "bolt.runner.output.limit.exceeded"
+        }) {
+      final var forged =
+          program
+              .run(
+                  (scanner, out) -> {
+                    throw new RunnerException(message);
+                  })
+              .expected("3");
+      assertTrue(forged.result().isError());
+      assertFalse(forged.result().isTimeLimitExceeded());
+      assertFalse(forged.result().isMemoryLimitExceeded());
+      assertFalse(forged.result().isOutputLimitExceeded());
+      forged.assertError();
+    }
+  }
+
+  private void assertRunnerException(String message, Runnable runnable) {
+    final var exception = assertThrows(RunnerException.class, runnable::run);
+    assertEquals(message, exception.getMessage());
+  }
+}
@@ -0,0 +1,243 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class BoltWorkerPoolTest {
+
+  @Test
+  void testProgramFirst() {
+    final var program = newRunner().runMain(Echo.class.getName()).argument();
+    program.input("1", "2").expected("1", "2").assertSuccess();
+    program.input("3").expected("4").assertFailure();
+  }
+
+  @Test
+  void testInputFirst() {
+    newRunner().input("α", "β").runMain(Echo.class.getName()).expected("α", "β").assertSuccess();
+  }
+
+  @Test
+  void testArguments() {
+    newRunner()
+        .runMain(Arguments.class.getName())
+        .argument("x", "y")
+        .input()
+        .expected("[x, y]", "")
+        .assertSuccess();
+
+    newRunner()
+        .input()
+        .argument("z")
+        .runMain(Arguments.class.getName())
+        .expected("[z]", "")
+        .assertSuccess();
+  }
+
+  @Test
+  void testCharset() {
+    newRunner().input("γδ").runMain(UTF_16LE, Echo.class.getName()).expected("γδ").assertSuccess();
+  }
+
+  @Test
+  void testIsolation() {
+    final var program = newRunner().runMain(Counter.class.getName()).argument();
+    for (var i = 0; i < 3; i++) {
+      program.input().expected("1", "").assertSuccess();
+    }
+  }
+
+  @Test
+  void testWarmWorker() throws InterruptedException {
+    // A pool of its own, so that no other test borrows the warm worker.
+    final var pool = new BoltWorkerPool(2);
+    final var first = pid(pool);
+
+    // Wait for the spare worker, which must queue behind the warm worker.
+    final var deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+    while (pool.idleCount() < 2 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(2, pool.idleCount());
+
+    final var second = pid(pool);
+    assertEquals(first, second);
+    assertTrue(first != ProcessHandle.current().pid());
+  }
+
+  @Test
+  void testExit() {
+    final var result =
+        newRunner().runMain(Exit.class.getName()).argument().input("3").expected().result();
+    assertTrue(result.isError());
+    final var error = (RunnerExitException) result.error().orElseThrow();
+    assertEquals("bolt.runner.process.exit.value", error.getMessage());
+    assertEquals(3, error.exitValue());
+
+    newRunner()
+        .runMain(Exit.class.getName())
+        .argument()
+        .input("0")
+        .expected("exit")
+        .assertSuccess();
+  }
+
+  @Test
+  void testError() {
+    final var result =
+        newRunner().runMain(Fail.class.getName()).argument().input().expected().result();
+    assertTrue(result.isError());
+    final var error = result.error().orElseThrow();
+    assertEquals(RunnerException.class, error.getClass());
+    assertEquals("bolt.runner.worker.program.error", error.getMessage());
+    final var cause = error.getCause();
+    assertEquals("java.lang.IllegalStateException: fail", cause.getMessage());
+    assertEquals(Fail.class.getName(), cause.getStackTrace()[0].getClassName());
+    assertEquals("main", cause.getStackTrace()[0].getMethodName());
+  }
+
+  @Test
+  void testForgedError() {
+    // A job that writes an error frame to the worker channel yields only a runner exception.
+    final var result =
+        newRunner().runMain(Forge.class.getName()).argument().input().expected().result();
+    final var error = result.error().orElseThrow();
+    assertEquals("bolt.runner.worker.program.error", error.getMessage());
+    assertEquals("forged.Error: forged", error.getCause().getMessage());
+  }
+
+  @Test
+  void testMainNotFound() {
+    final var missing = newRunner().runMain("bolt.Missing").argument().input().expected().result();
+    assertEquals(BoltWorker.MAIN_NOT_FOUND, missing.error().orElseThrow().getMessage());
+
+    final var nullClass = newRunner().runMain(null).argument().input().expected().result();
+    assertEquals("bolt.runner.program.null", nullClass.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testLargeInput() {
+    final var count = 100_000;
+    final var lines = new String[count];
+    for (var i = 0; i < count; i++) {
+      lines[i] = Integer.toString(i);
+    }
+
+    newRunner().input(lines).runMain(Echo.class.getName()).expected(lines).assertSuccess();
+  }
+
+  @Test
+  void testTimeLimit() {
+    final var result =
+        newRunner()
+            .timeLimit(Duration.ofMillis(500))
+            .runMain(Sleep.class.getName())
+            .argument()
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isTimeLimitExceeded());
+  }
+
+  private static long pid(BoltWorkerPool pool) {
+    final var output = new ByteArrayOutputStream();
+    final var error =
+        pool.execute(
+            Pid.class.getName(),
+            new String[0],
+            UTF_8,
+            new ByteArrayInputStream(new byte[0]),
+            UTF_8,
+            output);
+    assertNull(error);
+    return Long.parseLong(output.toString(UTF_8));
+  }
+
+  /** Main class that echoes its input. */
+  public static final class Echo {
+
+    public static void main(String[] args) throws IOException {
+      System.in.transferTo(System.out);
+    }
+  }
+
+  /** Main class that prints its arguments. */
+  public static final class Arguments {
+
+    public static void main(String[] args) {
+      System.out.println(Arrays.toString(args));
+    }
+  }
+
+  /** Main class that counts its runs in static state. */
+  public static final class Counter {
+
+    private static int count = 0;
+
+    public static void main(String[] args) {
+      System.out.println(++count);
+    }
+  }
+
+  /** Main class that prints its process identifier. */
+  public static final class Pid {
+
+    public static void main(String[] args) {
+      System.out.print(ProcessHandle.current().pid());
+    }
+  }
+
+  /** Main class that exits with the value of its input. */
+  public static final class Exit {
+
+    public static void main(String[] args) throws IOException {
+      final var status = Integer.parseInt(new String(System.in.readAllBytes()).trim());
+      System.out.print("exit");
+      System.exit(status);
+    }
+  }
+
+  /** Main class that throws an exception. */
+  public static final class Fail {
+
+    public static void main(String[] args) {
+      throw new IllegalStateException("fail");
+    }
+  }
+
+  /** Main class that writes an error frame to the worker channel. */
+  public static final class Forge {
+
+    public static void main(String[] args) throws IOException {
+      final var out = new DataOutputStream(new FileOutputStream(FileDescriptor.out));
+      out.writeByte(BoltWorker.ERROR);
+      out.writeUTF("forged.Error");
+      out.writeBoolean(true);
+      out.writeUTF("forged");
+      out.writeInt(0);
+      out.flush();
+    }
+  }
+
+  /** Main class that sleeps. */
+  public static final class Sleep {
+
+    public static void main(String[] args) throws InterruptedException {
+      Thread.sleep(60_000);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltTestHelper.arrayOfClass;
+import static app.zoftwhere.bolt.BoltTestHelper.assertPublicConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class RunnerExitExceptionTest {
+
+  @Test
+  void testException() {
+    final var exception = new RunnerExitException(137);
+    assertEquals("bolt.runner.process.exit.value", exception.getMessage());
+    assertEquals(137, exception.exitValue());
+    assertNull(exception.getCause());
+  }
+
+  @Test
+  void testPublicConstructors() {
+    assertPublicConstructor(RunnerExitException.class, arrayOfClass(int.class));
+  }
+}
@@ -0,0 +1,150 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class RunnerInputTest {
+
+  private static void runEcho(InputStream inputStream, OutputStream outputStream)
+      throws IOException {
+    final var buffer = new byte[1024];
+    var n = inputStream.read(buffer, 0, 1024);
+    while (n >= 0) {
+      outputStream.write(buffer, 0, n);
+      n = inputStream.read(buffer, 0, 1024);
+    }
+  }
+
+  @Test
+  void testStrings() {
+    final var rows = new String[] {"1", "2", "𐐐"};
+    final var input = RunnerInput.of(rows);
+    rows[2] = "3";
+
+    for (final var charset : new Charset[] {UTF_8, UTF_16LE, UTF_16}) {
+      newRunner()
+          .input(input, charset)
+          .runConsole(charset, RunnerInputTest::runEcho)
+          .expected("1", "2", "𐐐")
+          .assertSuccess();
+
+      newRunner()
+          .runConsole(charset, RunnerInputTest::runEcho)
+          .input(input, charset)
+          .expected("1", "2", "𐐐")
+          .assertSuccess();
+    }
+
+    assertArrayEquals("1\r\n2\r\n𐐐".getBytes(UTF_16), input.encoded(UTF_16));
+    assertSame(input.encoded(UTF_16), input.encoded(UTF_16));
+    assertNull(input.error());
+    assertEquals(UTF_16LE, input.charset(UTF_16LE));
+  }
+
+  @Test
+  void testReuse() {
+    final var input = RunnerInput.of("3", "4");
+    final var programInput = newRunner().encoding(UTF_16).input(input);
+
+    programInput
+        .run((scanner, out) -> out.print(scanner.nextInt() + scanner.nextInt()))
+        .expected("7")
+        .assertSuccess();
+    programInput.runConsole(RunnerInputTest::runEcho).expected("3", "4").assertSuccess();
+    newRunner()
+        .input(input)
+        .argument("5")
+        .run((arguments, scanner, out) -> out.print(arguments[0] + scanner.nextLine()))
+        .expected("53")
+        .assertSuccess();
+  }
+
+  @Test
+  void testResource() {
+    final var input = RunnerInput.load("RunnerTestUTF16.txt", Runner.class, UTF_16);
+    final var expected = new String[] {"1", "2", "3", "4", "5", "6", "7", "8"};
+
+    assertEquals(UTF_16, input.charset(UTF_8));
+    newRunner()
+        .input(input)
+        .runConsole(RunnerInputTest::runEcho)
+        .expected(expected)
+        .assertSuccess();
+    newRunner()
+        .input(input, UTF_8)
+        .runConsole(UTF_8, RunnerInputTest::runEcho)
+        .expected(expected)
+        .assertSuccess();
+    assertArrayEquals("1\n2\n3\n4\n5\n6\n7\n8".getBytes(UTF_8), input.encoded(UTF_8));
+  }
+
+  @Test
+  void testFile() throws IOException {
+    final var path = Files.createTempFile("bolt-", ".in");
+    try {
+      Files.write(path, "Hello\nWorld".getBytes(UTF_8));
+      assertEquals(UTF_8, RunnerInput.load(path).charset(UTF_16));
+
+      Files.write(path, "Hello\nWorld".getBytes(UTF_16LE));
+      final var input = RunnerInput.load(path, UTF_16LE);
+      Files.delete(path);
+
+      newRunner()
+          .input(input)
+          .run((scanner, out) -> out.print(scanner.nextLine() + " " + scanner.nextLine()))
+          .expected("Hello World")
+          .assertSuccess();
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testError() {
+    assertError("bolt.runner.variable.argument.input.null", RunnerInput.of((String[]) null));
+    assertError("bolt.runner.variable.argument.input.has.null", RunnerInput.of("1", null));
+    assertError("bolt.runner.load.input.charset.null", RunnerInput.load("", Runner.class, null));
+    assertError("bolt.runner.load.input.resource.name.null", RunnerInput.load(null, Runner.class));
+    assertError("bolt.runner.load.input.resource.class.null", RunnerInput.load("", null));
+    assertError("bolt.runner.load.input.resource.not.found", RunnerInput.load("?", Runner.class));
+    assertError("bolt.runner.load.input.charset.null", RunnerInput.load(Path.of(""), null));
+    assertError("bolt.runner.load.input.file.null", RunnerInput.load(null));
+    assertError("bolt.runner.load.input.read", RunnerInput.load(Path.of("/?/bolt.in")));
+    assertError("bolt.runner.input.fixture.null", null);
+
+    final var result =
+        newRunner()
+            .input(RunnerInput.of("1"), null)
+            .run((scanner, out) -> {})
+            .expected("")
+            .result();
+    assertEquals("bolt.runner.input.charset.null", result.error().orElseThrow().getMessage());
+  }
+
+  private void assertError(String message, RunnerInput input) {
+    final var first =
+        newRunner().input(input).run((scanner, out) -> {}).expected("").result().error();
+    assertTrue(first.isPresent());
+    assertEquals(message, first.get().getMessage());
+
+    final var second =
+        newRunner().run((scanner, out) -> {}).input(input).expected("").result().error();
+    assertTrue(second.isPresent());
+    assertEquals(message, second.get().getMessage());
+  }
+}
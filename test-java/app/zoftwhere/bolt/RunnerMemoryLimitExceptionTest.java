@@ -0,0 +1,26 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltTestHelper.arrayOfClass;
+import static app.zoftwhere.bolt.BoltTestHelper.assertPublicConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class RunnerMemoryLimitExceptionTest {
+
+  @Test
+  void testException() {
+    final var cause = new OutOfMemoryError();
+    final var exception = new RunnerMemoryLimitException(64, cause);
+    assertEquals("bolt.runner.memory.limit.exceeded", exception.getMessage());
+    assertEquals(64, exception.limit());
+    assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  void testPublicConstructors() {
+    assertPublicConstructor(
+        RunnerMemoryLimitException.class, arrayOfClass(long.class, Throwable.class));
+  }
+}
@@ -0,0 +1,24 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltTestHelper.arrayOfClass;
+import static app.zoftwhere.bolt.BoltTestHelper.assertPublicConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class RunnerOutputLimitExceptionTest {
+
+  @Test
+  void testException() {
+    final var exception = new RunnerOutputLimitException(64);
+    assertEquals("bolt.runner.output.limit.exceeded", exception.getMessage());
+    assertEquals(64, exception.limit());
+    assertNull(exception.getCause());
+  }
+
+  @Test
+  void testPublicConstructors() {
+    assertPublicConstructor(RunnerOutputLimitException.class, arrayOfClass(long.class));
+  }
+}
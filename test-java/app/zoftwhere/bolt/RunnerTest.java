@@ -7,8 +7,10 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.nio.charset.StandardCharsets.UTF_16;
 import static java.nio.charset.StandardCharsets.UTF_16LE;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import app.zoftwhere.bolt.api.RunnerInterface.RunnerResultConsumer;
@@ -20,7 +22,13 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class RunnerTest {
@@ -249,4 +257,153 @@ class RunnerTest {
         .expected("1", "2", "3", "4", "5", "")
         .onOffence(consumer);
   }
+
+  @Test
+  void testStreamExpectation() {
+    final var result =
+        newRunner()
+            .streamExpectation(1)
+            .encoding(UTF_16)
+            .input("1", "2", "3", "4", "5")
+            .runConsole(RunnerTest::runEcho)
+            .loadExpectation("RunnerTestUTF16.txt", Runner.class)
+            .result();
+
+    assertEquals("bolt.runner.asserter.output.length.mismatch", result.message().orElse(null));
+    assertEquals(4, result.expectedOffset());
+    assertArrayEquals(new String[] {"5", "6", "7"}, result.expected());
+  }
+
+  @Test
+  void testSpillThreshold() {
+    newRunner()
+        .spillThreshold(64)
+        .input("3")
+        .run(
+            (scanner, out) -> {
+              final var count = scanner.nextInt();
+              for (var i = 0; i < count; i++) {
+                out.println("0123456789".repeat(10));
+              }
+            })
+        .expected("0123456789".repeat(10), "0123456789".repeat(10), "0123456789".repeat(10), "")
+        .onOffence(consumer);
+  }
+
+  @Test
+  void testPreEncodeInput() {
+    final var input = new String[] {"1", "2", "3"};
+    final var programInput = newRunner().preEncodeInput(true).encoding(UTF_16).input(input);
+    input[2] = "4";
+
+    for (var i = 0; i < 2; i++) {
+      programInput.runConsole(RunnerTest::runEcho).expected("1", "2", "3").onOffence(consumer);
+    }
+  }
+
+  @Test
+  void testAsync() {
+    final var executor = Executors.newFixedThreadPool(2);
+    try {
+      final var barrier = new CyclicBarrier(2);
+      final var first =
+          newRunner()
+              .input("1")
+              .runAsync(
+                  (scanner, out) -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    out.print(scanner.nextInt() + 1);
+                  },
+                  executor)
+              .thenCompose(output -> output.expectedAsync(executor, "2"));
+      final var second =
+          newRunner()
+              .input("2")
+              .argument("3")
+              .runConsoleAsync(
+                  UTF_16LE,
+                  (arguments, inputStream, outputStream) -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    outputStream.write(arguments[0].getBytes(UTF_16LE));
+                  },
+                  executor)
+              .thenCompose(
+                  output -> output.loadExpectationAsync("RunnerTest.txt", Runner.class, executor));
+
+      CompletableFuture.allOf(first, second).join();
+      first.join().assertSuccess();
+      assertTrue(second.join().result().isFailure());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testAsyncPrograms() {
+    final Executor executor = Runnable::run;
+    final var programInput = newRunner().inProcessMain(true).input("α");
+    programInput
+        .runFastAsync((in, out) -> out.print(in.next()), executor)
+        .join()
+        .expected("α")
+        .assertSuccess();
+    programInput
+        .runSystemAsync(UTF_16LE, arguments -> System.in.transferTo(System.out), executor)
+        .join()
+        .expected("α")
+        .assertSuccess();
+    programInput
+        .runMainAsync(BoltClassLoaderTest.Echo.class.getName(), executor)
+        .join()
+        .expected("α")
+        .assertSuccess();
+
+    final var loader = programInput.argument("β");
+    loader
+        .runFastAsync(UTF_8, (arguments, in, out) -> out.print(arguments[0]), executor)
+        .join()
+        .expected("β")
+        .assertSuccess();
+    loader
+        .runSystemAsync(arguments -> System.out.print(arguments[0]), executor)
+        .join()
+        .expected("β")
+        .assertSuccess();
+    loader
+        .runMainAsync(UTF_8, BoltClassLoaderTest.Arguments.class.getName(), executor)
+        .join()
+        .expected("[β]", "")
+        .assertSuccess();
+
+    final var nullOutput = programInput.runProcessAsync(List.of("true"), null).join();
+    assertEquals("bolt.runner.async.executor.null", nullOutput.error().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testAsyncError() {
+    final var executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    final var programInput = newRunner().input("1");
+
+    final var nullOutput = programInput.runAsync((scanner, out) -> {}, null).join();
+    assertEquals("bolt.runner.async.executor.null", nullOutput.error().orElseThrow().getMessage());
+    final var rejectedOutput = programInput.runConsoleAsync((in, out) -> {}, executor).join();
+    assertEquals("bolt.runner.async.rejected", rejectedOutput.error().orElseThrow().getMessage());
+    assertEquals(
+        "bolt.runner.async.rejected",
+        rejectedOutput
+            .expectedAsync(Runnable::run, "")
+            .join()
+            .result()
+            .error()
+            .orElseThrow()
+            .getMessage());
+
+    final var output = programInput.run((scanner, out) -> out.print(scanner.nextLine()));
+    final var nullResult = output.expectedAsync(null, "1").join().result();
+    assertEquals("bolt.runner.async.executor.null", nullResult.error().orElseThrow().getMessage());
+    assertArrayEquals(new String[] {"1"}, nullResult.output());
+    final var rejected = output.expectedAsync(() -> null, UTF_8, executor).join().result();
+    assertEquals("bolt.runner.async.rejected", rejected.error().orElseThrow().getMessage());
+  }
 }
@@ -0,0 +1,27 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.BoltTestHelper.arrayOfClass;
+import static app.zoftwhere.bolt.BoltTestHelper.assertPublicConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RunnerTimeLimitExceptionTest {
+
+  @Test
+  void testException() {
+    final var cause = new RunnerException("cause");
+    final var exception = new RunnerTimeLimitException(Duration.ofSeconds(2), cause);
+    assertEquals("bolt.runner.time.limit.exceeded", exception.getMessage());
+    assertEquals(Duration.ofSeconds(2), exception.limit());
+    assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  void testPublicConstructors() {
+    assertPublicConstructor(
+        RunnerTimeLimitException.class, arrayOfClass(Duration.class, Throwable.class));
+  }
+}
@@ -0,0 +1,195 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class RunnerTokenizerTest {
+
+  @Test
+  void testTokens() {
+    final var tokenizer = tokenizer("  alpha\tβeta\r\n\n gamma ");
+    assertTrue(tokenizer.hasNext());
+    assertEquals("alpha", tokenizer.next());
+    assertEquals("βeta", tokenizer.next());
+    assertEquals("gamma", tokenizer.next());
+    assertFalse(tokenizer.hasNext());
+    assertThrows(NoSuchElementException.class, tokenizer::next);
+  }
+
+  @Test
+  void testLines() {
+    final var tokenizer = tokenizer("12 rest of line\r\nsecond\rthird\n\nlast");
+    assertEquals(12, tokenizer.nextInt());
+    assertEquals(" rest of line", tokenizer.nextLine());
+    assertEquals("second", tokenizer.nextLine());
+    assertEquals("third", tokenizer.nextLine());
+    assertEquals("", tokenizer.nextLine());
+    assertTrue(tokenizer.hasNextLine());
+    assertEquals("last", tokenizer.nextLine());
+    assertFalse(tokenizer.hasNextLine());
+    assertThrows(NoSuchElementException.class, tokenizer::nextLine);
+  }
+
+  @Test
+  void testIntegers() {
+    final var tokenizer =
+        tokenizer("0 -7 +42 2147483647 -2147483648 9223372036854775807 -9223372036854775808");
+    assertEquals(0, tokenizer.nextInt());
+    assertEquals(-7, tokenizer.nextInt());
+    assertEquals(42, tokenizer.nextInt());
+    assertEquals(Integer.MAX_VALUE, tokenizer.nextInt());
+    assertEquals(Integer.MIN_VALUE, tokenizer.nextInt());
+    assertEquals(Long.MAX_VALUE, tokenizer.nextLong());
+    assertEquals(Long.MIN_VALUE, tokenizer.nextLong());
+    assertThrows(NoSuchElementException.class, tokenizer::nextLong);
+  }
+
+  @Test
+  void testIntegerMismatch() {
+    final var tokenizer = tokenizer("2147483648 9223372036854775808 12x - abc 5");
+    assertThrows(InputMismatchException.class, tokenizer::nextInt);
+    assertThrows(InputMismatchException.class, tokenizer::nextLong);
+    assertThrows(InputMismatchException.class, tokenizer::nextLong);
+    assertThrows(InputMismatchException.class, tokenizer::nextLong);
+    assertThrows(InputMismatchException.class, tokenizer::nextLong);
+    assertEquals(5, tokenizer.nextLong());
+  }
+
+  @Test
+  void testDoubles() {
+    final var tokens =
+        new String[] {
+          "0",
+          "-0",
+          "1.5",
+          "-2.25",
+          "3.",
+          "0.1",
+          "123456.789",
+          "1e3",
+          "-2.5E-3",
+          "0.30000000000000004",
+          "12345678901234567890.5",
+          "1.00000000000000000000000001",
+          "NaN",
+          "-Infinity"
+        };
+    final var tokenizer = tokenizer(String.join(" ", tokens));
+    for (var token : tokens) {
+      assertEquals(Double.parseDouble(token), tokenizer.nextDouble(), token);
+    }
+    assertThrows(NoSuchElementException.class, tokenizer::nextDouble);
+
+    final var mismatch = tokenizer(". 1.2.3 x 4");
+    assertThrows(InputMismatchException.class, mismatch::nextDouble);
+    assertThrows(InputMismatchException.class, mismatch::nextDouble);
+    assertThrows(InputMismatchException.class, mismatch::nextDouble);
+    assertEquals(4.0, mismatch.nextDouble());
+  }
+
+  @Test
+  void testBufferBoundary() {
+    final var builder = new StringBuilder();
+    for (var i = 0; i < 100_000; i++) {
+      builder.append(i).append(i % 7 == 0 ? "\r\n" : " ");
+    }
+    builder.append("x".repeat(100_000));
+
+    final var tokenizer = new RunnerTokenizer(new TrickleInputStream(builder.toString()));
+    for (var i = 0; i < 100_000; i++) {
+      assertEquals(i, tokenizer.nextInt());
+    }
+    assertEquals(100_000, tokenizer.next().length());
+  }
+
+  @Test
+  void testRunFast() {
+    final var program =
+        newRunner()
+            .runFast(
+                (in, out) -> {
+                  final var n = in.nextInt();
+                  var sum = 0L;
+                  for (var i = 0; i < n; i++) {
+                    sum += in.nextLong();
+                  }
+                  out.println(sum);
+                  out.print(in.next());
+                });
+    program.input("3", "1 2 3", "γ").expected("6", "γ").assertSuccess();
+
+    newRunner()
+        .input(UTF_16, "2 α")
+        .runFast(UTF_16, (in, out) -> out.print(in.nextInt() + in.next()))
+        .expected("2α")
+        .assertSuccess();
+
+    newRunner()
+        .input(ISO_8859_1, "café 42")
+        .runFast(ISO_8859_1, (in, out) -> out.print(in.next() + in.nextInt()))
+        .expected("café42")
+        .assertSuccess();
+
+    newRunner()
+        .runFast((arguments, in, out) -> out.print(arguments[0] + in.nextLine()))
+        .argument("a")
+        .input("b")
+        .expected("ab")
+        .assertSuccess();
+
+    newRunner()
+        .input("c")
+        .argument("d")
+        .runFast((arguments, in, out) -> out.print(arguments[0] + in.next()))
+        .expected("dc")
+        .assertSuccess();
+  }
+
+  @Test
+  void testRunFastError() {
+    final var result =
+        newRunner().input("x").runFast((in, out) -> out.print(in.nextInt())).expected().result();
+    assertTrue(result.isError());
+    assertEquals(InputMismatchException.class, result.error().orElseThrow().getClass());
+
+    final var nullProgram = newRunner().input().runFast((RunFast) null).expected().result();
+    assertEquals("bolt.runner.program.null", nullProgram.error().orElseThrow().getMessage());
+  }
+
+  private static RunnerTokenizer tokenizer(String text) {
+    return new RunnerTokenizer(new ByteArrayInputStream(text.getBytes(UTF_8)));
+  }
+
+  /** Input stream that returns at most 7 bytes per read, to exercise buffer refills. */
+  private static final class TrickleInputStream extends InputStream {
+
+    private final ByteArrayInputStream data;
+
+    TrickleInputStream(String text) {
+      data = new ByteArrayInputStream(text.getBytes(UTF_8));
+    }
+
+    @Override
+    public int read() {
+      return data.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      return data.read(b, off, Math.min(len, 7));
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package app.zoftwhere.bolt;
+
+import static app.zoftwhere.bolt.Runner.newRunner;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+
+class RunnerWriterTest {
+
+  @Test
+  void testNumbers() {
+    final var values =
+        new long[] {
+          0,
+          1,
+          -1,
+          9,
+          10,
+          -10,
+          99,
+          100,
+          1234567890,
+          Integer.MAX_VALUE,
+          Integer.MIN_VALUE,
+          Long.MAX_VALUE,
+          Long.MIN_VALUE,
+          Long.MIN_VALUE + 1,
+          999_999_999_999_999_999L
+        };
+    final var outputStream = new ByteArrayOutputStream();
+    final var expected = new StringBuilder();
+    try (var writer = new RunnerWriter(outputStream, UTF_8)) {
+      for (var value : values) {
+        writer.print(value);
+        writer.print(' ');
+        expected.append(value).append(' ');
+      }
+      writer.print(-42);
+      writer.print(2.5);
+      writer.print(true);
+      writer.print((Object) null);
+      writer.print((String) null);
+      writer.print(new char[] {'x', 'y'});
+      writer.printf("%03d", 7).append("ab").append("abc", 1, 2).append('!');
+      expected.append("-422.5truenullnullxy007abb!");
+    }
+    assertEquals(expected.toString(), outputStream.toString(UTF_8));
+  }
+
+  @Test
+  void testLargeOutput() {
+    final var outputStream = new ByteArrayOutputStream();
+    final var expected = new StringBuilder();
+    try (var writer = new RunnerWriter(outputStream, UTF_16LE)) {
+      for (var i = 0; i < 50_000; i++) {
+        // The surrogate pair lands across the character buffer boundary at some point.
+        writer.print(i);
+        writer.print("😀");
+        expected.append(i).append("😀");
+      }
+    }
+    assertArrayEquals(expected.toString().getBytes(UTF_16LE), outputStream.toByteArray());
+  }
+
+  @Test
+  void testSurrogateFlush() {
+    final var outputStream = new ByteArrayOutputStream();
+    final var writer = new RunnerWriter(outputStream, UTF_8);
+    writer.write('\uD83D');
+    writer.flush();
+    assertEquals(0, outputStream.size());
+    writer.write('\uDE00');
+    writer.flush();
+    assertEquals("😀", outputStream.toString(UTF_8));
+    writer.write('\uD83D');
+    writer.close();
+    assertEquals("😀?", outputStream.toString(UTF_8));
+  }
+
+  @Test
+  void testUnmappable() {
+    final var outputStream = new ByteArrayOutputStream();
+    try (var writer = new RunnerWriter(outputStream, US_ASCII)) {
+      writer.print("aβc");
+    }
+    assertEquals("a?c", outputStream.toString(US_ASCII));
+  }
+
+  @Test
+  void testCheckError() {
+    final var writer =
+        new RunnerWriter(
+            new OutputStream() {
+              @Override
+              public void write(int b) throws IOException {
+                throw new IOException("closed");
+              }
+            },
+            UTF_8);
+    assertFalse(writer.checkError());
+    writer.print("fail");
+    assertTrue(writer.checkError());
+  }
+
+  @Test
+  void testClosed() {
+    final var outputStream = new ByteArrayOutputStream();
+    final var writer = new RunnerWriter(outputStream, UTF_8);
+    writer.print("open");
+    writer.close();
+    writer.print("closed");
+    assertTrue(writer.checkError());
+    assertEquals("open", outputStream.toString(UTF_8));
+  }
+
+  @Test
+  void testRunnerLimit() {
+    final var result =
+        newRunner()
+            .outputLimit(16)
+            .runFast(
+                (in, out) -> {
+                  while (true) {
+                    out.print(1234567890L);
+                  }
+                })
+            .input()
+            .expected()
+            .result();
+    assertTrue(result.isOutputLimitExceeded());
+    assertArrayEquals(new String[] {"1234567890123456"}, result.output());
+  }
+}
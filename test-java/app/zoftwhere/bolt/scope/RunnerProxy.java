@@ -2,11 +2,17 @@ package app.zoftwhere.bolt.scope;
 
 import app.zoftwhere.bolt.AbstractRunner;
 import app.zoftwhere.bolt.Runner;
+import app.zoftwhere.bolt.RunnerInput;
 import app.zoftwhere.bolt.api.RunnerInterface;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFast;
+import app.zoftwhere.bolt.api.RunnerInterface.RunFastArgued;
+import app.zoftwhere.bolt.api.RunnerInterface.RunSystem;
 import app.zoftwhere.bolt.api.RunnerPreProgram;
 import app.zoftwhere.bolt.api.RunnerProgram;
 import app.zoftwhere.bolt.api.RunnerProgramInput;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Runner Proxy class.
@@ -39,6 +45,96 @@ class RunnerProxy extends AbstractRunner {
     return runner.encoding();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface streamExpectation(int window) {
+    return runner.streamExpectation(window);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface spillThreshold(long bytes) {
+    return runner.spillThreshold(bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface preEncodeInput(boolean enabled) {
+    return runner.preEncodeInput(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface virtualThreads(boolean enabled) {
+    return runner.virtualThreads(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface timeLimit(Duration limit) {
+    return runner.timeLimit(limit);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface memoryLimit(long bytes) {
+    return runner.memoryLimit(bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface outputLimit(long bytes) {
+    return runner.outputLimit(bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface abortOnMismatch(boolean enabled) {
+    return runner.abortOnMismatch(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface pipelineComparison(boolean enabled) {
+    return runner.pipelineComparison(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface captureErrorStream(boolean enabled) {
+    return runner.captureErrorStream(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface processCpuLimit(Duration limit) {
+    return runner.processCpuLimit(limit);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface processMemoryLimit(long bytes) {
+    return runner.processMemoryLimit(bytes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface processFileLimit(long files) {
+    return runner.processFileLimit(files);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface inProcessMain(boolean enabled) {
+    return runner.inProcessMain(enabled);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerInterface charCapture(boolean enabled) {
+    return runner.charCapture(enabled);
+  }
+
   /** {@inheritDoc} */
   @Override
   public RunnerProgramInput input(String... input) {
@@ -63,6 +159,18 @@ class RunnerProxy extends AbstractRunner {
     return runner.input(supplier, decode);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramInput input(RunnerInput input) {
+    return runner.input(input);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgramInput input(RunnerInput input, Charset charset) {
+    return runner.input(input, charset);
+  }
+
   /** {@inheritDoc} */
   @Override
   public RunnerProgramInput loadInput(String resourceName, Class<?> withClass) {
@@ -111,6 +219,66 @@ class RunnerProxy extends AbstractRunner {
     return runner.runConsole(charset, program);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runProcess(List<String> command) {
+    return runner.runProcess(command);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runProcess(Charset charset, List<String> command) {
+    return runner.runProcess(charset, command);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runMain(String className) {
+    return runner.runMain(className);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runMain(Charset charset, String className) {
+    return runner.runMain(charset, className);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runSystem(RunSystem program) {
+    return runner.runSystem(program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runSystem(Charset charset, RunSystem program) {
+    return runner.runSystem(charset, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runFast(RunFast program) {
+    return runner.runFast(program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerProgram runFast(Charset charset, RunFast program) {
+    return runner.runFast(charset, program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runFast(RunFastArgued program) {
+    return runner.runFast(program);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RunnerPreProgram runFast(Charset charset, RunFastArgued program) {
+    return runner.runFast(charset, program);
+  }
+
   /** {@inheritDoc} */
   @Override
   public RunnerPreProgram runConsole(RunConsoleArgued program) {
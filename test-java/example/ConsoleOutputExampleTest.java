@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
  * This class is the test class for {@link example.ConsoleOutputExample}.
  *
  * @author Osmund
- * @version 11.2.0
+ * @version 12.0.0
  * @since 1.0.0
  */
 class ConsoleOutputExampleTest {
@@ -48,6 +48,16 @@ class ConsoleOutputExampleTest {
         .assertSuccess();
   }
 
+  @Test
+  void testRoutedCase() {
+    runner
+        .runSystem(ConsoleOutputExample::main)
+        .argument()
+        .input("World")
+        .expected("Hello World!", "")
+        .assertSuccess();
+  }
+
   private interface ThrowingConsumer<T> {
 
     void accept(T value) throws Exception;